@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.common.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.NonNull;
+
+/**
+ * An input stream which generates a zip archive of the given files on the fly while being read. Only the data of the
+ * zip entry which is currently written is buffered, which makes the memory usage of the stream independent of the size
+ * of the zipped files. No temporary file is created during the process.
+ *
+ * @since 4.0
+ */
+final class StreamingZipInputStream extends InputStream {
+
+  private static final int FILE_BUFFER_SIZE = 8192;
+
+  private final Path root;
+  private final Iterator<Path> files;
+  private final Predicate<Path> uncompressedFileFilter;
+
+  private final PendingBytes pendingBytes = new PendingBytes();
+  private final ZipOutputStream zipOutputStream = new ZipOutputStream(this.pendingBytes, StandardCharsets.UTF_8);
+  private final byte[] fileBuffer = new byte[FILE_BUFFER_SIZE];
+
+  private InputStream currentFile;
+  private boolean finished;
+  private boolean closed;
+
+  /**
+   * Constructs a new streaming zip input stream which zips the given files in the given order.
+   *
+   * @param root                   the root directory of the files, used to resolve the zip entry names.
+   * @param files                  the files to put into the zip archive.
+   * @param uncompressedFileFilter a filter matching the files which should be stored without compression.
+   * @throws NullPointerException if the given root, files or filter is null.
+   */
+  public StreamingZipInputStream(
+    @NonNull Path root,
+    @NonNull List<Path> files,
+    @NonNull Predicate<Path> uncompressedFileFilter
+  ) {
+    this.root = root;
+    this.files = files.iterator();
+    this.uncompressedFileFilter = uncompressedFileFilter;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read() throws IOException {
+    var buffer = new byte[1];
+    return this.read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xFF;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read(byte @NonNull [] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (this.closed) {
+      throw new IOException("Stream closed");
+    }
+
+    if (len == 0) {
+      return 0;
+    }
+
+    // generate the next part of the zip until there is data to read or the zip is complete
+    while (this.pendingBytes.isEmpty() && !this.finished) {
+      this.writeNextPart();
+    }
+
+    return this.pendingBytes.isEmpty() ? -1 : this.pendingBytes.drain(b, off, len);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() throws IOException {
+    if (!this.closed) {
+      this.closed = true;
+      try {
+        if (this.currentFile != null) {
+          this.currentFile.close();
+        }
+      } finally {
+        // releases the deflater, any data written while closing is discarded
+        this.zipOutputStream.close();
+      }
+    }
+  }
+
+  /**
+   * Writes the next part of the zip archive into the pending bytes. A part is either a chunk of the current file, the
+   * header of the next zip entry or the central directory of the zip archive after all entries were written.
+   *
+   * @throws IOException if an I/O error occurs while reading a file or writing the zip archive.
+   */
+  private void writeNextPart() throws IOException {
+    if (this.currentFile != null) {
+      var bytesRead = this.currentFile.read(this.fileBuffer);
+      if (bytesRead == -1) {
+        // the current file was written completely
+        this.currentFile.close();
+        this.currentFile = null;
+        this.zipOutputStream.closeEntry();
+      } else {
+        this.zipOutputStream.write(this.fileBuffer, 0, bytesRead);
+      }
+    } else if (this.files.hasNext()) {
+      var file = this.files.next();
+      var entry = new ZipEntry(this.root.relativize(file).toString().replace("\\", "/"));
+      if (this.uncompressedFileFilter.test(file)) {
+        // already compressed files are not worth compressing again, store them as they are. stored entries need the
+        // size and crc before their data is written, which requires an additional read of the file
+        var crc = new CRC32();
+        var size = 0L;
+        try (var stream = Files.newInputStream(file)) {
+          int bytesRead;
+          while ((bytesRead = stream.read(this.fileBuffer)) != -1) {
+            crc.update(this.fileBuffer, 0, bytesRead);
+            size += bytesRead;
+          }
+        }
+
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc.getValue());
+      }
+
+      this.zipOutputStream.putNextEntry(entry);
+      this.currentFile = Files.newInputStream(file);
+    } else {
+      // all entries were written, write the central directory
+      this.zipOutputStream.finish();
+      this.finished = true;
+    }
+  }
+
+  /**
+   * A byte array output stream which allows the written bytes to be drained into a buffer without copying them into a
+   * new array first. The backing array is reused once all bytes were drained.
+   *
+   * @since 4.0
+   */
+  private static final class PendingBytes extends ByteArrayOutputStream {
+
+    private int readerIndex;
+
+    /**
+     * Get if all written bytes were drained.
+     *
+     * @return true if all written bytes were drained, false otherwise.
+     */
+    public boolean isEmpty() {
+      return this.readerIndex >= this.count;
+    }
+
+    /**
+     * Drains the written bytes into the given buffer, at most the given length is drained.
+     *
+     * @param b   the buffer to drain the bytes into.
+     * @param off the offset in the buffer to start writing at.
+     * @param len the maximum amount of bytes to drain.
+     * @return the amount of bytes drained into the buffer.
+     */
+    public int drain(byte @NonNull [] b, int off, int len) {
+      var drained = Math.min(len, this.count - this.readerIndex);
+      System.arraycopy(this.buf, this.readerIndex, b, off, drained);
+      this.readerIndex += drained;
+
+      // reuse the backing array if all bytes were drained
+      if (this.readerIndex >= this.count) {
+        this.readerIndex = 0;
+        this.reset();
+      }
+
+      return drained;
+    }
+  }
+}
@@ -22,11 +22,12 @@
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
-import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -47,6 +48,8 @@
 public final class ZipUtil {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ZipUtil.class);
+  private static final Set<String> COMPRESSED_FILE_EXTENSIONS = Set.of(
+    "jar", "zip", "gz", "xz", "7z", "png", "jpg", "jpeg", "gif", "webp", "ogg", "mp3", "mca");
   private static final boolean IS_WINDOWS = StringUtil.toLower(System.getProperty("os.name")).contains("windows");
 
   private ZipUtil() {
@@ -60,7 +63,7 @@ private ZipUtil() {
    * @param directory the directory to zip.
    * @return the new input stream for the zip.
    * @throws NullPointerException  if the given directory is null.
-   * @throws IllegalStateException if the opening of the zip file failed.
+   * @throws IllegalStateException if the listing of the files in the directory failed.
    */
   public static @NonNull InputStream zipToStream(@NonNull Path directory) {
     return zipToStream(directory, null);
@@ -68,25 +71,53 @@ private ZipUtil() {
 
   /**
    * Zips the given directory into a zip input stream while filtering with the given filter and returning the new input
-   * stream.
+   * stream. Already compressed files (for example jars) are stored without compressing them again. This method is
+   * equivalent to {@code ZipUtil.zipToStream(directory, fileFilter, true)}.
    *
    * @param directory  the directory to zip.
    * @param fileFilter the filter to filter against.
    * @return the new input stream for the zip.
    * @throws NullPointerException  if the given directory is null.
-   * @throws IllegalStateException if the opening of the zip file failed.
+   * @throws IllegalStateException if the listing of the files in the directory failed.
    */
   public static @NonNull InputStream zipToStream(@NonNull Path directory, @Nullable Predicate<Path> fileFilter) {
-    var target = FileUtil.createTempFile();
-    zipToFile(
-      directory,
-      target,
-      path -> !target.equals(path) && (fileFilter == null || fileFilter.test(path)));
+    return zipToStream(directory, fileFilter, true);
+  }
 
+  /**
+   * Zips the given directory into a zip input stream while filtering with the given filter and returning the new input
+   * stream. The zip is generated while the returned stream is read, without writing it to a temporary file first. The
+   * files in the given directory must therefore stay available until the returned stream is closed. Stored files are
+   * read twice, once to compute their size and checksum and once to write them, and must not change in between.
+   *
+   * @param directory       the directory to zip.
+   * @param fileFilter      the filter to filter against.
+   * @param storeCompressed whether already compressed files (for example jars) should be stored without compression.
+   * @return the new input stream for the zip.
+   * @throws NullPointerException  if the given directory is null.
+   * @throws IllegalStateException if the listing of the files in the directory failed.
+   */
+  public static @NonNull InputStream zipToStream(
+    @NonNull Path directory,
+    @Nullable Predicate<Path> fileFilter,
+    boolean storeCompressed
+  ) {
     try {
-      return Files.newInputStream(target, StandardOpenOption.DELETE_ON_CLOSE, LinkOption.NOFOLLOW_LINKS);
+      List<Path> files = new ArrayList<>();
+      Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttributes attrs) {
+          if (fileFilter == null || fileFilter.test(file)) {
+            files.add(file);
+          }
+          // continue search
+          return FileVisitResult.CONTINUE;
+        }
+      });
+
+      return new StreamingZipInputStream(directory, files, storeCompressed ? ZipUtil::compressed : _ -> false);
     } catch (IOException exception) {
-      throw new IllegalStateException("Unable to open input stream to zip file " + target, exception);
+      throw new IllegalStateException("Unable to list the files to zip in directory " + directory, exception);
     }
   }
 
@@ -160,6 +191,20 @@ public FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttribute
     );
   }
 
+  /**
+   * Checks if the given file is already compressed based on its file extension.
+   *
+   * @param file the file to check.
+   * @return true if the given file is already compressed, false otherwise.
+   * @throws NullPointerException if the given file is null.
+   */
+  private static boolean compressed(@NonNull Path file) {
+    var fileName = file.getFileName().toString();
+    var extensionIndex = fileName.lastIndexOf('.');
+    return extensionIndex != -1
+      && COMPRESSED_FILE_EXTENSIONS.contains(StringUtil.toLower(fileName.substring(extensionIndex + 1)));
+  }
+
   /**
    * Extracts all entries from the zip file at the given zip path to the given target directory while catching all
    * occurring exceptions and redirecting them into the debug log.
@@ -18,10 +18,16 @@
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -96,4 +102,55 @@ void testExtractZip() throws Exception {
     Assertions.assertTrue(Files.exists(TEST_DIR.resolve("nms/bukkit.yml")));
     Assertions.assertTrue(Files.exists(TEST_DIR.resolve("nms/server.properties")));
   }
+
+  @Test
+  void testZipToStream() throws Exception {
+    var sourceDirectory = TEST_DIR.resolve("source");
+    var content = "Info message :3".repeat(10_000);
+    FileUtil.createDirectory(sourceDirectory.resolve("plugins"));
+    Files.writeString(sourceDirectory.resolve("info.txt"), content);
+    Files.writeString(sourceDirectory.resolve("plugins/plugin.jar"), content);
+    Files.writeString(sourceDirectory.resolve("ignored.txt"), content);
+
+    var entries = new HashMap<String, String>();
+    var stream = ZipUtil.zipToStream(sourceDirectory, path -> !path.endsWith("ignored.txt"));
+    try (var zipInputStream = new ZipInputStream(stream, StandardCharsets.UTF_8)) {
+      ZipEntry entry;
+      while ((entry = zipInputStream.getNextEntry()) != null) {
+        entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+
+    Assertions.assertEquals(Map.of("info.txt", content, "plugins/plugin.jar", content), entries);
+  }
+
+  @Test
+  void testZipToStreamStoresCompressedFiles() throws Exception {
+    var sourceDirectory = TEST_DIR.resolve("compressed");
+    FileUtil.createDirectory(sourceDirectory.resolve("plugins"));
+    Files.writeString(sourceDirectory.resolve("plugins/plugin.jar"), "Info message :3".repeat(10_000));
+
+    // jar files are already compressed, they are stored as they are if requested
+    var storedJar = zipEntry(ZipUtil.zipToStream(sourceDirectory, null, true), "plugins/plugin.jar");
+    Assertions.assertEquals(ZipEntry.STORED, storedJar.getMethod());
+    Assertions.assertEquals(storedJar.getSize(), storedJar.getCompressedSize());
+
+    var deflatedJar = zipEntry(ZipUtil.zipToStream(sourceDirectory, null, false), "plugins/plugin.jar");
+    Assertions.assertEquals(ZipEntry.DEFLATED, deflatedJar.getMethod());
+    Assertions.assertTrue(deflatedJar.getCompressedSize() < deflatedJar.getSize());
+  }
+
+  private static ZipEntry zipEntry(InputStream zipStream, String name) throws Exception {
+    // write the zip to a file to read the entry sizes from the central directory
+    var zipFilePath = TEST_DIR.resolve("entry.zip");
+    try (zipStream) {
+      Files.copy(zipStream, zipFilePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    try (var zipFile = new ZipFile(zipFilePath.toFile())) {
+      var entry = zipFile.getEntry(name);
+      Assertions.assertNotNull(entry);
+      return entry;
+    }
+  }
 }
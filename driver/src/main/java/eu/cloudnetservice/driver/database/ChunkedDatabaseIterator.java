@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.database;
+
+import com.google.common.base.Preconditions;
+import eu.cloudnetservice.driver.document.Document;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+
+/**
+ * An iterator over all entries of a database which lazily reads the entries in chunks of a fixed size. The next chunk
+ * is only requested from the database once all entries of the previous chunk were consumed, which means that at most
+ * one chunk of entries is held in memory at a time.
+ *
+ * @since 4.0
+ */
+final class ChunkedDatabaseIterator implements Iterator<Map.Entry<String, Document>> {
+
+  private final Database database;
+  private final int chunkSize;
+
+  private String previousKey;
+  private boolean exhausted;
+  private Iterator<Map.Entry<String, Document>> currentChunk = Collections.emptyIterator();
+
+  /**
+   * Constructs a new chunked database iterator.
+   *
+   * @param database  the database to iterate over.
+   * @param chunkSize the amount of entries to read from the database at once.
+   * @throws NullPointerException     if the given database is null.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  ChunkedDatabaseIterator(@NonNull Database database, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunk size must be positive");
+    this.database = database;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasNext() {
+    if (this.currentChunk.hasNext()) {
+      return true;
+    }
+
+    if (this.exhausted) {
+      return false;
+    }
+
+    // read the next chunk, resuming after the last key of the previous chunk
+    var chunk = this.database.readChunk(this.previousKey, this.chunkSize);
+    if (chunk.size() < this.chunkSize) {
+      // the chunk was not filled completely, there are no more entries to read after this one
+      this.exhausted = true;
+    }
+
+    if (chunk.isEmpty()) {
+      return false;
+    }
+
+    this.previousKey = chunk.lastEntry().getKey();
+    this.currentChunk = chunk.entrySet().iterator();
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Map.Entry<String, Document> next() {
+    if (!this.hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    return this.currentChunk.next();
+  }
+}
@@ -19,9 +19,16 @@
 import eu.cloudnetservice.common.Named;
 import eu.cloudnetservice.common.concurrent.TaskUtil;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.rpc.annotation.RPCIgnore;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -83,6 +90,29 @@ public interface Database extends Named, AutoCloseable {
    */
   boolean delete(@NonNull String key);
 
+  /**
+   * Associates all given keys with their document in the database. This method behaves like calling
+   * {@link #insert(String, Document)} for each given entry, but all entries are written at once in a single batch
+   * operation (for example a single transaction) if the underlying database supports it, which is much faster than
+   * inserting each entry separately.
+   *
+   * @param entries the key-value pairs to write into the database.
+   * @return true if all documents were associated with their key successfully, false otherwise.
+   * @throws NullPointerException if the given entries map is null.
+   */
+  boolean insertAll(@NonNull Map<String, Document> entries);
+
+  /**
+   * Removes all given keys and their associated documents from the database. This method behaves like calling
+   * {@link #delete(String)} for each given key, but all keys are removed at once in a single batch operation (for
+   * example a single transaction) if the underlying database supports it.
+   *
+   * @param keys the keys to remove.
+   * @return the amount of keys that were removed from the database.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  long deleteAll(@NonNull Collection<String> keys);
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
@@ -146,6 +176,57 @@ public interface Database extends Named, AutoCloseable {
   @NonNull
   Map<String, Document> entries();
 
+  /**
+   * Reads the next chunk of key-value pairs from the database. The entries are ordered by their key in the order used by
+   * the underlying database and the returned chunk only contains entries whose key comes after the given previous key.
+   * To iterate over the whole database the last key of the previously returned chunk should be passed to this method
+   * until an empty chunk is returned.
+   * <p>
+   * Unlike an offset based pagination, this method resumes directly at the given key, meaning that reading a chunk is
+   * not getting slower the further the iteration progressed.
+   *
+   * @param previousKey the last key of the previous chunk, null to start at the first entry of the database.
+   * @param chunkSize   the maximum amount of entries to read.
+   * @return the key-value pairs of the chunk in key order, empty if there are no more entries.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  @NonNull
+  SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize);
+
+  /**
+   * Get an iterator over all key-value pairs stored in the database. The entries are lazily read in chunks of the given
+   * size using {@link #readChunk(String, int)}, the next chunk is only requested once all entries of the previous chunk
+   * were consumed. This means that at most one chunk of entries is held in memory at a time, even when the database is
+   * accessed remotely, making this method the preferred way to walk over huge databases.
+   * <p>
+   * The iterator is weakly consistent: changes made to the database during the iteration might or might not be
+   * reflected by the iterator. The returned iterator does not support removal of entries.
+   *
+   * @param chunkSize the amount of entries to read from the database at once.
+   * @return an iterator over all key-value pairs stored in the database, in key order.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  @RPCIgnore
+  default @NonNull Iterator<Map.Entry<String, Document>> iterator(int chunkSize) {
+    return new ChunkedDatabaseIterator(this, chunkSize);
+  }
+
+  /**
+   * Get a sequential stream of all key-value pairs stored in the database. The entries are lazily read in chunks of the
+   * given size, see {@link #iterator(int)} for details.
+   *
+   * @param chunkSize the amount of entries to read from the database at once.
+   * @return a stream of all key-value pairs stored in the database, in key order.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  @RPCIgnore
+  default @NonNull Stream<Map.Entry<String, Document>> stream(int chunkSize) {
+    var spliterator = Spliterators.spliteratorUnknownSize(
+      this.iterator(chunkSize),
+      Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false);
+  }
+
   /**
    * Removes all key-value pairs which are currently stored in the database. This operation will not remove the
    * database.
@@ -214,6 +295,38 @@ public interface Database extends Named, AutoCloseable {
     return TaskUtil.supplyAsync(() -> this.delete(key));
   }
 
+  /**
+   * Associates all given keys with their document in the database. This method behaves like calling
+   * {@link #insert(String, Document)} for each given entry, but all entries are written at once in a single batch
+   * operation (for example a single transaction) if the underlying database supports it.
+   * <p>
+   * The returned future, if completed successfully, completes with true to indicate that all values were written into
+   * the database successfully. Will be completed with false if the data wasn't written without specifying a reason.
+   *
+   * @param entries the key-value pairs to write into the database.
+   * @return a future completed with the write operation status.
+   * @throws NullPointerException if the given entries map is null.
+   */
+  default @NonNull CompletableFuture<Boolean> insertAllAsync(@NonNull Map<String, Document> entries) {
+    return TaskUtil.supplyAsync(() -> this.insertAll(entries));
+  }
+
+  /**
+   * Removes all given keys and their associated documents from the database. This method behaves like calling
+   * {@link #delete(String)} for each given key, but all keys are removed at once in a single batch operation (for
+   * example a single transaction) if the underlying database supports it.
+   * <p>
+   * The returned future, if completed successfully, completes with the amount of keys that were removed from the
+   * database.
+   *
+   * @param keys the keys to remove.
+   * @return a future completed with the amount of removed keys.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  default @NonNull CompletableFuture<Long> deleteAllAsync(@NonNull Collection<String> keys) {
+    return TaskUtil.supplyAsync(() -> this.deleteAll(keys));
+  }
+
   /**
    * Gets the associated document with the given key from the database. If the returned document is null than there is
    * no document associated with the given key.
@@ -307,6 +420,27 @@ public interface Database extends Named, AutoCloseable {
     return TaskUtil.supplyAsync(this::entries);
   }
 
+  /**
+   * Reads the next chunk of key-value pairs from the database. The entries are ordered by their key in the order used by
+   * the underlying database and the returned chunk only contains entries whose key comes after the given previous key.
+   * To iterate over the whole database the last key of the previously returned chunk should be passed to this method
+   * until an empty chunk is returned.
+   * <p>
+   * The returned future, if completed successfully, completes with the key-value pairs of the chunk in key order or an
+   * empty map if either the lookup failed or there are no more entries after the given key.
+   *
+   * @param previousKey the last key of the previous chunk, null to start at the first entry of the database.
+   * @param chunkSize   the maximum amount of entries to read.
+   * @return a future completed with the key-value pairs of the chunk.
+   * @throws IllegalArgumentException if the given chunk size is not positive.
+   */
+  default @NonNull CompletableFuture<SequencedMap<String, Document>> readChunkAsync(
+    @Nullable String previousKey,
+    int chunkSize
+  ) {
+    return TaskUtil.supplyAsync(() -> this.readChunk(previousKey, chunkSize));
+  }
+
   /**
    * Removes all key-value pairs which are currently stored in the database. This operation will not remove the
    * database.
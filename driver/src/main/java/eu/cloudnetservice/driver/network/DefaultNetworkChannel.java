@@ -21,9 +21,11 @@
 import eu.cloudnetservice.driver.network.protocol.QueryPacketManager;
 import eu.cloudnetservice.driver.network.protocol.defaults.DefaultPacketListenerRegistry;
 import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
 
 /**
  * The default abstract implementation of a network channel.
@@ -38,6 +40,7 @@ public abstract class DefaultNetworkChannel implements NetworkChannel {
 
   private final QueryPacketManager queryPacketManager;
   private final PacketListenerRegistry packetRegistry;
+  private final RPCMethodIdTable rpcMethodIdTable;
 
   private final HostAndPort serverAddress;
   private final HostAndPort clientAddress;
@@ -64,6 +67,7 @@ public DefaultNetworkChannel(
   ) {
     this.queryPacketManager = new DefaultQueryPacketManager(this);
     this.packetRegistry = new DefaultPacketListenerRegistry(packetRegistry);
+    this.rpcMethodIdTable = new RPCMethodIdTable();
     this.serverAddress = serverAddress;
     this.clientAddress = clientAddress;
     this.clientProvidedChannel = clientProvidedChannel;
@@ -102,6 +106,17 @@ public long channelId() {
     return this.queryPacketManager;
   }
 
+  /**
+   * Get the table of the rpc method ids that are negotiated on this channel. Method ids are only written into requests
+   * after the other side of the channel agreed to read them during the authorization.
+   *
+   * @return the rpc method id table of this channel.
+   */
+  @ApiStatus.Internal
+  public @NonNull RPCMethodIdTable rpcMethodIdTable() {
+    return this.rpcMethodIdTable;
+  }
+
   /**
    * {@inheritDoc}
    */
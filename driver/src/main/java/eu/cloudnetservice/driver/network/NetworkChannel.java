@@ -109,6 +109,27 @@ public interface NetworkChannel extends PacketSender {
    */
   boolean active();
 
+  /**
+   * Get if this channel is able and allowed to compress outbound frames. Compression is only used after it was
+   * negotiated with the other side of the channel.
+   *
+   * @return true if this channel supports frame compression, false otherwise.
+   */
+  default boolean compressionSupported() {
+    return false;
+  }
+
+  /**
+   * Enables the compression of frames sent into this channel. All packets which were sent before this method call are
+   * written uncompressed. This method should only be called after the other side of the channel agreed to receive
+   * compressed frames.
+   *
+   * @return true if the compression was enabled, false if this channel does not support compression.
+   */
+  default boolean enableCompression() {
+    return false;
+  }
+
   /**
    * Requests the close of the channel, flushing all outbound i/o requests before. After a channel was closed it cannot
    * be used again.
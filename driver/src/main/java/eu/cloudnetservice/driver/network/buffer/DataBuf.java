@@ -96,6 +96,16 @@ public interface DataBuf extends AutoCloseable {
    */
   int readInt();
 
+  /**
+   * Reads a 32-bit integer which was written as a var int from this buffer at the current reader index. Between one and
+   * five bytes are read from the buffer, depending on the size of the integer.
+   *
+   * @return the next var int in the buffer at the current reader index.
+   * @throws IndexOutOfBoundsException if there are less bytes to read than required for the var int.
+   * @throws IllegalStateException     if this buffer was released.
+   */
+  int readVarInt();
+
   /**
    * Reads a 16-bit short from this buffer at the current reader index. Exactly two bytes are read from the buffer.
    *
@@ -365,6 +375,17 @@ interface Mutable extends DataBuf {
     @NonNull
     DataBuf.Mutable writeInt(int integer);
 
+    /**
+     * Writes the given integer as a var int at the current writer index, increasing the index by one to five depending
+     * on the size of the integer. Small positive integers take less space than when written using
+     * {@link #writeInt(int)}.
+     *
+     * @param integer the integer to write into the buffer.
+     * @return the same buffer used to call the method, for chaining.
+     */
+    @NonNull
+    DataBuf.Mutable writeVarInt(int integer);
+
     /**
      * Writes the given byte at the current writer index, increasing the index by one.
      *
@@ -68,29 +68,32 @@ public DefaultFileChunkPacketSender(
       var chunkIndex = 0;
       var backingArray = new byte[this.chunkSessionInformation.chunkSize()];
 
-      while (true) {
-        var bytesRead = Math.max(0, this.source.read(backingArray));
-        if (bytesRead == backingArray.length) {
-          // if the bytes read is the same size as the backing array, then a full chunk of data has been read from the
-          // backing file. this usually indicates that the chunk is not the last chunk in the transfer
-          this.chunkSessionInformation.transferInformation().acquire();
-          var chunkPacket = ChunkedPacket.createFullChunk(chunkIndex++, backingArray, this.chunkSessionInformation);
-          this.packetSplitter.accept(chunkPacket);
-        } else {
-          // final chunk to send out, this is one is allowed to not contain as much data as the other chunks
-          var chunkPacket = ChunkedPacket.createFinalChunk(
-            chunkIndex,
-            bytesRead,
-            backingArray,
-            this.chunkSessionInformation);
-          this.packetSplitter.accept(chunkPacket);
-
-          // close all allocated resources used for the transfer
-          this.source.close();
-          this.chunkSessionInformation.transferInformation().release();
-
-          return TransferStatus.SUCCESS;
+      try {
+        while (true) {
+          // the source might return less bytes than requested even if the end of the stream is not reached yet (for
+          // example if the data is generated while reading), read until the chunk is full or the stream is exhausted
+          var bytesRead = this.source.readNBytes(backingArray, 0, backingArray.length);
+          if (bytesRead == backingArray.length) {
+            // if the bytes read is the same size as the backing array, then a full chunk of data has been read from
+            // the backing file. this usually indicates that the chunk is not the last chunk in the transfer
+            this.chunkSessionInformation.transferInformation().acquire();
+            var chunkPacket = ChunkedPacket.createFullChunk(chunkIndex++, backingArray, this.chunkSessionInformation);
+            this.packetSplitter.accept(chunkPacket);
+          } else {
+            // final chunk to send out, this is one is allowed to not contain as much data as the other chunks
+            var chunkPacket = ChunkedPacket.createFinalChunk(
+              chunkIndex,
+              bytesRead,
+              backingArray,
+              this.chunkSessionInformation);
+            this.packetSplitter.accept(chunkPacket);
+            return TransferStatus.SUCCESS;
+          }
         }
+      } finally {
+        // close all allocated resources used for the transfer, even if reading from the source failed
+        this.source.close();
+        this.chunkSessionInformation.transferInformation().release();
       }
     });
   }
@@ -35,6 +35,10 @@ public final class NetworkConstants {
   public static final int CHUNKED_PACKET_COM_CHANNEL = 2;
   public static final int INTERNAL_AUTHORIZATION_CHANNEL = 3;
   public static final int INTERNAL_SERVICE_SYNC_ACK_CHANNEL = 4;
+  public static final int INTERNAL_RPC_BATCH_COM_CHANNEL = 5;
+
+  // reserved frame marker, written instead of a packet id at the start of compressed frames
+  public static final int COMPRESSED_FRAME_CHANNEL = Integer.MIN_VALUE;
 
   // channel message channels
   public static final String INTERNAL_MSG_CHANNEL = "cloudnet:internal";
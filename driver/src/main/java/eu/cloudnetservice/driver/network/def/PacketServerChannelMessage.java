@@ -38,9 +38,32 @@ public final class PacketServerChannelMessage extends BasePacket {
    * @throws NullPointerException if the given channel message is null.
    */
   public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapper) {
-    super(
-      NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
-      message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+    this(message.prioritized(), serializeMessage(message, wrapper));
+  }
+
+  /**
+   * Constructs a new channel message packet instance using the given, already serialized channel message. This allows
+   * sending the same message to multiple channels while serializing it only once, each packet sharing the content must
+   * acquire the content once as the content is released after it was written into the channel.
+   *
+   * @param prioritized if the channel message is prioritized.
+   * @param content     the serialized channel message, obtained from {@link #serializeMessage(ChannelMessage, boolean)}.
+   * @throws NullPointerException if the given content is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, @NonNull DataBuf content) {
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, prioritized, content);
+  }
+
+  /**
+   * Serializes the given channel message into the content format of this packet. Serializing the message releases the
+   * content of the message once.
+   *
+   * @param message the channel message to serialize.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return the serialized channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull DataBuf serializeMessage(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBuf.empty().writeBoolean(wrapper).writeObject(message);
   }
 }
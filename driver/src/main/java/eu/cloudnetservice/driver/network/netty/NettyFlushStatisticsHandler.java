@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import io.netty5.channel.ChannelHandlerAdapter;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A handler which counts the frames and flushes that are passed to the underlying transport of all channels. Placed
+ * behind the flush consolidation handler this gives insight about how many frames are written with a single flush.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyFlushStatisticsHandler extends ChannelHandlerAdapter {
+
+  public static final NettyFlushStatisticsHandler INSTANCE = new NettyFlushStatisticsHandler();
+
+  private static final LongAdder WRITTEN_FRAMES = new LongAdder();
+  private static final LongAdder EXECUTED_FLUSHES = new LongAdder();
+
+  /**
+   * Get the number of frames that were written by all channels.
+   *
+   * @return the number of frames that were written by all channels.
+   */
+  public static long writtenFrames() {
+    return WRITTEN_FRAMES.sum();
+  }
+
+  /**
+   * Get the number of flushes that were passed to the transport of all channels.
+   *
+   * @return the number of flushes that were passed to the transport of all channels.
+   */
+  public static long executedFlushes() {
+    return EXECUTED_FLUSHES.sum();
+  }
+
+  /**
+   * Get the average number of frames that were written with a single flush.
+   *
+   * @return the average number of frames written with a single flush.
+   */
+  public static double framesPerFlush() {
+    var flushes = EXECUTED_FLUSHES.sum();
+    return flushes == 0 ? 0D : (double) WRITTEN_FRAMES.sum() / flushes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    WRITTEN_FRAMES.increment();
+    return ctx.write(msg);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void flush(@NonNull ChannelHandlerContext ctx) {
+    EXECUTED_FLUSHES.increment();
+    ctx.flush();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isSharable() {
+    return true;
+  }
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.NetworkChannelHandler;
+import eu.cloudnetservice.driver.network.netty.codec.NettyFrameCompressionCodec;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import io.netty5.channel.Channel;
@@ -126,6 +127,30 @@ public boolean active() {
     return this.channel.isActive();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean compressionSupported() {
+    return NettyFrameCompressionCodec.COMPRESSION_AVAILABLE
+      && this.channel.pipeline().get(NettyFrameCompressionCodec.class) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean enableCompression() {
+    var codec = this.channel.pipeline().get(NettyFrameCompressionCodec.class);
+    if (!NettyFrameCompressionCodec.COMPRESSION_AVAILABLE || codec == null) {
+      return false;
+    }
+
+    // enable the compression on the event loop, packets which were sent before are already queued before the task
+    this.channel.executor().execute(codec::enableOutboundCompression);
+    return true;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -17,7 +17,9 @@
 package eu.cloudnetservice.driver.network.netty;
 
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.scheduler.NetworkTaskScheduler;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.channel.SimpleChannelInboundHandler;
 import java.io.IOException;
@@ -38,6 +40,7 @@ public abstract class NettyNetworkHandler extends SimpleChannelInboundHandler<Ba
 
   private static final Logger LOGGER = LoggerFactory.getLogger(NettyNetworkHandler.class);
 
+  protected final Executor orderedPacketDispatcher = NettyUtil.createOrderedPacketDispatcher();
   protected volatile NettyNetworkChannel channel;
 
   /**
@@ -79,8 +82,26 @@ protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull Base
     // post directly if the packet has a high priority
     if (msg.prioritized()) {
       this.doHandlePacket(msg);
-    } else {
+      return;
+    }
+
+    // responses to queries are never ordered nor limited, a handler of this channel might be blocked while waiting for
+    // them. rpc requests are treated the same way: if both sides of the channel block a handler on an rpc to each other
+    // at the same time, each request would wait behind the blocked handler of the other side until the query times out
+    var queryUniqueId = msg.uniqueId();
+    if (msg.channel() == NetworkConstants.INTERNAL_RPC_COM_CHANNEL
+      || msg.channel() == NetworkConstants.INTERNAL_RPC_BATCH_COM_CHANNEL
+      || (queryUniqueId != null && this.channel.queryPacketManager().hasWaitingHandler(queryUniqueId))) {
+      var packetDispatcher = this.packetDispatcher();
+      if (packetDispatcher instanceof NetworkTaskScheduler scheduler) {
+        scheduler.executeUnlimited(() -> this.doHandlePacket(msg));
+      } else {
+        packetDispatcher.execute(() -> this.doHandlePacket(msg));
+      }
+    } else if (this.orderedPacketDispatcher == null) {
       this.packetDispatcher().execute(() -> this.doHandlePacket(msg));
+    } else {
+      this.orderedPacketDispatcher.execute(() -> this.doHandlePacket(msg));
     }
   }
 
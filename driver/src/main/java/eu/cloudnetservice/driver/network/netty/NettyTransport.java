@@ -35,6 +35,7 @@
 import io.netty5.channel.nio.NioHandler;
 import io.netty5.channel.socket.nio.NioServerSocketChannel;
 import io.netty5.channel.socket.nio.NioSocketChannel;
+import java.net.StandardProtocolFamily;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
@@ -51,7 +52,9 @@ public enum NettyTransport {
     true,
     EpollHandler::newFactory,
     EpollSocketChannel::new,
-    EpollServerSocketChannel::new
+    EpollServerSocketChannel::new,
+    eventLoop -> new EpollSocketChannel(eventLoop, StandardProtocolFamily.UNIX),
+    (eventLoop, childGroup) -> new EpollServerSocketChannel(eventLoop, childGroup, StandardProtocolFamily.UNIX)
   ),
   KQUEUE(
     "kqueue",
@@ -59,7 +62,9 @@ public enum NettyTransport {
     true,
     KQueueHandler::newFactory,
     KQueueSocketChannel::new,
-    KQueueServerSocketChannel::new
+    KQueueServerSocketChannel::new,
+    eventLoop -> new KQueueSocketChannel(eventLoop, StandardProtocolFamily.UNIX),
+    (eventLoop, childGroup) -> new KQueueServerSocketChannel(eventLoop, childGroup, StandardProtocolFamily.UNIX)
   ),
   NIO(
     "nio",
@@ -67,7 +72,9 @@ public enum NettyTransport {
     false,
     NioHandler::newFactory,
     NioSocketChannel::new,
-    NioServerSocketChannel::new
+    NioServerSocketChannel::new,
+    eventLoop -> new NioSocketChannel(eventLoop, StandardProtocolFamily.UNIX),
+    (eventLoop, childGroup) -> new NioServerSocketChannel(eventLoop, childGroup, StandardProtocolFamily.UNIX)
   );
 
   private final String name;
@@ -76,16 +83,20 @@ public enum NettyTransport {
   private final Supplier<IoHandlerFactory> ioHandlerFactory;
   private final ChannelFactory<? extends Channel> clientChannelFactory;
   private final ServerChannelFactory<? extends ServerChannel> serverChannelFactory;
+  private final ChannelFactory<? extends Channel> domainSocketChannelFactory;
+  private final ServerChannelFactory<? extends ServerChannel> domainSocketServerChannelFactory;
 
   /**
    * Constructs a new netty transport instance.
    *
-   * @param name                 the display name of the transport.
-   * @param available            if the transport is available.
-   * @param nativeTransport      if the transport is native.
-   * @param ioHandlerFactory     the factory for io handlers.
-   * @param clientChannelFactory the factory for client channels.
-   * @param serverChannelFactory the factory for server channels.
+   * @param name                             the display name of the transport.
+   * @param available                        if the transport is available.
+   * @param nativeTransport                  if the transport is native.
+   * @param ioHandlerFactory                 the factory for io handlers.
+   * @param clientChannelFactory             the factory for client channels.
+   * @param serverChannelFactory             the factory for server channels.
+   * @param domainSocketChannelFactory       the factory for client channels connecting to unix domain sockets.
+   * @param domainSocketServerChannelFactory the factory for server channels bound to unix domain sockets.
    * @throws NullPointerException if one of the given parameters is null.
    */
   NettyTransport(
@@ -94,7 +105,9 @@ public enum NettyTransport {
     boolean nativeTransport,
     @NonNull Supplier<IoHandlerFactory> ioHandlerFactory,
     @NonNull ChannelFactory<? extends Channel> clientChannelFactory,
-    @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory
+    @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory,
+    @NonNull ChannelFactory<? extends Channel> domainSocketChannelFactory,
+    @NonNull ServerChannelFactory<? extends ServerChannel> domainSocketServerChannelFactory
   ) {
     this.name = name;
     this.available = available;
@@ -102,6 +115,8 @@ public enum NettyTransport {
     this.ioHandlerFactory = Suppliers.memoize(ioHandlerFactory::get);
     this.clientChannelFactory = clientChannelFactory;
     this.serverChannelFactory = serverChannelFactory;
+    this.domainSocketChannelFactory = domainSocketChannelFactory;
+    this.domainSocketServerChannelFactory = domainSocketServerChannelFactory;
   }
 
   /**
@@ -174,4 +189,22 @@ public boolean nativeTransport() {
   public @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory() {
     return this.serverChannelFactory;
   }
+
+  /**
+   * Get the factory for client channels of this transport which are connecting to a unix domain socket.
+   *
+   * @return the factory for client channels connecting to a unix domain socket.
+   */
+  public @NonNull ChannelFactory<? extends Channel> domainSocketChannelFactory() {
+    return this.domainSocketChannelFactory;
+  }
+
+  /**
+   * Get the factory for server channels of this transport which are bound to a unix domain socket.
+   *
+   * @return the factory for server channels bound to a unix domain socket.
+   */
+  public @NonNull ServerChannelFactory<? extends ServerChannel> domainSocketServerChannelFactory() {
+    return this.domainSocketServerChannelFactory;
+  }
 }
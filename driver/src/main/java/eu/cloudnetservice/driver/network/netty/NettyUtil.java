@@ -18,9 +18,12 @@
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.netty.buffer.NettyNioBufferReleasingAllocator;
 import eu.cloudnetservice.driver.network.scheduler.NetworkTaskScheduler;
+import eu.cloudnetservice.driver.network.scheduler.OrderedTaskExecutor;
 import eu.cloudnetservice.driver.network.scheduler.ScalingNetworkTaskScheduler;
+import eu.cloudnetservice.driver.network.scheduler.VirtualThreadNetworkTaskScheduler;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferAllocator;
 import io.netty5.buffer.BufferUtil;
@@ -31,9 +34,11 @@
 import io.netty5.channel.ServerChannel;
 import io.netty5.channel.ServerChannelFactory;
 import io.netty5.handler.codec.DecoderException;
+import io.netty5.handler.flush.FlushConsolidationHandler;
 import io.netty5.handler.ssl.OpenSsl;
 import io.netty5.handler.ssl.SslProvider;
 import io.netty5.util.ResourceLeakDetector;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
@@ -49,6 +54,11 @@ public final class NettyUtil {
 
   private static final int PACKET_DISPATCH_THREADS;
   private static final int NETTY_EVENT_LOOP_THREADS;
+  private static final int PACKET_DISPATCH_CONCURRENCY;
+  private static final boolean VIRTUAL_PACKET_DISPATCHER;
+  private static final int FLUSH_CONSOLIDATION_LIMIT;
+  private static final boolean FLUSH_CONSOLIDATION_ENABLED;
+  private static final Executor ORDERED_PACKET_DISPATCH_EXECUTOR;
 
   private static final SslProvider SELECTED_SSL_PROVIDER;
   private static final NettyTransport SELECTED_NETTY_TRANSPORT;
@@ -93,6 +103,28 @@ public final class NettyUtil {
     // actual values when the whole context for the allocation is known.
     PACKET_DISPATCH_THREADS = Integer.getInteger("cloudnet.net.packet-dispatch-threads", -1);
     NETTY_EVENT_LOOP_THREADS = Integer.getInteger("cloudnet.net.netty-event-loop-threads", -1);
+    PACKET_DISPATCH_CONCURRENCY = Integer.getInteger("cloudnet.net.packet-dispatch-concurrency", -1);
+
+    // select the packet dispatcher to use, defaults to the scaling platform thread based scheduler
+    var packetDispatcher = System.getProperty("cloudnet.net.packet-dispatcher", "scaling");
+    VIRTUAL_PACKET_DISPATCHER = packetDispatcher.equals("virtual");
+
+    // flushes are consolidated by default, bursty writes are flushed with one syscall instead of one per packet.
+    // the limit is the maximum number of flushes that are delayed before a flush is forced
+    FLUSH_CONSOLIDATION_ENABLED = !Boolean.getBoolean("cloudnet.net.no-flush-consolidation");
+    FLUSH_CONSOLIDATION_LIMIT = overriddenCountOrDefault(
+      Integer.getInteger("cloudnet.net.flush-consolidation-limit", -1),
+      FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES);
+
+    // packets are dispatched into a shared scheduler by default. in ordered mode the packets of each channel are
+    // handled one after another in receive order, using virtual threads to run the channels in parallel
+    var packetDispatchMode = System.getProperty("cloudnet.net.packet-dispatch-mode", "shared");
+    if (packetDispatchMode.equals("ordered")) {
+      var threadFactory = Thread.ofVirtual().name("Ordered-Packet-Dispatcher-", 0).factory();
+      ORDERED_PACKET_DISPATCH_EXECUTOR = Executors.newThreadPerTaskExecutor(threadFactory);
+    } else {
+      ORDERED_PACKET_DISPATCH_EXECUTOR = null;
+    }
   }
 
   private NettyUtil() {
@@ -112,13 +144,24 @@ private static int overriddenCountOrDefault(int overriddenSetting, int defaultVa
 
   /**
    * Creates a new executor for all incoming packets. The thread size of the returned dispatcher depends either on a
-   * user-provided setting or on the given driver environment.
+   * user-provided setting or on the given driver environment. If the virtual packet dispatcher is selected, each packet
+   * is handled in a new virtual thread instead and the setting limits the number of concurrently handled packets, not
+   * counting query responses and rpc requests.
    *
    * @param driverEnvironment the driver environment currently running on.
    * @return a newly created executor for dispatching inbound packets.
    * @throws NullPointerException if the given driver environment is null.
    */
   public static @NonNull NetworkTaskScheduler createPacketDispatcher(@NonNull DriverEnvironment driverEnvironment) {
+    if (VIRTUAL_PACKET_DISPATCHER) {
+      // virtual threads are cheap, the concurrency is only limited to prevent unbounded resource usage
+      var defaultEnvConcurrency = driverEnvironment.equals(DriverEnvironment.NODE) ? 256 : 64;
+      var concurrencyLimit = overriddenCountOrDefault(PACKET_DISPATCH_CONCURRENCY, defaultEnvConcurrency);
+
+      var threadFactory = Thread.ofVirtual().name("Packet-Dispatcher-", 0).factory();
+      return new VirtualThreadNetworkTaskScheduler(threadFactory, concurrencyLimit);
+    }
+
     // the maximum thread count that the pool will be allowed to use for packet processing
     // TODO: consider moving the default thread amount for an environment into the environment as a property
     var defaultEnvThreadCount = driverEnvironment.equals(DriverEnvironment.NODE) ? 12 : 4;
@@ -131,6 +174,18 @@ private static int overriddenCountOrDefault(int overriddenSetting, int defaultVa
     return new ScalingNetworkTaskScheduler(threadFactory, maximumPoolSize);
   }
 
+  /**
+   * Creates a new executor for the inbound packets of a single channel, if ordered packet dispatching is enabled. The
+   * returned executor handles all packets one after another in the order they were received, while the packets of
+   * different channels are handled in parallel. Query responses and rpc requests are not passed to the returned
+   * executor, a handler blocked on a query to the same peer could otherwise never receive its answer.
+   *
+   * @return a new executor for the inbound packets of a channel, null if ordered packet dispatching is disabled.
+   */
+  public static @Nullable Executor createOrderedPacketDispatcher() {
+    return ORDERED_PACKET_DISPATCH_EXECUTOR == null ? null : new OrderedTaskExecutor(ORDERED_PACKET_DISPATCH_EXECUTOR);
+  }
+
   /**
    * Creates a new boss event loop group based on the selected netty transport. Boss event loops are used to accept new
    * connections, which only requires a single thread.
@@ -159,6 +214,26 @@ private static int overriddenCountOrDefault(int overriddenSetting, int defaultVa
     return SELECTED_NETTY_TRANSPORT.createEventLoopGroup(threadCount);
   }
 
+  /**
+   * Get if flushes of the cloudnet channels should get consolidated.
+   *
+   * @return true if flushes should get consolidated, false otherwise.
+   */
+  public static boolean flushConsolidationEnabled() {
+    return FLUSH_CONSOLIDATION_ENABLED;
+  }
+
+  /**
+   * Creates a new handler which consolidates flushes of a channel. Flushes that are issued while a read is in progress
+   * or outside the event loop are delayed until the read completes or the event loop picks up the pending flush, which
+   * writes all packets sent in the meantime with a single flush.
+   *
+   * @return a new flush consolidation handler.
+   */
+  public static @NonNull FlushConsolidationHandler createFlushConsolidationHandler() {
+    return new FlushConsolidationHandler(FLUSH_CONSOLIDATION_LIMIT, true);
+  }
+
   /**
    * Get the channel factory for client channels of the selected netty transport.
    *
@@ -177,6 +252,36 @@ private static int overriddenCountOrDefault(int overriddenSetting, int defaultVa
     return SELECTED_NETTY_TRANSPORT.serverChannelFactory();
   }
 
+  /**
+   * Get the channel factory for client channels of the selected netty transport that are able to connect to the given
+   * target. A target without a port is the path of a unix domain socket.
+   *
+   * @param target the target to which the created channels should connect.
+   * @return the channel factory for client channels that are able to connect to the given target.
+   * @throws NullPointerException if the given target is null.
+   */
+  public static @NonNull ChannelFactory<? extends Channel> clientChannelFactory(@NonNull HostAndPort target) {
+    return target.validPort()
+      ? SELECTED_NETTY_TRANSPORT.clientChannelFactory()
+      : SELECTED_NETTY_TRANSPORT.domainSocketChannelFactory();
+  }
+
+  /**
+   * Get the channel factory for server channels of the selected netty transport that are able to bind to the given
+   * address. An address without a port is the path of a unix domain socket.
+   *
+   * @param address the address to which the created server channels should bind.
+   * @return the channel factory for server channels that are able to bind to the given address.
+   * @throws NullPointerException if the given address is null.
+   */
+  public static @NonNull ServerChannelFactory<? extends ServerChannel> serverChannelFactory(
+    @NonNull HostAndPort address
+  ) {
+    return address.validPort()
+      ? SELECTED_NETTY_TRANSPORT.serverChannelFactory()
+      : SELECTED_NETTY_TRANSPORT.domainSocketServerChannelFactory();
+  }
+
   /**
    * Writes the given integer value as a var int into the buffer.
    *
@@ -259,6 +364,63 @@ public static int varIntBytes(int value) {
     }
   }
 
+  /**
+   * Writes the given long value as a var long into the buffer.
+   *
+   * @param buffer the buffer to write to.
+   * @param value  the value to write into the buffer.
+   * @return the buffer used to call the method, for chaining.
+   * @throws NullPointerException if the given byte buf is null.
+   */
+  public static @NonNull Buffer writeVarLong(@NonNull Buffer buffer, long value) {
+    while (true) {
+      if ((value & ~0x7FL) == 0) {
+        buffer.writeByte((byte) value);
+        return buffer;
+      } else {
+        buffer.writeByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+    }
+  }
+
+  /**
+   * Reads a var long from the given buffer.
+   *
+   * @param buffer the buffer to read from.
+   * @return the var long read from the buffer.
+   * @throws DecoderException     if the buf current position has no var long.
+   * @throws NullPointerException if the given buffer to read from is null.
+   */
+  public static long readVarLong(@NonNull Buffer buffer) {
+    var value = 0L;
+    var maxRead = Math.min(10, buffer.readableBytes());
+    for (var j = 0; j < maxRead; j++) {
+      var nextByte = buffer.readByte();
+      value |= (long) (nextByte & 0x7F) << j * 7;
+      if ((nextByte & 0x80) != 128) {
+        return value;
+      }
+    }
+
+    // unable to decode a var long at the current position
+    throw new DecoderException(String.format(
+      "Unable to decode VarLong at current buffer position (%d)",
+      buffer.readerOffset()));
+  }
+
+  /**
+   * Gets the number of bytes that writing the given number as a var long will take in the underlying buffer.
+   *
+   * @param value the number to get the amount of bytes for.
+   * @return the number of bytes writing the given number as a var long will take.
+   */
+  public static int varLongBytes(long value) {
+    // each byte holds 7 bits of the value, zero still takes one byte
+    var usedBits = Long.SIZE - Long.numberOfLeadingZeros(value);
+    return Math.max(1, (usedBits + 6) / 7);
+  }
+
   /**
    * Get the selected netty transport which will be used for client/server channel and event loop group construction.
    *
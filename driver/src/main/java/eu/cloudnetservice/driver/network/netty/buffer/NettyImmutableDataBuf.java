@@ -23,6 +23,7 @@
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Function;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
@@ -35,10 +36,14 @@
  */
 public class NettyImmutableDataBuf implements DataBuf {
 
+  // updater for the acquire count, a buffer might be shared between the event loops of multiple channels
+  protected static final AtomicIntegerFieldUpdater<NettyImmutableDataBuf> ACQUIRES_UPDATER =
+    AtomicIntegerFieldUpdater.newUpdater(NettyImmutableDataBuf.class, "acquires");
+
   protected final Buffer buffer;
 
   // the amount of times this buffer was acquired
-  protected int acquires = 1;
+  protected volatile int acquires = 1;
 
   // transaction offset data
   protected int readOffset;
@@ -78,6 +83,14 @@ public int readInt() {
     return this.hotRead(Buffer::readInt);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readVarInt() {
+    return this.hotRead(NettyUtil::readVarInt);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -271,7 +284,7 @@ public int acquires() {
    */
   @Override
   public @NonNull DataBuf acquire() {
-    this.acquires++;
+    ACQUIRES_UPDATER.incrementAndGet(this);
     return this;
   }
 
@@ -280,11 +293,11 @@ public int acquires() {
    */
   @Override
   public void release() {
-    // release one acquire
-    this.acquires--;
+    // release one acquire, only the call releasing the last acquire closes the buffer
+    var remainingAcquires = ACQUIRES_UPDATER.decrementAndGet(this);
 
     // check if the buffer is no longer acquired somewhere
-    if (this.acquires <= 0 && this.buffer.isAccessible()) {
+    if (remainingAcquires <= 0 && this.buffer.isAccessible()) {
       this.buffer.close();
     }
   }
@@ -295,7 +308,7 @@ public void release() {
   @Override
   public void forceRelease() {
     // set acquires to 0 to indicate that the buffer was released
-    this.acquires = 0;
+    ACQUIRES_UPDATER.set(this, 0);
 
     // actually release the buffer if needed
     if (this.buffer.isAccessible()) {
@@ -321,6 +334,25 @@ public void close() {
     return this.buffer;
   }
 
+  /**
+   * Get a read-only view of the readable bytes of this buffer which shares the memory with this buffer. This buffer is
+   * made read-only by this call, which allows multiple threads to obtain a view of the same buffer at the same time.
+   * The returned buffer must be closed by the caller, closing it has no effect on this buffer, for internal use only.
+   *
+   * @return a read-only view of the readable bytes of this buffer.
+   */
+  @ApiStatus.Internal
+  public @NonNull Buffer readOnlyView() {
+    synchronized (this) {
+      if (!this.buffer.readOnly()) {
+        this.buffer.makeReadOnly();
+      }
+    }
+
+    // copying a read-only buffer into a read-only buffer shares the underlying memory
+    return this.buffer.copy(this.buffer.readerOffset(), this.buffer.readableBytes(), true);
+  }
+
   /**
    * Reads from this buffer, releasing it when the end of the input has been reached and releasing is enabled to prevent
    * memory leaks.
@@ -61,6 +61,16 @@ public NettyMutableDataBuf(@NonNull Buffer buffer) {
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf.Mutable writeVarInt(int integer) {
+    this.buffer.ensureWritable(NettyUtil.varIntBytes(integer));
+    NettyUtil.writeVarInt(this.buffer, integer);
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -37,6 +37,7 @@
 import io.netty5.handler.ssl.util.InsecureTrustManagerFactory;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
@@ -163,9 +164,9 @@ public boolean sslEnabled() {
   @Override
   public @NonNull CompletableFuture<Void> connect(@NonNull HostAndPort hostAndPort) {
     CompletableFuture<Void> result = new CompletableFuture<>();
-    new Bootstrap()
+    var bootstrap = new Bootstrap()
       .group(this.eventLoopGroup)
-      .channelFactory(NettyUtil.clientChannelFactory())
+      .channelFactory(NettyUtil.clientChannelFactory(hostAndPort))
       .handler(new NettyNetworkClientInitializer(hostAndPort, this)
         .option(ChannelOption.IP_TOS, 0x18)
         .option(ChannelOption.AUTO_READ, true)
@@ -174,18 +175,21 @@ public boolean sslEnabled() {
         .option(ChannelOption.TCP_FASTOPEN_CONNECT, true)
         .option(ChannelOption.WRITE_BUFFER_WATER_MARK, WATER_MARK)
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECTION_TIMEOUT_MILLIS)
-        .option(ChannelOption.BUFFER_ALLOCATOR, NettyUtil.selectedBufferAllocator()))
+        .option(ChannelOption.BUFFER_ALLOCATOR, NettyUtil.selectedBufferAllocator()));
 
-      .connect(hostAndPort.host(), hostAndPort.port())
-      .addListener(future -> {
-        if (future.isSuccess()) {
-          // ok, we connected successfully
-          result.complete(null);
-        } else {
-          // something went wrong
-          result.completeExceptionally(future.cause());
-        }
-      });
+    // a target without a port is the path to a unix domain socket
+    var connectFuture = hostAndPort.validPort()
+      ? bootstrap.connect(hostAndPort.host(), hostAndPort.port())
+      : bootstrap.connect(UnixDomainSocketAddress.of(hostAndPort.host()));
+    connectFuture.addListener(future -> {
+      if (future.isSuccess()) {
+        // ok, we connected successfully
+        result.complete(null);
+      } else {
+        // something went wrong
+        result.completeExceptionally(future.cause());
+      }
+    });
 
     return result;
   }
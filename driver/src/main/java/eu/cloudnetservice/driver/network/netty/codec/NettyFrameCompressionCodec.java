@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerAdapter;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.handler.codec.DecoderException;
+import io.netty5.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A codec which compresses outbound frames once compression was negotiated for the channel and decompresses every
+ * compressed inbound frame. A compressed frame starts with the reserved {@link NetworkConstants#COMPRESSED_FRAME_CHANNEL}
+ * instead of a packet channel, followed by the length of the uncompressed frame and the deflated frame content. Frames
+ * that are smaller than the compression threshold or that are not getting smaller when compressing them are written
+ * as-is.
+ * <p>
+ * Compression must be enabled by setting the {@code cloudnet.net.compression} system property to true, the minimum
+ * frame size to compress is set by {@code cloudnet.net.compression-threshold} (defaults to 1024 bytes).
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyFrameCompressionCodec extends ChannelHandlerAdapter {
+
+  public static final boolean COMPRESSION_AVAILABLE = Boolean.getBoolean("cloudnet.net.compression");
+
+  private static final int COMPRESSION_THRESHOLD = Integer.getInteger("cloudnet.net.compression-threshold", 1024);
+  private static final int MAX_UNCOMPRESSED_SIZE = Integer.getInteger(
+    "cloudnet.net.compression-max-frame-size",
+    64 * 1024 * 1024);
+
+  private static final LongAdder UNCOMPRESSED_BYTES = new LongAdder();
+  private static final LongAdder COMPRESSED_BYTES = new LongAdder();
+
+  private Deflater deflater;
+  private Inflater inflater;
+  private volatile boolean compressOutbound;
+
+  /**
+   * Get the sum of the uncompressed sizes of all frames that were written by channels with enabled compression.
+   *
+   * @return the uncompressed size of all frames written with enabled compression.
+   */
+  public static long uncompressedBytes() {
+    return UNCOMPRESSED_BYTES.sum();
+  }
+
+  /**
+   * Get the sum of the sizes of all frames that were actually written by channels with enabled compression.
+   *
+   * @return the written size of all frames written with enabled compression.
+   */
+  public static long compressedBytes() {
+    return COMPRESSED_BYTES.sum();
+  }
+
+  /**
+   * Get if outbound frames passing this codec are getting compressed.
+   *
+   * @return true if outbound frames are getting compressed, false otherwise.
+   */
+  public boolean compressOutbound() {
+    return this.compressOutbound;
+  }
+
+  /**
+   * Enables the compression of outbound frames. This method must be called from the event loop of the channel to
+   * ensure that frames which were written before the method call are not getting compressed.
+   */
+  public void enableOutboundCompression() {
+    this.compressOutbound = true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (this.compressOutbound && msg instanceof Buffer frame) {
+      var uncompressedLength = frame.readableBytes();
+      UNCOMPRESSED_BYTES.add(uncompressedLength);
+
+      // only compress frames which are big enough to benefit from it
+      if (uncompressedLength >= COMPRESSION_THRESHOLD) {
+        var compressedFrame = this.compress(ctx, frame);
+        if (compressedFrame != null) {
+          frame.close();
+          COMPRESSED_BYTES.add(compressedFrame.readableBytes());
+          return ctx.write(compressedFrame);
+        }
+      }
+
+      COMPRESSED_BYTES.add(uncompressedLength);
+    }
+
+    return ctx.write(msg);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void channelRead(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (msg instanceof Buffer frame) {
+      // check if the frame is compressed, reset the buffer if not
+      var readerOffset = frame.readerOffset();
+      var channel = NettyUtil.readVarIntOrNull(frame);
+      if (channel == null || channel != NetworkConstants.COMPRESSED_FRAME_CHANNEL) {
+        frame.readerOffset(readerOffset);
+        ctx.fireChannelRead(frame);
+        return;
+      }
+
+      try {
+        ctx.fireChannelRead(this.decompress(ctx, frame));
+      } finally {
+        frame.close();
+      }
+    } else {
+      ctx.fireChannelRead(msg);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handlerRemoved(@NonNull ChannelHandlerContext ctx) {
+    if (this.deflater != null) {
+      this.deflater.end();
+    }
+    if (this.inflater != null) {
+      this.inflater.end();
+    }
+  }
+
+  private Buffer compress(@NonNull ChannelHandlerContext ctx, @NonNull Buffer frame) {
+    var uncompressedLength = frame.readableBytes();
+    var input = new byte[uncompressedLength];
+    frame.copyInto(frame.readerOffset(), input, 0, uncompressedLength);
+
+    // lazy init the deflater, most channels never write a frame that gets compressed
+    if (this.deflater == null) {
+      this.deflater = new Deflater(Deflater.BEST_SPEED);
+    }
+
+    this.deflater.reset();
+    this.deflater.setInput(input);
+    this.deflater.finish();
+
+    // the compressed frame must be smaller than the uncompressed one, no need to use a bigger output buffer
+    var output = new byte[uncompressedLength];
+    var compressedLength = 0;
+    while (!this.deflater.finished() && compressedLength < output.length) {
+      compressedLength += this.deflater.deflate(output, compressedLength, output.length - compressedLength);
+    }
+
+    var headerLength = NettyUtil.varIntBytes(NetworkConstants.COMPRESSED_FRAME_CHANNEL)
+      + NettyUtil.varIntBytes(uncompressedLength);
+    if (!this.deflater.finished() || headerLength + compressedLength >= uncompressedLength) {
+      return null;
+    }
+
+    var compressedFrame = ctx.bufferAllocator().allocate(headerLength + compressedLength);
+    NettyUtil.writeVarInt(compressedFrame, NetworkConstants.COMPRESSED_FRAME_CHANNEL);
+    NettyUtil.writeVarInt(compressedFrame, uncompressedLength);
+    return compressedFrame.writeBytes(output, 0, compressedLength);
+  }
+
+  private @NonNull Buffer decompress(@NonNull ChannelHandlerContext ctx, @NonNull Buffer frame) {
+    var uncompressedLength = NettyUtil.readVarInt(frame);
+    if (uncompressedLength <= 0 || uncompressedLength > MAX_UNCOMPRESSED_SIZE) {
+      throw new DecoderException("Invalid uncompressed frame length " + uncompressedLength);
+    }
+
+    var input = new byte[frame.readableBytes()];
+    frame.readBytes(input, 0, input.length);
+
+    if (this.inflater == null) {
+      this.inflater = new Inflater();
+    }
+
+    try {
+      this.inflater.reset();
+      this.inflater.setInput(input);
+
+      var output = new byte[uncompressedLength];
+      var readBytes = 0;
+      while (!this.inflater.finished() && readBytes < output.length) {
+        var inflated = this.inflater.inflate(output, readBytes, output.length - readBytes);
+        if (inflated == 0 && (this.inflater.needsInput() || this.inflater.needsDictionary())) {
+          break;
+        }
+        readBytes += inflated;
+      }
+
+      // the frame content must decompress to exactly the transmitted length
+      if (!this.inflater.finished() || readBytes != uncompressedLength) {
+        throw new DecoderException("Compressed frame content does not match the transmitted length");
+      }
+
+      return ctx.bufferAllocator().allocate(uncompressedLength).writeBytes(output);
+    } catch (DataFormatException exception) {
+      throw new DecoderException("Unable to decompress frame", exception);
+    }
+  }
+}
@@ -62,12 +62,16 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       // read the required base data from the buffer
       var channel = NettyUtil.readVarInt(in);
       var prioritized = in.readBoolean();
-      var queryUniqueId = in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+      var queryUniqueId = switch (in.readByte()) {
+        case NettyPacketEncoder.NO_QUERY_ID -> null;
+        case NettyPacketEncoder.COMPACT_QUERY_ID -> new UUID(0, NettyUtil.readVarLong(in));
+        default -> new UUID(in.readLong(), in.readLong());
+      };
 
-      // extract the body
+      // extract the body, the header bytes are dropped and the body is split off the inbound buffer without copying it
       var bodyLength = NettyUtil.readVarInt(in);
-      var body = new NettyImmutableDataBuf(in.copy(in.readerOffset(), bodyLength));
-      in.skipReadableBytes(bodyLength);
+      in.split(in.readerOffset()).close();
+      var body = new NettyImmutableDataBuf(in.readSplit(bodyLength));
 
       // construct the packet
       var packet = new BasePacket(channel, prioritized, body);
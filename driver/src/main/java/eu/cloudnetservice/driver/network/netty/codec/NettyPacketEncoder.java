@@ -20,10 +20,14 @@
 import eu.cloudnetservice.driver.network.netty.buffer.NettyImmutableDataBuf;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerAdapter;
 import io.netty5.channel.ChannelHandlerContext;
-import io.netty5.handler.codec.MessageToByteEncoder;
+import io.netty5.util.concurrent.Future;
+import java.util.List;
+import java.util.UUID;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An internal implementation of the packet encoder used for client to server communication.
@@ -34,57 +38,122 @@
  *   <li>An optional query unique id if the packet is a query.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * Query ids assigned by the query manager of a channel are sequence numbers and are written as a var long, only other
+ * query unique ids are written completely.
+ * <p>
+ * The packet header is written into a separate buffer, the packet body is not copied but written as part of a composite
+ * buffer together with the header.
  *
  * @since 4.0
  */
 @ApiStatus.Internal
-public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
+public final class NettyPacketEncoder extends ChannelHandlerAdapter {
 
   public static final NettyPacketEncoder INSTANCE = new NettyPacketEncoder();
 
+  static final byte NO_QUERY_ID = 0;
+  static final byte FULL_QUERY_ID = 1;
+  static final byte COMPACT_QUERY_ID = 2;
+
   /**
-   * {@inheritDoc}
+   * Get the type of the given query unique id. Query ids assigned by the query manager have no most significant bits
+   * set, these are never set in a random unique id as the version bits are stored in them.
+   *
+   * @param queryUniqueId the query unique id to get the type of, null if the packet is not a query.
+   * @return the type of the given query unique id.
    */
-  @Override
-  protected Buffer allocateBuffer(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg) {
-    // we allocate 2 booleans (prioritized and isQuery) + content length + channel in advance
-    var bufferLength = 2
-      + msg.content().readableBytes()
-      + NettyUtil.varIntBytes(msg.channel())
-      + NettyUtil.varIntBytes(msg.content().readableBytes());
-    // if the given packet has a query unique id we need two longs for that unique id as well
-    if (msg.uniqueId() != null) {
-      bufferLength += 16;
+  private static byte queryIdType(@Nullable UUID queryUniqueId) {
+    if (queryUniqueId == null) {
+      return NO_QUERY_ID;
     }
 
-    return ctx.bufferAllocator().allocate(bufferLength);
+    return queryUniqueId.getMostSignificantBits() == 0 ? COMPACT_QUERY_ID : FULL_QUERY_ID;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @NonNull Buffer out) {
-    NettyUtil.writeVarInt(out, msg.channel());
-    out.writeBoolean(msg.prioritized());
-
-    var queryUniqueId = msg.uniqueId();
-    out.writeBoolean(queryUniqueId != null);
-    if (queryUniqueId != null) {
-      out
-        .writeLong(queryUniqueId.getMostSignificantBits())
-        .writeLong(queryUniqueId.getLeastSignificantBits());
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    if (msg instanceof Packet packet) {
+      return ctx.write(this.encode(ctx, packet));
+    } else {
+      return ctx.write(msg);
+    }
+  }
+
+  /**
+   * Encodes the given packet into a composite buffer consisting of the packet header and the packet body. The packet
+   * content is released once by this method.
+   *
+   * @param ctx    the context of the channel the packet gets written to.
+   * @param packet the packet to encode.
+   * @return the encoded packet.
+   * @throws NullPointerException if the given context or packet is null.
+   */
+  private @NonNull Buffer encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet packet) {
+    var content = (NettyImmutableDataBuf) packet.content();
+    try {
+      var body = this.extractBody(content);
+
+      // we allocate a boolean (prioritized), the query id type + content length + channel in advance
+      var bodyLength = body.readableBytes();
+      var headerLength = 2 + NettyUtil.varIntBytes(packet.channel()) + NettyUtil.varIntBytes(bodyLength);
+
+      // compact query ids (assigned by the query manager) only need the sequence number as a var long, all other
+      // query ids need two longs for the full unique id
+      var queryUniqueId = packet.uniqueId();
+      var queryIdType = queryIdType(queryUniqueId);
+      if (queryIdType == COMPACT_QUERY_ID) {
+        headerLength += NettyUtil.varLongBytes(queryUniqueId.getLeastSignificantBits());
+      } else if (queryIdType == FULL_QUERY_ID) {
+        headerLength += 16;
+      }
+
+      var header = ctx.bufferAllocator().allocate(headerLength);
+      NettyUtil.writeVarInt(header, packet.channel());
+      header.writeBoolean(packet.prioritized());
+
+      header.writeByte(queryIdType);
+      if (queryIdType == COMPACT_QUERY_ID) {
+        NettyUtil.writeVarLong(header, queryUniqueId.getLeastSignificantBits());
+      } else if (queryIdType == FULL_QUERY_ID) {
+        header
+          .writeLong(queryUniqueId.getMostSignificantBits())
+          .writeLong(queryUniqueId.getLeastSignificantBits());
+      }
+      NettyUtil.writeVarInt(header, bodyLength);
+
+      // all components of a composite buffer must have the same read-only state
+      if (body.readOnly()) {
+        header.makeReadOnly();
+      }
+
+      return ctx.bufferAllocator().compose(List.of(header.send(), body.send()));
+    } finally {
+      // release the packet content once
+      content.release();
     }
+  }
 
-    // copy over the packet body into the output buffer
-    var content = ((NettyImmutableDataBuf) msg.content()).buffer();
-    var length = content.readableBytes();
-    NettyUtil.writeVarInt(out, length);
-    content.copyInto(0, out, out.writerOffset(), length);
-    out.skipWritableBytes(length);
+  /**
+   * Extracts the readable bytes of the given packet content without copying them. If the content is only held by the
+   * packet the readable bytes are split off the content buffer, if the content is shared with other packets (for
+   * example a channel message sent to multiple channels) a read-only view of the content buffer is used instead.
+   *
+   * @param content the content of the packet to extract the body from.
+   * @return a buffer holding the body of the packet.
+   * @throws NullPointerException if the given content is null.
+   */
+  private @NonNull Buffer extractBody(@NonNull NettyImmutableDataBuf content) {
+    if (content.acquires() > 1) {
+      return content.readOnlyView();
+    }
 
-    // release the packet content once
-    msg.content().release();
+    // the content is released after encoding, the remaining (empty) part of the buffer is closed when releasing
+    var buffer = content.buffer();
+    return buffer.readSplit(buffer.readableBytes());
   }
 
   /**
@@ -55,9 +55,9 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
     // check if the packet data supplied in the buffer is actually at least the transmitted size
     if (in.readableBytes() >= length) {
-      // fire the channel read
-      ctx.fireChannelRead(in.copy(in.readerOffset(), length));
-      in.skipReadableBytes(length);
+      // drop the length prefix and split the frame off the inbound buffer, no need to copy the frame content
+      in.split(in.readerOffset()).close();
+      ctx.fireChannelRead(in.readSplit(length));
     } else {
       // reset the reader index, there is still data missing
       in.readerOffset(readerIndex);
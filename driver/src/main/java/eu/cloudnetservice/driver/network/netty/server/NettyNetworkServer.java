@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.network.scheduler.NetworkTaskScheduler;
 import eu.cloudnetservice.driver.network.ssl.SSLConfiguration;
 import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.EventLoopGroup;
 import io.netty5.channel.WriteBufferWaterMark;
@@ -41,7 +42,9 @@
 import io.netty5.util.concurrent.Future;
 import jakarta.inject.Singleton;
 import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.security.cert.CertificateException;
 import java.util.Collection;
@@ -193,8 +196,8 @@ public boolean sslEnabled() {
   @Override
   public @NonNull CompletableFuture<Void> addListener(@NonNull HostAndPort hostAndPort) {
     CompletableFuture<Void> result = new CompletableFuture<>();
-    new ServerBootstrap()
-      .channelFactory(NettyUtil.serverChannelFactory())
+    var bootstrap = new ServerBootstrap()
+      .channelFactory(NettyUtil.serverChannelFactory(hostAndPort))
       .group(this.bossEventLoopGroup, this.workerEventLoopGroup)
 
       .handler(new NettyOptionSettingChannelInitializer()
@@ -209,17 +212,32 @@ public boolean sslEnabled() {
         .option(ChannelOption.SO_REUSEADDR, true)
         .option(ChannelOption.SO_KEEPALIVE, true)
         .option(ChannelOption.WRITE_BUFFER_WATER_MARK, WATER_MARK)
-        .option(ChannelOption.BUFFER_ALLOCATOR, NettyUtil.selectedBufferAllocator()))
+        .option(ChannelOption.BUFFER_ALLOCATOR, NettyUtil.selectedBufferAllocator()));
 
-      .bind(hostAndPort.host(), hostAndPort.port())
-      .addListener(future -> {
-        if (future.isSuccess()) {
-          result.complete(null);
-          this.channelFutures.put(hostAndPort, future.getNow().closeFuture());
-        } else {
-          result.completeExceptionally(future.cause());
-        }
-      });
+    Future<Channel> bindFuture;
+    if (hostAndPort.validPort()) {
+      bindFuture = bootstrap.bind(hostAndPort.host(), hostAndPort.port());
+    } else {
+      // a listener without a port is the path to a unix domain socket, the socket file is left behind
+      // if the previous process was not stopped properly which prevents binding to it again
+      try {
+        var socketPath = Path.of(hostAndPort.host());
+        Files.deleteIfExists(socketPath);
+        bindFuture = bootstrap.bind(UnixDomainSocketAddress.of(socketPath));
+      } catch (IOException exception) {
+        result.completeExceptionally(exception);
+        return result;
+      }
+    }
+
+    bindFuture.addListener(future -> {
+      if (future.isSuccess()) {
+        result.complete(null);
+        this.channelFutures.put(hostAndPort, future.getNow().closeFuture());
+      } else {
+        result.completeExceptionally(future.cause());
+      }
+    });
 
     return result;
   }
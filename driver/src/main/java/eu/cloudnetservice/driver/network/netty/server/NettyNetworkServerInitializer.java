@@ -17,7 +17,10 @@
 package eu.cloudnetservice.driver.network.netty.server;
 
 import eu.cloudnetservice.driver.network.HostAndPort;
+import eu.cloudnetservice.driver.network.netty.NettyFlushStatisticsHandler;
 import eu.cloudnetservice.driver.network.netty.NettyOptionSettingChannelInitializer;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import eu.cloudnetservice.driver.network.netty.codec.NettyFrameCompressionCodec;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketDecoder;
 import eu.cloudnetservice.driver.network.netty.codec.NettyPacketEncoder;
 import eu.cloudnetservice.driver.network.netty.codec.VarInt32FrameDecoder;
@@ -59,10 +62,18 @@ protected void doInitChannel(@NonNull Channel ch) {
       ch.pipeline().addLast("ssl-handler", this.networkServer.sslContext.newHandler(ch.bufferAllocator()));
     }
 
+    // count the frames and flushes that are actually passed to the transport, placed in front of the
+    // flush consolidation to see how many frames are written by a single flush
+    ch.pipeline().addLast("flush-statistics", NettyFlushStatisticsHandler.INSTANCE);
+    if (NettyUtil.flushConsolidationEnabled()) {
+      ch.pipeline().addLast("flush-consolidation", NettyUtil.createFlushConsolidationHandler());
+    }
+
     ch.pipeline()
       .addLast("packet-length-deserializer", new VarInt32FrameDecoder())
-      .addLast("packet-decoder", new NettyPacketDecoder())
       .addLast("packet-length-serializer", VarInt32FramePrepender.INSTANCE)
+      .addLast("frame-compression", new NettyFrameCompressionCodec())
+      .addLast("packet-decoder", new NettyPacketDecoder())
       .addLast("packet-encoder", NettyPacketEncoder.INSTANCE)
       .addLast("network-server-handler", new NettyNetworkServerHandler(this.networkServer, this.serverLocalAddress));
   }
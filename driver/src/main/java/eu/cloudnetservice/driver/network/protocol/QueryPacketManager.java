@@ -67,11 +67,11 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically selecting a query id for the packet and
-   * setting it. Equivalent to {@code manager.sendQueryPacket(packet, UUID.randomUUID()}. An existing query unique id in
-   * the packet will get overridden.
+   * setting it if the packet has no query unique id yet. The query is no longer waiting for a response once the
+   * returned future is completed, for example when a timeout is applied to the future by the caller.
    *
    * @param packet the packet to convert to a query packet and send to the channel.
-   * @return a future completed with either the response to the packet or an empty packet if the waiting time expires.
+   * @return a future completed with either the response to the packet or a timeout exception if no response arrives.
    * @throws NullPointerException if the given packet is null.
    */
   @NonNull
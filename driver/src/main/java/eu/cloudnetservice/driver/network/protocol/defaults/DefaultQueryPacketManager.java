@@ -16,30 +16,37 @@
 
 package eu.cloudnetservice.driver.network.protocol.defaults;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.RemovalCause;
-import com.github.benmanes.caffeine.cache.RemovalListener;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.QueryPacketManager;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * The default implementation of the query manager.
+ * <p>
+ * Query ids are assigned from a sequence of this manager rather than randomly, which allows them to be transferred as a
+ * var long. Both sides of a channel send queries, therefore the sequence numbers of the side which opened the channel
+ * are odd and the sequence numbers of the other side are even. Each pending query is completed with a timeout exception
+ * if it was not answered within eight hours, callers can apply shorter timeouts to the returned future.
  *
  * @since 4.0
  */
 public class DefaultQueryPacketManager implements QueryPacketManager {
 
+  protected static final Duration MAX_QUERY_WAIT_TIME = Duration.ofHours(8);
+
   protected final NetworkChannel networkChannel;
-  protected final Cache<UUID, CompletableFuture<Packet>> waitingHandlers;
+  protected final AtomicLong querySequence = new AtomicLong();
+  protected final Map<UUID, CompletableFuture<Packet>> waitingHandlers = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new query manager for the given network with the provided query timeout.
@@ -49,10 +56,6 @@ public class DefaultQueryPacketManager implements QueryPacketManager {
    */
   public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel) {
     this.networkChannel = networkChannel;
-    this.waitingHandlers = Caffeine.newBuilder()
-      .expireAfterWrite(Duration.ofHours(8))
-      .removalListener(this.newRemovalListener())
-      .build();
   }
 
   /**
@@ -68,7 +71,7 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel) {
    */
   @Override
   public long waitingHandlerCount() {
-    return this.waitingHandlers.estimatedSize();
+    return this.waitingHandlers.size();
   }
 
   /**
@@ -76,7 +79,7 @@ public long waitingHandlerCount() {
    */
   @Override
   public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
-    return this.waitingHandlers.getIfPresent(queryUniqueId) != null;
+    return this.waitingHandlers.containsKey(queryUniqueId);
   }
 
   /**
@@ -84,11 +87,7 @@ public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @Nullable CompletableFuture<Packet> waitingHandler(@NonNull UUID queryUniqueId) {
-    var task = this.waitingHandlers.getIfPresent(queryUniqueId);
-    if (task != null) {
-      this.waitingHandlers.invalidate(queryUniqueId);
-    }
-    return task;
+    return this.waitingHandlers.remove(queryUniqueId);
   }
 
   /**
@@ -96,29 +95,38 @@ public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @NonNull CompletableFuture<Packet> sendQueryPacket(@NonNull Packet packet) {
-    // constructs and register a task for the given query unique id. note that if a replacement by key is
-    // happening in the cache, the eviction listener is called and the previous future is automatically
-    // cancelled, therefore there is no need to explicitly check for that here.
+    var queryUniqueId = packet.uniqueId();
+    if (queryUniqueId == null) {
+      queryUniqueId = this.nextQueryId();
+      packet.uniqueId(queryUniqueId);
+    }
+
+    // the task is removed once completed, either by a response, a timeout or the caller. a timeout applied by the
+    // caller to the returned future therefore also unregisters the query
     var responseTask = new CompletableFuture<Packet>();
-    var queryUniqueId = Objects.requireNonNullElseGet(packet.uniqueId(), UUID::randomUUID);
-    this.waitingHandlers.put(queryUniqueId, responseTask);
+    var registeredId = queryUniqueId;
+    responseTask.whenComplete((_, _) -> this.waitingHandlers.remove(registeredId, responseTask));
+    responseTask.orTimeout(MAX_QUERY_WAIT_TIME.toMillis(), TimeUnit.MILLISECONDS);
+
+    // a query with the same id that is still waiting for a response will never be completed
+    var previousTask = this.waitingHandlers.put(queryUniqueId, responseTask);
+    if (previousTask != null) {
+      previousTask.completeExceptionally(new TimeoutException());
+    }
 
-    packet.uniqueId(queryUniqueId);
     this.networkChannel.sendPacketSync(packet);
     return responseTask;
   }
 
   /**
-   * Constructs a new removal listener for the cache, completing the future of a query packet with a timeout exception
-   * when evicted from the cache.
+   * Get the next query id to use for a query sent by this manager. The returned id has no most significant bits set
+   * and the next sequence number of this manager as the least significant bits, odd if the associated channel was
+   * opened by a client and even otherwise.
    *
-   * @return a new removal listeners for unanswered packet future completion.
+   * @return the next query id to use for a query sent by this manager.
    */
-  protected @NonNull RemovalListener<UUID, CompletableFuture<Packet>> newRemovalListener() {
-    return (_, value, cause) -> {
-      if (cause != RemovalCause.EXPLICIT && value != null) {
-        value.completeExceptionally(new TimeoutException());
-      }
-    };
+  protected @NonNull UUID nextQueryId() {
+    var sequence = this.querySequence.incrementAndGet() << 1;
+    return new UUID(0, this.networkChannel.clientProvidedChannel() ? sequence | 1 : sequence);
   }
 }
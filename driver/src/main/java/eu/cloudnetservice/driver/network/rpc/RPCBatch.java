@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+
+/**
+ * A batch of independent rpc which are sent to the target network component in a single packet. The receiver handles
+ * all rpc of the batch concurrently and sends back the results of all rpc combined in a single response. The rpc in a
+ * batch are independent of each other, there is no guarantee in which order they are executed.
+ * <p>
+ * A batch is not thread safe and should only be populated and fired by a single thread. After firing a batch it is
+ * empty and can be re-used for a new batch of rpc.
+ *
+ * @since 4.0
+ */
+public interface RPCBatch {
+
+  /**
+   * Adds the given rpc or rpc chain to this batch. The returned future is completed with the result of the given rpc
+   * once the response to the batch was received, or with null directly after firing the batch if the result of the
+   * given rpc is dropped. Changes made to the given rpc after adding it to this batch are reflected into the request
+   * that is sent when firing this batch.
+   *
+   * @param executable the rpc or rpc chain to add to this batch.
+   * @param <T>        the expected result type of the given rpc.
+   * @return a future completed with the result of the given rpc once the batch was fired and a response was received.
+   * @throws NullPointerException     if the given rpc is null.
+   * @throws IllegalArgumentException if the given rpc was not constructed by the default rpc factory.
+   */
+  @NonNull
+  <T> CompletableFuture<T> add(@NonNull RPCExecutable executable);
+
+  /**
+   * Get the amount of rpc which were added to this batch and were not yet fired.
+   *
+   * @return the amount of rpc waiting in this batch.
+   */
+  int size();
+
+  /**
+   * Fires all rpc of this batch into the default channel of the first rpc that was added to this batch. The returned
+   * future is completed once the response to the batch was received and the futures of all rpc were completed.
+   *
+   * @return a future completed once the futures of all rpc in this batch were completed.
+   * @throws NullPointerException if the associated network component of the first rpc has no channels available.
+   */
+  @NonNull
+  CompletableFuture<Void> fire();
+
+  /**
+   * Fires all rpc of this batch into the given network channel. The returned future is completed once the response to
+   * the batch was received and the futures of all rpc were completed.
+   *
+   * @param component the network channel to which the batch should be sent.
+   * @return a future completed once the futures of all rpc in this batch were completed.
+   * @throws NullPointerException if the given network channel is null.
+   */
+  @NonNull
+  CompletableFuture<Void> fire(@NonNull NetworkChannel component);
+}
@@ -18,10 +18,12 @@
 
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.DefaultRPCImplementationBuilder;
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.RPCGenerationCache;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerBuilder;
+import eu.cloudnetservice.driver.network.rpc.defaults.rpc.DefaultRPCBatch;
 import eu.cloudnetservice.driver.network.rpc.defaults.sender.DefaultRPCSenderBuilder;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCImplementationBuilder;
@@ -95,6 +97,14 @@ public DefaultRPCFactory(
       this.rpcGenerationCache);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch newRPCBatch() {
+    return new DefaultRPCBatch(this.defaultDataBufFactory);
+  }
+
   /**
    * Get the default object mapper used by this factory.
    *
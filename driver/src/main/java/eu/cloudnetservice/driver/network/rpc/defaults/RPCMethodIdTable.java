@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import eu.cloudnetservice.driver.network.DefaultNetworkChannel;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the numeric ids of the rpc target methods that were negotiated with the other side of a network channel. A
+ * method is referenced in an rpc request either by its class name, name and descriptor or by its numeric id:
+ * <ol>
+ *   <li>the class name, method name and method descriptor as strings, as long as no id is negotiated for the method.
+ *   <li>an empty string followed by the var int {@code (id << 1) | 1} and the three strings, to define the id.
+ *   <li>an empty string followed by the var int {@code id << 1}, once the definition was acknowledged.
+ * </ol>
+ * <p>
+ * The table of a channel only writes method ids after both sides of the channel agreed to use them during the
+ * authorization, until then (and for channels without a table) methods are always referenced by strings. Definitions
+ * are read as soon as the table exists, as requests of the other side might be handled before the authorization
+ * response. A definition is acknowledged by the sender once a successful result to a request containing the definition
+ * was received. Method ids are only valid for the channel they were negotiated on, each side of the channel assigns the
+ * ids for the methods it calls.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCMethodIdTable {
+
+  private static final RPCMethodIdTable UNSUPPORTED = new RPCMethodIdTable(false);
+
+  private final boolean supported;
+  private final AtomicInteger methodIdSequence = new AtomicInteger();
+  private final Set<Integer> acknowledgedMethodIds = ConcurrentHashMap.newKeySet();
+  private final Map<MethodReference, Integer> outboundMethodIds = new ConcurrentHashMap<>();
+  private final Map<Integer, MethodReference> inboundMethodReferences = new ConcurrentHashMap<>();
+
+  private volatile boolean enabled;
+
+  /**
+   * Constructs a new method id table for a network channel. The table only writes method ids after it was enabled.
+   */
+  public RPCMethodIdTable() {
+    this(true);
+  }
+
+  /**
+   * Constructs a new method id table.
+   *
+   * @param supported if the channel of the table supports method ids at all.
+   */
+  private RPCMethodIdTable(boolean supported) {
+    this.supported = supported;
+  }
+
+  /**
+   * Get the method id table of the given network channel. If the channel has no method id table, a shared table is
+   * returned which always references methods by strings and rejects all method ids.
+   *
+   * @param channel the channel to get the method id table of.
+   * @return the method id table of the given channel.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public static @NonNull RPCMethodIdTable of(@NonNull NetworkChannel channel) {
+    return channel instanceof DefaultNetworkChannel defaultChannel ? defaultChannel.rpcMethodIdTable() : UNSUPPORTED;
+  }
+
+  /**
+   * Get if the channel of this table supports method ids at all.
+   *
+   * @return true if the channel of this table supports method ids, false otherwise.
+   */
+  public boolean supported() {
+    return this.supported;
+  }
+
+  /**
+   * Enables the use of method ids in the references written by this table. This method should only be called after
+   * the other side of the channel agreed to read method ids.
+   *
+   * @return true if the method ids were enabled, false if the channel of this table does not support method ids.
+   */
+  public boolean enable() {
+    if (this.supported) {
+      this.enabled = true;
+    }
+
+    return this.enabled;
+  }
+
+  /**
+   * Get if this table writes method ids into method references.
+   *
+   * @return true if this table writes method ids, false if methods are always referenced by strings.
+   */
+  public boolean enabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Writes a reference to the given method into the given buffer. If the method has a negotiated id only the id is
+   * written, else the method is referenced by strings. If a definition is requested and the method has no negotiated
+   * id yet, the definition of an id for the method is written as well. Methods are always referenced by strings if
+   * this table is not enabled.
+   *
+   * @param buffer           the buffer to write the method reference to.
+   * @param className        the name of the class in which the method is located.
+   * @param methodName       the name of the method.
+   * @param methodDescriptor the descriptor of the method.
+   * @param defineId         if the id of the method should be defined in case it was not acknowledged yet.
+   * @return the id of the method if a definition was written into the buffer, 0 otherwise.
+   * @throws NullPointerException if one of the given arguments is null.
+   */
+  public int writeMethodReference(
+    @NonNull DataBuf.Mutable buffer,
+    @NonNull String className,
+    @NonNull String methodName,
+    @NonNull String methodDescriptor,
+    boolean defineId
+  ) {
+    if (!this.enabled) {
+      buffer.writeString(className).writeString(methodName).writeString(methodDescriptor);
+      return 0;
+    }
+
+    var methodReference = new MethodReference(className, methodName, methodDescriptor);
+    var methodId = defineId
+      ? this.outboundMethodIds.computeIfAbsent(methodReference, _ -> this.methodIdSequence.incrementAndGet())
+      : this.outboundMethodIds.get(methodReference);
+    if (methodId != null && this.acknowledgedMethodIds.contains(methodId)) {
+      buffer.writeString("").writeVarInt(methodId << 1);
+      return 0;
+    }
+
+    if (defineId) {
+      buffer.writeString("").writeVarInt((methodId << 1) | 1);
+    }
+    buffer.writeString(className).writeString(methodName).writeString(methodDescriptor);
+    return defineId ? methodId : 0;
+  }
+
+  /**
+   * Marks the given method id as known to the other side of the channel, all following references to the method are
+   * written using the id. Calls with the method id 0 are ignored.
+   *
+   * @param methodId the id of the method which was acknowledged.
+   */
+  public void acknowledge(int methodId) {
+    if (methodId != 0) {
+      this.acknowledgedMethodIds.add(methodId);
+    }
+  }
+
+  /**
+   * Reads a method reference written by {@link #writeMethodReference(DataBuf.Mutable, String, String, String, boolean)}
+   * on the other side of the channel from the given buffer, registering the method id in case the reference contains a
+   * definition.
+   *
+   * @param buffer the buffer to read the method reference from.
+   * @return the referenced method, null if the reference contains an id which was never defined or is not supported.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public @Nullable MethodReference readMethodReference(@NonNull DataBuf buffer) {
+    var className = buffer.readString();
+    if (!className.isEmpty()) {
+      return new MethodReference(className, buffer.readString(), buffer.readString());
+    }
+
+    // method ids can only be used on channels that support them
+    if (!this.supported) {
+      return null;
+    }
+
+    var encodedMethodId = buffer.readVarInt();
+    var methodId = encodedMethodId >>> 1;
+    if ((encodedMethodId & 1) == 0) {
+      return this.inboundMethodReferences.get(methodId);
+    }
+
+    var methodReference = new MethodReference(buffer.readString(), buffer.readString(), buffer.readString());
+    this.inboundMethodReferences.put(methodId, methodReference);
+    return methodReference;
+  }
+
+  /**
+   * A reference to a method that is the target of an rpc.
+   *
+   * @param className        the name of the class in which the method is located.
+   * @param methodName       the name of the method.
+   * @param methodDescriptor the descriptor of the method.
+   * @since 4.0
+   */
+  public record MethodReference(
+    @NonNull String className,
+    @NonNull String methodName,
+    @NonNull String methodDescriptor
+  ) {
+
+  }
+}
@@ -34,9 +34,11 @@
 import io.vavr.control.Try;
 import java.lang.constant.MethodTypeDesc;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import lombok.NonNull;
@@ -56,6 +58,7 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
   private final Object boundInstance;
   private final RPCClassMetadata targetClassMeta;
   private final Cache<RPCMethodMetadata, MethodInvoker> methodInvokerCache;
+  private final Map<MethodKey, RPCMethodMetadata> resolvedMethods = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new rpc handler instance.
@@ -112,16 +115,24 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
       return TaskUtil.finishedFuture(new RPCInvocationResult.ServerError("no instance to invoke the method on", this));
     }
 
-    // parse the method type to validate it
-    var targetMethodType = parseMethodDescriptor(context.methodDescriptor());
-    if (targetMethodType == null) {
-      return TaskUtil.finishedFuture(new RPCInvocationResult.BadRequest("invalid target method descriptor", this));
-    }
-
-    // find the associated method meta in the target class
-    var targetMethod = this.targetClassMeta.findMethod(context.methodName(), targetMethodType);
+    // methods that were called before don't need to be resolved again
+    var targetMethodKey = new MethodKey(context.methodName(), context.methodDescriptor());
+    var targetMethod = this.resolvedMethods.get(targetMethodKey);
     if (targetMethod == null) {
-      return TaskUtil.finishedFuture(new RPCInvocationResult.BadRequest("target method not found", this));
+      // parse the method type to validate it
+      var targetMethodType = parseMethodDescriptor(context.methodDescriptor());
+      if (targetMethodType == null) {
+        return TaskUtil.finishedFuture(new RPCInvocationResult.BadRequest("invalid target method descriptor", this));
+      }
+
+      // find the associated method meta in the target class
+      targetMethod = this.targetClassMeta.findMethod(context.methodName(), targetMethodType);
+      if (targetMethod == null) {
+        return TaskUtil.finishedFuture(new RPCInvocationResult.BadRequest("target method not found", this));
+      }
+
+      // only existing methods are stored, the number of stored methods is limited by the methods in the target class
+      this.resolvedMethods.put(targetMethodKey, targetMethod);
     }
 
     // deserialize the provided method arguments, returns null in case the arguments buffer
@@ -227,4 +238,14 @@ final class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler {
       return null;
     }
   }
+
+  /**
+   * The key of a method resolved by this handler.
+   *
+   * @param methodName       the name of the method.
+   * @param methodDescriptor the descriptor of the method.
+   */
+  private record MethodKey(@NonNull String methodName, @NonNull String methodDescriptor) {
+
+  }
 }
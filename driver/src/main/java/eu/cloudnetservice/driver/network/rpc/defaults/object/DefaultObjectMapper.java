@@ -76,6 +76,7 @@
 import java.util.PriorityQueue;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.SequencedMap;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.Stack;
@@ -183,6 +184,7 @@ public class DefaultObjectMapper implements ObjectMapper {
     .put(IdentityHashMap.class, MapObjectSerializer.of(IdentityHashMap::new))
     .put(WeakHashMap.class, MapObjectSerializer.of(WeakHashMap::newWeakHashMap))
     .put(LinkedHashMap.class, MapObjectSerializer.of(LinkedHashMap::newLinkedHashMap))
+    .put(SequencedMap.class, MapObjectSerializer.of(LinkedHashMap::newLinkedHashMap))
     .put(ConcurrentNavigableMap.class, MapObjectSerializer.of(_ -> new ConcurrentSkipListMap<>()))
     //    ==== object data class types ====
     // java.time classes
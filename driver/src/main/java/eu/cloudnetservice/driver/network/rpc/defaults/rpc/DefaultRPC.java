@@ -18,11 +18,13 @@
 
 import eu.cloudnetservice.common.concurrent.TaskUtil;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.factory.RPCFactory;
@@ -264,15 +266,10 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> CompletableFuture<T> fire(@NonNull NetworkChannel component) {
-    // write the information about the RPC into a buffer
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeInt(1) // single RPC
-      .writeString(this.className())
-      .writeString(this.methodName())
-      .writeString(this.methodDescriptor());
-    for (var argument : this.arguments) {
-      this.objectMapper.writeObject(dataBuf, argument);
-    }
+    // write the information about the RPC into a buffer, the method id can only be defined if a response is sent
+    var methodIdTable = RPCMethodIdTable.of(component);
+    var dataBuf = this.dataBufFactory.createEmpty();
+    var definedMethodId = this.writeRequest(dataBuf, methodIdTable, !this.dropResult);
 
     if (this.dropResult) {
       // no result expected: send the RPC request (not a query) and just return a completed future
@@ -281,16 +278,54 @@ public void fireAndForget(@NonNull NetworkChannel component) {
     } else {
       // result is expected: send a query to the target network component and return the future so that
       // the caller can decide how to wait for the result
-      CompletableFuture<T> queryFuture = component
-        .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.expectedResultType(), this.objectMapper));
+      var queryFuture = component.sendQueryAsync(new RPCRequestPacket(dataBuf));
       if (this.executionTimeout != null) {
-        // apply the requested timeout
+        // apply the requested timeout to the query, this also stops the query from waiting for a response
         var timeoutMillis = this.executionTimeout.toMillis();
-        queryFuture = queryFuture.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        queryFuture.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
       }
 
-      return queryFuture;
+      // the other side knows the method id once it successfully handled the request
+      CompletableFuture<T> resultFuture = queryFuture
+        .thenApply(new RPCResultMapper<>(this.expectedResultType(), this.objectMapper));
+      return resultFuture.whenComplete((_, exception) -> {
+        if (exception == null) {
+          methodIdTable.acknowledge(definedMethodId);
+        }
+      });
     }
   }
+
+  /**
+   * Writes the request information of this rpc into the given buffer.
+   *
+   * @param buffer         the buffer to write the request information to.
+   * @param methodIdTable  the method id table of the channel to which the request is sent.
+   * @param defineMethodId if an id for the target method can be defined while writing the method reference.
+   * @return the method id that was defined while writing the request, 0 if no method id was defined.
+   * @throws NullPointerException if the given buffer or method id table is null.
+   */
+  int writeRequest(@NonNull DataBuf.Mutable buffer, @NonNull RPCMethodIdTable methodIdTable, boolean defineMethodId) {
+    buffer.writeInt(1); // single RPC
+    var definedMethodId = methodIdTable.writeMethodReference(
+      buffer,
+      this.className(),
+      this.methodName(),
+      this.methodDescriptor(),
+      defineMethodId);
+    for (var argument : this.arguments) {
+      this.objectMapper.writeObject(buffer, argument);
+    }
+
+    return definedMethodId;
+  }
+
+  /**
+   * Get the channel supplier to use for the execution of this rpc if no channel is provided.
+   *
+   * @return the default channel supplier of this rpc.
+   */
+  @NonNull Supplier<NetworkChannel> channelSupplier() {
+    return this.channelSupplier;
+  }
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.driver.network.rpc.RPCExecutable;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCBatchRequestPacket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The default implementation of a rpc batch. Each rpc of the batch is encoded in the same format as a single rpc
+ * request, method references are only written using method ids that are already known to the receiver as the batch
+ * response does not indicate which rpc of the batch was read successfully.
+ *
+ * @since 4.0
+ */
+public final class DefaultRPCBatch implements RPCBatch {
+
+  private final DataBufFactory dataBufFactory;
+  private final List<BatchEntry> entries = new ArrayList<>();
+
+  /**
+   * Constructs a new, empty rpc batch.
+   *
+   * @param dataBufFactory the data buf factory to use for buffer allocations during batch execution.
+   * @throws NullPointerException if the given data buf factory is null.
+   */
+  public DefaultRPCBatch(@NonNull DataBufFactory dataBufFactory) {
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull <T> CompletableFuture<T> add(@NonNull RPCExecutable executable) {
+    if (!(executable instanceof DefaultRPC) && !(executable instanceof DefaultRPCChain)) {
+      throw new IllegalArgumentException("Only rpc constructed by the default rpc factory can be added to a batch");
+    }
+
+    var entry = new BatchEntry(executable, new CompletableFuture<>());
+    this.entries.add(entry);
+    return (CompletableFuture<T>) entry.resultFuture();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull CompletableFuture<Void> fire() {
+    if (this.entries.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    var channelSupplier = switch (this.entries.getFirst().executable()) {
+      case DefaultRPC rpc -> rpc.channelSupplier();
+      case DefaultRPCChain chain -> chain.channelSupplier();
+      default -> throw new IllegalStateException("unexpected batch entry type");
+    };
+    var targetNetworkChannel = channelSupplier.get();
+    Objects.requireNonNull(targetNetworkChannel, "unable to get target network channel");
+    return this.fire(targetNetworkChannel);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull CompletableFuture<Void> fire(@NonNull NetworkChannel component) {
+    if (this.entries.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // take the current entries, the batch can be re-used after this point
+    var batchEntries = List.copyOf(this.entries);
+    this.entries.clear();
+
+    // write each rpc of the batch as a nested buffer, the method ids are not defined in a batch
+    var resultExpected = false;
+    var methodIdTable = RPCMethodIdTable.of(component);
+    var buffer = this.dataBufFactory.createEmpty().writeVarInt(batchEntries.size());
+    for (var entry : batchEntries) {
+      var entryBuffer = this.dataBufFactory.createEmpty();
+      switch (entry.executable()) {
+        case DefaultRPC rpc -> rpc.writeRequest(entryBuffer, methodIdTable, false);
+        case DefaultRPCChain chain -> chain.writeRequest(entryBuffer, methodIdTable, false);
+        default -> throw new IllegalStateException("unexpected batch entry type");
+      }
+
+      buffer.writeDataBuf(entryBuffer);
+      resultExpected |= !entry.resultDropped();
+    }
+
+    if (!resultExpected) {
+      // no result expected: send the batch request (not a query) and complete all entry futures
+      component.sendPacket(new RPCBatchRequestPacket(buffer));
+      for (var entry : batchEntries) {
+        entry.resultFuture().complete(null);
+      }
+      return CompletableFuture.completedFuture(null);
+    }
+
+    // result is expected: send a query and apply the longest requested timeout of the entries to it. if any entry
+    // does not request a timeout the batch query is not timed out either
+    var queryFuture = component.sendQueryAsync(new RPCBatchRequestPacket(buffer));
+    var batchTimeout = this.batchTimeout(batchEntries);
+    if (batchTimeout != null) {
+      queryFuture.orTimeout(batchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    for (var entry : batchEntries) {
+      var entryTimeout = entry.timeout();
+      if (entryTimeout != null && !entry.resultDropped()) {
+        // entries with a shorter timeout than the batch should not wait for the full batch
+        entry.resultFuture().orTimeout(entryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+
+    return queryFuture
+      .whenComplete((response, exception) -> {
+        if (exception != null) {
+          for (var entry : batchEntries) {
+            entry.resultFuture().completeExceptionally(exception);
+          }
+        } else {
+          this.completeEntries(batchEntries, response);
+        }
+      })
+      .thenApply(_ -> null);
+  }
+
+  /**
+   * Get the timeout to apply to the query of a batch with the given entries. The timeout is the longest timeout of
+   * all entries expecting a result, or null if one of these entries has no timeout.
+   *
+   * @param batchEntries the entries of the batch to get the timeout for.
+   * @return the timeout to apply to the batch query, null if the batch query should not time out.
+   * @throws NullPointerException if the given entry list is null.
+   */
+  private @Nullable Duration batchTimeout(@NonNull List<BatchEntry> batchEntries) {
+    Duration batchTimeout = null;
+    for (var entry : batchEntries) {
+      if (entry.resultDropped()) {
+        continue;
+      }
+
+      var entryTimeout = entry.timeout();
+      if (entryTimeout == null) {
+        return null;
+      }
+
+      if (batchTimeout == null || entryTimeout.compareTo(batchTimeout) > 0) {
+        batchTimeout = entryTimeout;
+      }
+    }
+
+    return batchTimeout;
+  }
+
+  /**
+   * Completes the futures of the given batch entries based on the given response to the batch. The response contains
+   * the number of responses followed by the response to each entry, encoded as nested buffers in the same format as
+   * the response to a single rpc.
+   *
+   * @param batchEntries the entries of the batch to complete.
+   * @param response     the response to the batch.
+   * @throws NullPointerException if the given entry list or response is null.
+   */
+  private void completeEntries(@NonNull List<BatchEntry> batchEntries, @NonNull Packet response) {
+    var content = response.content();
+    try {
+      var responseCount = content.readVarInt();
+      if (responseCount != batchEntries.size()) {
+        var exception = new RPCExecutionException(String.format(
+          "Server responded with %d results to a batch of %d rpc",
+          responseCount,
+          batchEntries.size()));
+        for (var entry : batchEntries) {
+          entry.resultFuture().completeExceptionally(exception);
+        }
+        return;
+      }
+
+      for (var entry : batchEntries) {
+        var entryResponse = content.readDataBuf();
+        try {
+          if (entry.resultDropped()) {
+            entry.resultFuture().complete(null);
+          } else {
+            var resultMapper = entry.resultMapper();
+            entry.resultFuture().complete(resultMapper.apply(new BasePacket(response.channel(), entryResponse)));
+          }
+        } catch (Exception exception) {
+          entry.resultFuture().completeExceptionally(exception);
+        } finally {
+          entryResponse.forceRelease();
+        }
+      }
+    } finally {
+      content.forceRelease();
+    }
+  }
+
+  /**
+   * An entry of a batch, holding the rpc to execute and the future to complete with the result of it.
+   *
+   * @param executable   the rpc or rpc chain to execute.
+   * @param resultFuture the future to complete with the result of the rpc.
+   * @since 4.0
+   */
+  private record BatchEntry(
+    @NonNull RPCExecutable executable,
+    @NonNull CompletableFuture<Object> resultFuture
+  ) {
+
+    /**
+     * Get if the result of the rpc in this entry is dropped.
+     *
+     * @return true if the result of the rpc in this entry is dropped, false otherwise.
+     */
+    public boolean resultDropped() {
+      return switch (this.executable) {
+        case DefaultRPC rpc -> rpc.resultDropped();
+        case DefaultRPCChain chain -> chain.tail().resultDropped();
+        default -> throw new IllegalStateException("unexpected batch entry type");
+      };
+    }
+
+    /**
+     * Get the timeout requested by the rpc in this entry.
+     *
+     * @return the timeout requested by the rpc in this entry, null if no timeout is requested.
+     */
+    public @Nullable Duration timeout() {
+      return switch (this.executable) {
+        case DefaultRPC rpc -> rpc.timeout();
+        case DefaultRPCChain chain -> chain.tail().timeout();
+        default -> throw new IllegalStateException("unexpected batch entry type");
+      };
+    }
+
+    /**
+     * Constructs the mapper for the response to the rpc in this entry.
+     *
+     * @return the mapper for the response to the rpc in this entry.
+     */
+    public @NonNull RPCResultMapper<Object> resultMapper() {
+      return switch (this.executable) {
+        case DefaultRPC rpc -> new RPCResultMapper<>(rpc.expectedResultType(), rpc.objectMapper());
+        case DefaultRPCChain chain -> new RPCResultMapper<>(chain.tail().expectedResultType(), chain.objectMapper());
+        default -> throw new IllegalStateException("unexpected batch entry type");
+      };
+    }
+  }
+}
@@ -18,9 +18,11 @@
 
 import eu.cloudnetservice.common.concurrent.TaskUtil;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
@@ -192,17 +194,10 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> CompletableFuture<T> fire(@NonNull NetworkChannel component) {
-    // write the chained RPC information
-    var buffer = this.dataBufFactory.createEmpty().writeInt(this.fullChain.size());
-    for (var chainEntry : this.fullChain) {
-      buffer
-        .writeString(chainEntry.className())
-        .writeString(chainEntry.methodName())
-        .writeString(chainEntry.methodDescriptor());
-      for (var argument : chainEntry.arguments()) {
-        this.objectMapper.writeObject(buffer, argument);
-      }
-    }
+    // write the chained RPC information, the method ids can only be defined if a response is sent
+    var methodIdTable = RPCMethodIdTable.of(component);
+    var buffer = this.dataBufFactory.createEmpty();
+    var definedMethodIds = this.writeRequest(buffer, methodIdTable, !this.chainTail.resultDropped());
 
     if (this.chainTail.resultDropped()) {
       // no result expected: send the RPC request (not a query) and just return a completed future after
@@ -211,18 +206,66 @@ public void fireAndForget(@NonNull NetworkChannel component) {
     } else {
       // result is expected: send a query to the target network component and return the future so that
       // the caller can decide how to wait for the result
-      CompletableFuture<T> queryFuture = component
-        .sendQueryAsync(new RPCRequestPacket(buffer))
-        .thenApply(new RPCResultMapper<>(this.chainTail.expectedResultType(), this.objectMapper));
-
+      var queryFuture = component.sendQueryAsync(new RPCRequestPacket(buffer));
       var timeout = this.chainTail.timeout();
       if (timeout != null) {
-        // apply the requested timeout
+        // apply the requested timeout to the query, this also stops the query from waiting for a response
         var timeoutMillis = timeout.toMillis();
-        queryFuture = queryFuture.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        queryFuture.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
       }
 
-      return queryFuture;
+      // the other side reads the chain entries one by one and stops reading when a chain entry fails, therefore
+      // the method ids are only known to the other side if the chain was successful
+      CompletableFuture<T> resultFuture = queryFuture
+        .thenApply(new RPCResultMapper<>(this.chainTail.expectedResultType(), this.objectMapper));
+      return resultFuture.whenComplete((_, exception) -> {
+        if (exception == null) {
+          for (var definedMethodId : definedMethodIds) {
+            methodIdTable.acknowledge(definedMethodId);
+          }
+        }
+      });
     }
   }
+
+  /**
+   * Writes the request information of all rpc in this chain into the given buffer.
+   *
+   * @param buffer          the buffer to write the request information to.
+   * @param methodIdTable   the method id table of the channel to which the request is sent.
+   * @param defineMethodIds if ids for the target methods can be defined while writing the method references.
+   * @return the method ids that were defined for each chain entry, 0 for entries without a defined method id.
+   * @throws NullPointerException if the given buffer or method id table is null.
+   */
+  int[] writeRequest(
+    @NonNull DataBuf.Mutable buffer,
+    @NonNull RPCMethodIdTable methodIdTable,
+    boolean defineMethodIds
+  ) {
+    buffer.writeInt(this.fullChain.size());
+    var definedMethodIds = new int[this.fullChain.size()];
+    var chainIndex = 0;
+    for (var chainEntry : this.fullChain) {
+      definedMethodIds[chainIndex++] = methodIdTable.writeMethodReference(
+        buffer,
+        chainEntry.className(),
+        chainEntry.methodName(),
+        chainEntry.methodDescriptor(),
+        defineMethodIds);
+      for (var argument : chainEntry.arguments()) {
+        this.objectMapper.writeObject(buffer, argument);
+      }
+    }
+
+    return definedMethodIds;
+  }
+
+  /**
+   * Get the channel supplier to use for the execution of this chain if no channel is provided.
+   *
+   * @return the default channel supplier of this chain.
+   */
+  @NonNull Supplier<NetworkChannel> channelSupplier() {
+    return this.channelSupplier;
+  }
 }
@@ -16,6 +16,7 @@
 
 package eu.cloudnetservice.driver.network.rpc.factory;
 
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.handler.RPCHandler;
 import lombok.NonNull;
@@ -65,4 +66,12 @@ public interface RPCFactory {
    */
   @NonNull
   <T> RPCImplementationBuilder<T> newRPCBasedImplementationBuilder(@NonNull Class<T> baseClass);
+
+  /**
+   * Constructs a new, empty batch which can be used to send multiple independent rpc in a single packet.
+   *
+   * @return a new, empty rpc batch.
+   */
+  @NonNull
+  RPCBatch newRPCBatch();
 }
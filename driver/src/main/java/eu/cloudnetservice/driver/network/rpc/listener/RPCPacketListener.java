@@ -19,8 +19,10 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.RPCExceptionUtil;
 import eu.cloudnetservice.driver.network.rpc.handler.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.handler.RPCInvocationContext;
@@ -28,9 +30,14 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A network packet listener designed to handle all rpc messages using an underlying handler registry to post method
@@ -41,6 +48,11 @@
 @Singleton
 public final class RPCPacketListener implements PacketListener {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(RPCPacketListener.class);
+  private static final Executor BATCH_REQUEST_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+    .name("RPC-Batch-Handler-", 1)
+    .factory());
+
   private final RPCHandlerRegistry rpcHandlerRegistry;
 
   /**
@@ -59,9 +71,94 @@ public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
    */
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    if (packet.channel() == NetworkConstants.INTERNAL_RPC_BATCH_COM_CHANNEL) {
+      this.handleBatch(channel, packet);
+      return;
+    }
+
+    // a response is only sent if the request is a query
+    Consumer<DataBuf> responder = packet.uniqueId() == null
+      ? null
+      : response -> this.sendResponseData(channel, packet, response);
+    this.handleRequest(channel, packet.content(), responder);
+  }
+
+  /**
+   * Handles a batch of rpc requests. The requests of the batch are handled concurrently, the responses to all requests
+   * are sent back combined once every request was handled. The batch content is structured as follows:
+   * <ol>
+   *   <li>the number of requests in the batch, as a var int.
+   *   <li>each request, encoded as a nested data buf in the same format as a single rpc request.
+   * </ol>
+   *
+   * @param channel the channel from which the batch came.
+   * @param packet  the packet containing the batch.
+   * @throws NullPointerException if the given channel or packet is null.
+   */
+  private void handleBatch(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     var content = packet.content();
     var resultExpected = packet.uniqueId() != null;
 
+    try {
+      var requestCount = content.readVarInt();
+      if (requestCount <= 0) {
+        if (resultExpected) {
+          this.sendResponseData(channel, packet, DataBuf.empty().writeVarInt(0));
+        }
+        return;
+      }
+
+      var responses = new DataBuf[requestCount];
+      var outstandingResponses = new AtomicInteger(requestCount);
+      for (var index = 0; index < requestCount; index++) {
+        var requestIndex = index;
+        var requestContent = content.readDataBuf();
+        Consumer<DataBuf> responder = !resultExpected ? null : response -> {
+          responses[requestIndex] = response;
+          if (outstandingResponses.decrementAndGet() == 0) {
+            // all requests were handled, combine the responses in the order of the requests
+            var resultContent = DataBuf.empty().writeVarInt(responses.length);
+            for (var requestResponse : responses) {
+              resultContent.writeDataBuf(requestResponse);
+            }
+            this.sendResponseData(channel, packet, resultContent);
+          }
+        };
+
+        BATCH_REQUEST_EXECUTOR.execute(() -> {
+          try {
+            this.handleRequest(channel, requestContent, responder);
+          } catch (Exception exception) {
+            // the request couldn't be read, still respond to not block the responses to the other requests
+            LOGGER.debug("Unable to handle request #{} of rpc batch", requestIndex, exception);
+            if (responder != null) {
+              responder.accept(DataBuf.empty()
+                .writeByte(RPCInvocationResult.STATUS_BAD_REQUEST)
+                .writeString("malformed batch request"));
+            }
+          }
+        });
+      }
+    } finally {
+      // the requests were copied out of the batch content, release it now
+      content.forceRelease();
+    }
+  }
+
+  /**
+   * Handles a single rpc request or rpc chain request.
+   *
+   * @param channel   the channel from which the request came.
+   * @param content   the content of the request.
+   * @param responder the callback to send the response data to, null if no response is expected.
+   * @throws NullPointerException if the given channel or content is null.
+   */
+  private void handleRequest(
+    @NonNull NetworkChannel channel,
+    @NonNull DataBuf content,
+    @Nullable Consumer<DataBuf> responder
+  ) {
+    var resultExpected = responder != null;
     try {
       var rpcDepth = content.readInt();
       if (rpcDepth <= 0) {
@@ -71,23 +168,31 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
             .createWithExpectedSize(1)
             .writeByte(RPCInvocationResult.STATUS_BAD_REQUEST)
             .writeString("invalid chain length");
-          this.sendResponseData(channel, packet, resultContent);
+          responder.accept(resultContent);
         }
         return;
       }
 
       if (rpcDepth > 1) {
         // RPC chain, start executing the first step
-        this.executeRPCChainStep(rpcDepth, 1, resultExpected, content, packet, channel, null);
+        this.executeRPCChainStep(rpcDepth, 1, content, channel, responder, null);
       } else {
         // single method rpc, execute & respond if requested
-        var targetClassName = content.readString();
-        var invocationContext = this.buildContext(content, null);
-        var handlingTask = this.postRPCRequestToHandler(targetClassName, invocationContext);
+        var methodReference = RPCMethodIdTable.of(channel).readMethodReference(content);
+        if (methodReference == null) {
+          // the method was referenced by an id that was never defined on this channel
+          if (resultExpected) {
+            responder.accept(unknownMethodIdResponse());
+          }
+          return;
+        }
+
+        var invocationContext = this.buildContext(methodReference, content, null);
+        var handlingTask = this.postRPCRequestToHandler(methodReference.className(), invocationContext);
         if (resultExpected) {
           this.waitForInvocationCompletion(handlingTask, result -> {
             var resultContent = this.serializeHandlingResult(result);
-            this.sendResponseData(channel, packet, resultContent);
+            responder.accept(resultContent);
           });
         }
       }
@@ -124,26 +229,33 @@ private void waitForInvocationCompletion(
    *
    * @param chainDepth                the full depth of the RPC chain.
    * @param currentDepth              the current depth the chain execution is at, starting at 1.
-   * @param resultExpected            if the RPC invocation expects a result to be sent back.
    * @param content                   the data content of the RPC request.
-   * @param request                   the request packet.
    * @param channel                   the network channel from which the request came.
+   * @param responder                 the callback to send the response data to, null if no response is expected.
    * @param previousMethodReturnValue the chain step invocation return value.
    * @throws NullPointerException if one of the required non-null arguments is null.
    */
   private void executeRPCChainStep(
     int chainDepth,
     int currentDepth,
-    boolean resultExpected,
     @NonNull DataBuf content,
-    @NonNull Packet request,
     @NonNull NetworkChannel channel,
+    @Nullable Consumer<DataBuf> responder,
     @Nullable Object previousMethodReturnValue
   ) {
+    var resultExpected = responder != null;
     // execute the target method based on the provided input
-    var targetClassName = content.readString();
-    var invocationContext = this.buildContext(content, previousMethodReturnValue);
-    var invocationTask = this.postRPCRequestToHandler(targetClassName, invocationContext);
+    var methodReference = RPCMethodIdTable.of(channel).readMethodReference(content);
+    if (methodReference == null) {
+      // the method was referenced by an id that was never defined on this channel
+      if (resultExpected) {
+        responder.accept(unknownMethodIdResponse());
+      }
+      return;
+    }
+
+    var invocationContext = this.buildContext(methodReference, content, previousMethodReturnValue);
+    var invocationTask = this.postRPCRequestToHandler(methodReference.className(), invocationContext);
     this.waitForInvocationCompletion(invocationTask, invocationResult -> {
       // handle the invocation result:
       //   -> continue invoking in case the invocation was successful and returned a non-null result
@@ -154,7 +266,7 @@ private void executeRPCChainStep(
         // set the previous result in case the result is non-null and is not the final invocation
         case RPCInvocationResult.Success(var result, _, _) when result != null && stillWorkTodo -> {
           var nextChainDepth = currentDepth + 1;
-          this.executeRPCChainStep(chainDepth, nextChainDepth, resultExpected, content, request, channel, result);
+          this.executeRPCChainStep(chainDepth, nextChainDepth, content, channel, responder, result);
         }
         // remap a successful "null" invocation in the middle of the chain to an error
         case RPCInvocationResult.Success(var result, var handler, var invokedMethod)
@@ -168,14 +280,14 @@ private void executeRPCChainStep(
 
             var remappedResult = new RPCInvocationResult.Failure(exception, handler, invokedMethod);
             var resultContent = this.serializeHandlingResult(remappedResult);
-            this.sendResponseData(channel, request, resultContent);
+            responder.accept(resultContent);
           }
         }
         // send back a response in case it's the final invocation or the invocation yielded an error
         case null, default -> {
           if (resultExpected) {
             var resultContent = this.serializeHandlingResult(invocationResult);
-            this.sendResponseData(channel, request, resultContent);
+            responder.accept(resultContent);
           }
         }
       }
@@ -229,6 +341,17 @@ private void sendResponseData(@NonNull NetworkChannel channel, @NonNull Packet r
     channel.sendPacket(responsePacket);
   }
 
+  /**
+   * Constructs the response data for a request which referenced a target method by an id which is unknown.
+   *
+   * @return the response data for a request with an unknown target method id.
+   */
+  private static @NonNull DataBuf unknownMethodIdResponse() {
+    return DataBuf.empty()
+      .writeByte(RPCInvocationResult.STATUS_BAD_REQUEST)
+      .writeString("unknown target method id");
+  }
+
   /**
    * Posts the given RPC invocation context to the RPC handler that is registered for the class with the given name. If
    * no handler is registered for the class, this methods returns null instead of an invocation result.
@@ -249,26 +372,23 @@ private void sendResponseData(@NonNull NetworkChannel channel, @NonNull Packet r
   }
 
   /**
-   * Builds a new context for a rpc method invocation based on the given information and remaining content in the
-   * buffer. The given buffer should still contain (in the given order):
-   * <ol>
-   *   <li>the target method name.
-   *   <li>the target method descriptor.
-   *   <li>the argument information for the invocation, if any.
-   * </ol>
+   * Builds a new context for a rpc method invocation based on the given method reference and remaining content in the
+   * buffer. The given buffer should still contain the argument information for the invocation, if any.
    *
+   * @param methodReference the reference to the method to invoke.
    * @param content         the remaining buffer content, containing the data as described above.
    * @param workingInstance the instance on which the methods should be called, null to use the handler binding.
    * @return a generated invocation context based on the given information.
-   * @throws NullPointerException if the given content buffer is null.
+   * @throws NullPointerException if the given method reference or content buffer is null.
    */
-  private @NonNull RPCInvocationContext buildContext(@NonNull DataBuf content, @Nullable Object workingInstance) {
-    // read data from buffer, this must be in order it's written to the buffer
-    var methodName = content.readString();
-    var methodDescriptor = content.readString();
+  private @NonNull RPCInvocationContext buildContext(
+    @NonNull RPCMethodIdTable.MethodReference methodReference,
+    @NonNull DataBuf content,
+    @Nullable Object workingInstance
+  ) {
     return RPCInvocationContext.builder()
-      .methodName(methodName)
-      .methodDescriptor(methodDescriptor)
+      .methodName(methodReference.methodName())
+      .methodDescriptor(methodReference.methodDescriptor())
       .argumentInformation(content) // might be unsafe, but we cannot slice the argument data due to the unknown size
       .workingInstance(workingInstance)
       .build();
@@ -17,6 +17,7 @@
 package eu.cloudnetservice.driver.network.scheduler;
 
 import java.util.concurrent.Executor;
+import lombok.NonNull;
 
 /**
  * A scheduler for tasks that are triggered by incoming network calls and should be handled non-blocking (for execute
@@ -31,4 +32,17 @@ public interface NetworkTaskScheduler extends Executor {
    * from being scheduled.
    */
   void shutdown();
+
+  /**
+   * Executes the given task without applying any concurrency limit of this scheduler. This should only be used for
+   * tasks that other tasks of this scheduler might be waiting for, for example the responses to queries. Schedulers
+   * without a concurrency limit execute the task the same way as {@link #execute(Runnable)}.
+   *
+   * @param command the task to execute.
+   * @throws NullPointerException                            if the given task is null.
+   * @throws java.util.concurrent.RejectedExecutionException if this scheduler was shut down.
+   */
+  default void executeUnlimited(@NonNull Runnable command) {
+    this.execute(command);
+  }
 }
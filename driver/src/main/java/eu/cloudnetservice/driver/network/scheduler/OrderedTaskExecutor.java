@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor which runs the submitted tasks one after another in submission order, using the given backing executor
+ * to run the tasks. At most one task of this executor is running at a time, different instances that share the same
+ * backing executor are running their tasks in parallel. After a batch of tasks was executed the execution is
+ * resubmitted into the backing executor to give other executors a chance to run their tasks.
+ *
+ * @since 4.0
+ */
+public final class OrderedTaskExecutor implements Executor {
+
+  private static final int MAX_TASKS_PER_BATCH = 64;
+  private static final Logger LOGGER = LoggerFactory.getLogger(OrderedTaskExecutor.class);
+
+  private final Executor backingExecutor;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Constructs a new ordered task executor.
+   *
+   * @param backingExecutor the executor to run the submitted tasks on.
+   * @throws NullPointerException if the given backing executor is null.
+   */
+  public OrderedTaskExecutor(@NonNull Executor backingExecutor) {
+    this.backingExecutor = backingExecutor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(@NonNull Runnable command) {
+    this.pendingTasks.add(command);
+    this.scheduleExecution();
+  }
+
+  /**
+   * Get the number of tasks that are waiting to be executed.
+   *
+   * @return the number of tasks that are waiting to be executed.
+   */
+  public int pendingTasks() {
+    return this.pendingTasks.size();
+  }
+
+  /**
+   * Schedules the execution of the pending tasks into the backing executor, unless there are no pending tasks or the
+   * execution is already scheduled.
+   */
+  private void scheduleExecution() {
+    if (!this.pendingTasks.isEmpty() && this.scheduled.compareAndSet(false, true)) {
+      try {
+        this.backingExecutor.execute(this::executePendingTasks);
+      } catch (RuntimeException exception) {
+        // the backing executor rejected the execution, allow the next call to retry
+        this.scheduled.set(false);
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * Executes a batch of the pending tasks and schedules the execution of the remaining tasks afterwards.
+   */
+  private void executePendingTasks() {
+    try {
+      for (var executedTasks = 0; executedTasks < MAX_TASKS_PER_BATCH; executedTasks++) {
+        var task = this.pendingTasks.poll();
+        if (task == null) {
+          break;
+        }
+
+        try {
+          task.run();
+        } catch (Throwable throwable) {
+          LOGGER.error("Exception while executing ordered task {}", task, throwable);
+        }
+      }
+    } finally {
+      // tasks might have been added after the last poll, reschedule in that case
+      this.scheduled.set(false);
+      this.scheduleExecution();
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.scheduler;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.NonNull;
+
+/**
+ * An implementation of a network task scheduler that runs each task in a new virtual thread. The number of tasks that
+ * are running at the same time is bounded by a concurrency limit, tasks which are exceeding the limit are waiting for a
+ * running task to complete. Tasks which other tasks might be waiting for (for example the response to a query) must be
+ * submitted using {@link #executeUnlimited(Runnable)}, they are not counted against the limit. Otherwise, a handler
+ * waiting for such a task while all permits are taken would deadlock the scheduler.
+ *
+ * @since 4.0
+ */
+public final class VirtualThreadNetworkTaskScheduler implements NetworkTaskScheduler {
+
+  private final AtomicBoolean active;
+  private final ExecutorService executor;
+  private final Semaphore concurrencyLimiter;
+
+  /**
+   * Constructs a new virtual thread network task scheduler.
+   *
+   * @param threadFactory    the factory for the virtual threads that are running the tasks.
+   * @param concurrencyLimit the maximum number of tasks, not counting unlimited tasks, which run at the same time.
+   * @throws NullPointerException     if the given thread factory is null.
+   * @throws IllegalArgumentException if the given concurrency limit is smaller than 1.
+   */
+  public VirtualThreadNetworkTaskScheduler(@NonNull ThreadFactory threadFactory, int concurrencyLimit) {
+    Preconditions.checkArgument(concurrencyLimit > 0, "concurrency limit must be positive");
+
+    this.active = new AtomicBoolean(true);
+    this.executor = Executors.newThreadPerTaskExecutor(threadFactory);
+    // fair to run the waiting tasks in the order they were submitted
+    this.concurrencyLimiter = new Semaphore(concurrencyLimit, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void shutdown() {
+    if (this.active.compareAndSet(true, false)) {
+      this.executor.shutdownNow();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void execute(@NonNull Runnable command) {
+    this.ensureActive();
+    this.executor.execute(() -> this.executeLimited(command));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void executeUnlimited(@NonNull Runnable command) {
+    this.ensureActive();
+    this.executor.execute(command);
+  }
+
+  /**
+   * Ensures that this scheduler was not shut down yet.
+   *
+   * @throws RejectedExecutionException if this scheduler was shut down.
+   */
+  private void ensureActive() {
+    if (!this.active.get()) {
+      // the underlying executor was also shut down, there is no point in even trying to schedule a new task
+      throw new RejectedExecutionException("scheduler was shut down");
+    }
+  }
+
+  /**
+   * Executes the given task once a permit of the concurrency limiter is available.
+   *
+   * @param command the task to execute.
+   * @throws NullPointerException if the given task is null.
+   */
+  private void executeLimited(@NonNull Runnable command) {
+    try {
+      this.concurrencyLimiter.acquire();
+    } catch (InterruptedException _) {
+      // interrupted while waiting, the scheduler is shutting down
+      Thread.currentThread().interrupt();
+      return;
+    }
+
+    try {
+      command.run();
+    } finally {
+      this.concurrencyLimiter.release();
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.def;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageSender;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import eu.cloudnetservice.driver.network.netty.codec.NettyPacketEncoder;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of channel messages broadcast to many channels when the message is serialized for each
+ * target channel (as done before) to serializing it once and sharing the content between all packets. Each packet is
+ * encoded by the packet encoder, as it would be when written into the target channel.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class ChannelMessageBroadcastBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChannelMessageBroadcastBenchmarkTest.class);
+
+  private static final int MESSAGES = 20_000;
+  private static final int TARGET_CHANNELS = 64;
+  private static final byte[] MESSAGE_CONTENT = new byte[1024];
+  private static final ChannelMessageSender SENDER = ChannelMessageSender.of("Node-1", DriverEnvironment.NODE);
+
+  private static ChannelMessage createMessage() {
+    return ChannelMessage.builder()
+      .sender(SENDER)
+      .targetAll()
+      .channel("benchmark")
+      .message("broadcast")
+      .buffer(DataBuf.empty().writeByteArray(MESSAGE_CONTENT))
+      .build();
+  }
+
+  private static ChannelHandlerContext mockContext() {
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(ctx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(ctx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      Buffer buffer = invocation.getArgument(0);
+      buffer.close();
+      return null;
+    });
+    return ctx;
+  }
+
+  private static byte[] encode(Packet packet) {
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    var encoded = new AtomicReference<byte[]>();
+    Mockito.when(ctx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(ctx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      try (Buffer buffer = invocation.getArgument(0)) {
+        var bytes = new byte[buffer.readableBytes()];
+        buffer.copyInto(buffer.readerOffset(), bytes, 0, bytes.length);
+        encoded.set(bytes);
+      }
+      return null;
+    });
+
+    NettyPacketEncoder.INSTANCE.write(ctx, packet);
+    return encoded.get();
+  }
+
+  private static long serializedPerChannelMessagesPerSecond(ChannelHandlerContext ctx) {
+    var startTime = System.nanoTime();
+    for (var messageIndex = 0; messageIndex < MESSAGES; messageIndex++) {
+      var message = createMessage();
+      for (var channel = 0; channel < TARGET_CHANNELS; channel++) {
+        // the message content is released when serializing the message
+        message.content().acquire();
+        NettyPacketEncoder.INSTANCE.write(ctx, new PacketServerChannelMessage(message, false));
+      }
+
+      message.content().release();
+      Assertions.assertFalse(message.content().accessible());
+    }
+
+    return MESSAGES * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+  }
+
+  private static long serializedOnceMessagesPerSecond(ChannelHandlerContext ctx) {
+    var startTime = System.nanoTime();
+    for (var messageIndex = 0; messageIndex < MESSAGES; messageIndex++) {
+      var message = createMessage();
+      var content = PacketServerChannelMessage.serializeMessage(message, false);
+      for (var channel = 0; channel < TARGET_CHANNELS; channel++) {
+        content.acquire();
+        NettyPacketEncoder.INSTANCE.write(ctx, new PacketServerChannelMessage(message.prioritized(), content));
+      }
+
+      content.release();
+      Assertions.assertFalse(content.accessible());
+    }
+
+    return MESSAGES * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+  }
+
+  @Test
+  void compareBroadcastSerialization() {
+    // both serialization types must result in the same packet being written
+    var message = createMessage();
+    message.content().acquire();
+    var content = PacketServerChannelMessage.serializeMessage(message, false);
+    Assertions.assertArrayEquals(
+      encode(new PacketServerChannelMessage(message, false)),
+      encode(new PacketServerChannelMessage(message.prioritized(), content)));
+
+    var ctx = mockContext();
+
+    // warmup both serialization types before measuring
+    serializedPerChannelMessagesPerSecond(ctx);
+    serializedOnceMessagesPerSecond(ctx);
+
+    var perChannelMessages = serializedPerChannelMessagesPerSecond(ctx);
+    var onceMessages = serializedOnceMessagesPerSecond(ctx);
+    LOGGER.info(
+      "{} messages to {} channels: {} messages/s serialized per channel, {} messages/s serialized once",
+      MESSAGES,
+      TARGET_CHANNELS,
+      perChannelMessages,
+      onceMessages);
+  }
+}
@@ -83,4 +83,20 @@ void testVarIntBytesAndCodec() {
       }
     }
   }
+
+  @Test
+  void testVarLongBytesAndCodec() {
+    try (var buffer = BufferAllocator.onHeapUnpooled().allocate(10)) {
+      long[] values = {0, 1, 127, 128, 16_384, Integer.MAX_VALUE, 1L << 42, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+      for (var num : values) {
+        // write var long, validate written bytes were as expected, read var long
+        NettyUtil.writeVarLong(buffer, num);
+        Assertions.assertEquals(buffer.writerOffset(), NettyUtil.varLongBytes(num));
+        Assertions.assertEquals(num, NettyUtil.readVarLong(buffer));
+
+        // reset the buffer indexes and fill the buffer with 0 for the next run
+        buffer.resetOffsets().fill((byte) 0);
+      }
+    }
+  }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerContext;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class NettyFrameCompressionCodecTest {
+
+  private static Buffer createFrame(int repetitions) {
+    var content = "Hello World".repeat(repetitions).getBytes(StandardCharsets.UTF_8);
+    var frame = NettyUtil.selectedBufferAllocator().allocate(content.length + 5);
+    NettyUtil.writeVarInt(frame, 1);
+    return frame.writeBytes(content);
+  }
+
+  private static byte[] readableBytes(Buffer buffer) {
+    var bytes = new byte[buffer.readableBytes()];
+    buffer.copyInto(buffer.readerOffset(), bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  private static ChannelHandlerContext mockContext(AtomicReference<Object> result) {
+    var ctx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(ctx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(ctx.write(Mockito.any())).then(invocation -> {
+      result.set(invocation.getArgument(0));
+      return null;
+    });
+    Mockito.when(ctx.fireChannelRead(Mockito.any())).then(invocation -> {
+      result.set(invocation.getArgument(0));
+      return null;
+    });
+    return ctx;
+  }
+
+  @Test
+  void testCompressionRoundTrip() {
+    var result = new AtomicReference<>();
+    var ctx = mockContext(result);
+
+    var codec = new NettyFrameCompressionCodec();
+    codec.enableOutboundCompression();
+
+    // compress the frame
+    var frame = createFrame(1000);
+    var expected = readableBytes(frame);
+    codec.write(ctx, frame);
+
+    var compressed = (Buffer) result.get();
+    Assertions.assertTrue(compressed.readableBytes() < expected.length);
+    try (var header = compressed.copy(compressed.readerOffset(), compressed.readableBytes(), true)) {
+      Assertions.assertEquals(NetworkConstants.COMPRESSED_FRAME_CHANNEL, NettyUtil.readVarInt(header));
+    }
+
+    // decompress the frame again
+    codec.channelRead(ctx, compressed);
+    var decompressed = (Buffer) result.get();
+    Assertions.assertArrayEquals(expected, readableBytes(decompressed));
+
+    decompressed.close();
+  }
+
+  @Test
+  void testSmallFramesAreNotCompressed() {
+    var result = new AtomicReference<>();
+    var ctx = mockContext(result);
+
+    var codec = new NettyFrameCompressionCodec();
+    codec.enableOutboundCompression();
+
+    var frame = createFrame(1);
+    codec.write(ctx, frame);
+    Assertions.assertSame(frame, result.get());
+
+    // uncompressed frames are passed through untouched
+    codec.channelRead(ctx, frame);
+    Assertions.assertSame(frame, result.get());
+    Assertions.assertEquals(1, NettyUtil.readVarInt(frame));
+
+    frame.close();
+  }
+
+  @Test
+  void testCompressionDisabledByDefault() {
+    var result = new AtomicReference<>();
+    var ctx = mockContext(result);
+
+    var codec = new NettyFrameCompressionCodec();
+    Assertions.assertFalse(codec.compressOutbound());
+
+    var frame = createFrame(1000);
+    codec.write(ctx, frame);
+    Assertions.assertSame(frame, result.get());
+
+    frame.close();
+  }
+}
@@ -24,7 +24,9 @@
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelHandlerContext;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -76,4 +78,68 @@ void testNettyPacketCodec() {
     // encode the packet
     NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(packetChannel, dataBuf));
   }
+
+  @Test
+  void testSharedPacketContent() {
+    DataBuf dataBuf = DataBufFactory.defaultFactory().createEmpty().writeString("Hello World");
+
+    var outCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(outCtx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      Buffer buffer = invocation.getArgument(0);
+      Assertions.assertTrue(buffer.readableBytes() > dataBuf.readableBytes());
+      buffer.close();
+      return null;
+    });
+
+    // the same content is written by multiple packets, each packet holds one acquire of the content
+    for (var i = 0; i < 3; i++) {
+      dataBuf.acquire();
+      NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(1, dataBuf));
+      Assertions.assertTrue(dataBuf.accessible());
+    }
+
+    // releasing the initial acquire releases the content
+    dataBuf.release();
+    Assertions.assertFalse(dataBuf.accessible());
+  }
+
+  @Test
+  void testQueryUniqueIdCodec() {
+    var compactId = new UUID(0, 12_345);
+    var randomId = UUID.randomUUID();
+    Assertions.assertEquals(compactId, this.encodeAndDecodeQueryId(compactId, 6));
+    Assertions.assertEquals(randomId, this.encodeAndDecodeQueryId(randomId, 20));
+    Assertions.assertNull(this.encodeAndDecodeQueryId(null, 4));
+  }
+
+  private UUID encodeAndDecodeQueryId(UUID queryUniqueId, int expectedHeaderLength) {
+    var decodedId = new AtomicReference<UUID>();
+    var outCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(outCtx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      // channel, prioritized, query id type, query id and body length, the body is empty
+      Buffer buffer = invocation.getArgument(0);
+      Assertions.assertEquals(expectedHeaderLength, buffer.readableBytes());
+
+      var inChannel = Mockito.mock(Channel.class);
+      Mockito.when(inChannel.isActive()).thenReturn(true);
+
+      var inCtx = Mockito.mock(ChannelHandlerContext.class);
+      Mockito.when(inCtx.channel()).thenReturn(inChannel);
+      Mockito.when(inCtx.fireChannelRead(Mockito.any(Packet.class))).then(inv -> {
+        Packet packet = inv.getArgument(0);
+        decodedId.set(packet.uniqueId());
+        return null;
+      });
+
+      new NettyPacketDecoder().decode(inCtx, buffer);
+      return null;
+    });
+
+    var packet = new BasePacket(1, DataBufFactory.defaultFactory().createEmpty());
+    packet.uniqueId(queryUniqueId);
+    NettyPacketEncoder.INSTANCE.write(outCtx, packet);
+    return decodedId.get();
+  }
 }
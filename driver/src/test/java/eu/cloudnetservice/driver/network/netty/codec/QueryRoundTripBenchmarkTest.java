@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.codec;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.netty.NettyUtil;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandlerContext;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the query round trips per second of a query manager: each query is encoded, decoded and answered with a
+ * response carrying the decoded query id. Queries with a random unique id (as assigned before query ids were taken from
+ * a sequence) are compared to queries with an id assigned by the query manager.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class QueryRoundTripBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(QueryRoundTripBenchmarkTest.class);
+
+  private static final int QUERIES = 1_000_000;
+
+  private static long roundTripsPerSecond(Supplier<UUID> queryIdSupplier) {
+    var channel = Mockito.mock(NetworkChannel.class);
+    var manager = new DefaultQueryPacketManager(channel);
+
+    // the decoded packet is the response to the query
+    var inChannel = Mockito.mock(Channel.class);
+    Mockito.when(inChannel.isActive()).thenReturn(true);
+    var inCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(inCtx.channel()).thenReturn(inChannel);
+    Mockito.when(inCtx.fireChannelRead(Mockito.any(Packet.class))).then(invocation -> {
+      Packet response = invocation.getArgument(0);
+      var task = manager.waitingHandler(response.uniqueId());
+      task.complete(response);
+      response.content().release();
+      return null;
+    });
+
+    // the encoded packet is decoded directly
+    var decoder = new NettyPacketDecoder();
+    var outCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(outCtx.bufferAllocator()).thenReturn(NettyUtil.selectedBufferAllocator());
+    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      try (Buffer buffer = invocation.getArgument(0)) {
+        decoder.decode(inCtx, buffer);
+      }
+      return null;
+    });
+    Mockito
+      .doAnswer(invocation -> {
+        NettyPacketEncoder.INSTANCE.write(outCtx, invocation.getArgument(0));
+        return null;
+      })
+      .when(channel)
+      .sendPacketSync(Mockito.any(Packet.class));
+
+    var startTime = System.nanoTime();
+    for (var query = 0; query < QUERIES; query++) {
+      var packet = new BasePacket(1, DataBufFactory.defaultFactory().createEmpty().writeInt(query));
+      packet.uniqueId(queryIdSupplier.get());
+      Assertions.assertTrue(manager.sendQueryPacket(packet).isDone());
+    }
+
+    Assertions.assertEquals(0, manager.waitingHandlerCount());
+    return QUERIES * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+  }
+
+  @Test
+  void compareQueryIdRoundTrips() {
+    // warmup both id types before measuring
+    roundTripsPerSecond(UUID::randomUUID);
+    roundTripsPerSecond(() -> null);
+
+    var randomIdRoundTrips = roundTripsPerSecond(UUID::randomUUID);
+    var sequenceIdRoundTrips = roundTripsPerSecond(() -> null);
+    LOGGER.info(
+      "{} queries: {} round trips/s with random query ids, {} round trips/s with sequence query ids",
+      QUERIES,
+      randomIdRoundTrips,
+      sequenceIdRoundTrips);
+  }
+}
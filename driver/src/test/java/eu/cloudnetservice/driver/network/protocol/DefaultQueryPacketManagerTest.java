@@ -69,4 +69,39 @@ void testSendQueryPacketWithFixedId() {
     Assertions.assertThrows(CompletionException.class, firstResponseTask::join);
     Assertions.assertInstanceOf(TimeoutException.class, firstResponseTask.exceptionNow());
   }
+
+  @Test
+  void testQueryIdsAreSequential() {
+    var clientChannel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(clientChannel.clientProvidedChannel()).thenReturn(true);
+    var clientManager = new DefaultQueryPacketManager(clientChannel);
+    var serverManager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    for (var i = 1; i <= 3; i++) {
+      var clientQuery = new BasePacket(1, DataBuf.empty());
+      var serverQuery = new BasePacket(1, DataBuf.empty());
+      clientManager.sendQueryPacket(clientQuery);
+      serverManager.sendQueryPacket(serverQuery);
+
+      // both sides of a channel use different query ids
+      Assertions.assertEquals(new UUID(0, (i << 1) | 1), clientQuery.uniqueId());
+      Assertions.assertEquals(new UUID(0, i << 1), serverQuery.uniqueId());
+    }
+  }
+
+  @Test
+  void testTimedOutQueryIsRemoved() {
+    var queryRequest = new BasePacket(1, DataBuf.empty());
+    var manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    var responseTask = manager.sendQueryPacket(queryRequest);
+    Assertions.assertTrue(manager.hasWaitingHandler(queryRequest.uniqueId()));
+
+    // completing the task (for example by a timeout applied by the caller) unregisters the query
+    responseTask.completeExceptionally(new TimeoutException());
+    Assertions.assertThrows(CompletionException.class, responseTask::join);
+    Assertions.assertInstanceOf(TimeoutException.class, responseTask.exceptionNow());
+    Assertions.assertFalse(manager.hasWaitingHandler(queryRequest.uniqueId()));
+    Assertions.assertEquals(0, manager.waitingHandlerCount());
+  }
 }
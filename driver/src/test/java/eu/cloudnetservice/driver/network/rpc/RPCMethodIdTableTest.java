@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class RPCMethodIdTableTest {
+
+  private static final String CLASS_NAME = "eu.cloudnetservice.driver.provider.ServiceTaskProvider";
+  private static final String METHOD_NAME = "serviceTask";
+  private static final String METHOD_DESC = "(Ljava/lang/String;)Leu/cloudnetservice/driver/service/ServiceTask;";
+
+  @Test
+  void testMethodIdNegotiation() {
+    var senderTable = new RPCMethodIdTable();
+    var receiverTable = new RPCMethodIdTable();
+    senderTable.enable();
+    var expectedReference = new RPCMethodIdTable.MethodReference(CLASS_NAME, METHOD_NAME, METHOD_DESC);
+
+    // the first request defines the method id
+    var definition = DataBuf.empty();
+    var methodId = senderTable.writeMethodReference(definition, CLASS_NAME, METHOD_NAME, METHOD_DESC, true);
+    Assertions.assertNotEquals(0, methodId);
+    Assertions.assertEquals(expectedReference, receiverTable.readMethodReference(definition));
+
+    // the method is still referenced by strings until the definition is acknowledged
+    var unacknowledged = DataBuf.empty();
+    Assertions.assertEquals(
+      methodId,
+      senderTable.writeMethodReference(unacknowledged, CLASS_NAME, METHOD_NAME, METHOD_DESC, true));
+    Assertions.assertEquals(expectedReference, receiverTable.readMethodReference(unacknowledged));
+
+    // after the acknowledgement the method is referenced by its id
+    senderTable.acknowledge(methodId);
+    var reference = DataBuf.empty();
+    Assertions.assertEquals(0, senderTable.writeMethodReference(reference, CLASS_NAME, METHOD_NAME, METHOD_DESC, true));
+    Assertions.assertTrue(reference.readableBytes() < 3);
+    Assertions.assertEquals(expectedReference, receiverTable.readMethodReference(reference));
+  }
+
+  @Test
+  void testStringFallback() {
+    var senderTable = new RPCMethodIdTable();
+    var receiverTable = new RPCMethodIdTable();
+    senderTable.enable();
+
+    // methods without a negotiated id are referenced by strings
+    var buffer = DataBuf.empty();
+    Assertions.assertEquals(0, senderTable.writeMethodReference(buffer, CLASS_NAME, METHOD_NAME, METHOD_DESC, false));
+    Assertions.assertEquals(CLASS_NAME, buffer.startTransaction().readString());
+    Assertions.assertEquals(
+      new RPCMethodIdTable.MethodReference(CLASS_NAME, METHOD_NAME, METHOD_DESC),
+      receiverTable.readMethodReference(buffer.redoTransaction()));
+  }
+
+  @Test
+  void testUnknownMethodIdIsRejected() {
+    var senderTable = new RPCMethodIdTable();
+    senderTable.enable();
+    var methodId = senderTable.writeMethodReference(DataBuf.empty(), CLASS_NAME, METHOD_NAME, METHOD_DESC, true);
+    senderTable.acknowledge(methodId);
+
+    // the receiver never read the definition of the method id
+    var reference = DataBuf.empty();
+    senderTable.writeMethodReference(reference, CLASS_NAME, METHOD_NAME, METHOD_DESC, true);
+    Assertions.assertNull(new RPCMethodIdTable().readMethodReference(reference));
+  }
+
+  @Test
+  void testMethodIdsAreOnlyWrittenWhenEnabled() {
+    var senderTable = new RPCMethodIdTable();
+    Assertions.assertFalse(senderTable.enabled());
+
+    // the other side did not agree to read method ids yet, no id is defined
+    var buffer = DataBuf.empty();
+    Assertions.assertEquals(0, senderTable.writeMethodReference(buffer, CLASS_NAME, METHOD_NAME, METHOD_DESC, true));
+    Assertions.assertEquals(CLASS_NAME, buffer.readString());
+  }
+
+  @Test
+  void testChannelWithoutTableRejectsMethodIds() {
+    var channelTable = RPCMethodIdTable.of(Mockito.mock(NetworkChannel.class));
+    Assertions.assertFalse(channelTable.supported());
+    Assertions.assertFalse(channelTable.enable());
+
+    // a definition is not registered by a channel that does not support method ids
+    var senderTable = new RPCMethodIdTable();
+    senderTable.enable();
+    var definition = DataBuf.empty();
+    senderTable.writeMethodReference(definition, CLASS_NAME, METHOD_NAME, METHOD_DESC, true);
+    Assertions.assertNull(channelTable.readMethodReference(definition));
+  }
+}
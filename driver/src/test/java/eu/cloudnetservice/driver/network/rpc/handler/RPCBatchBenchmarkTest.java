@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.handler;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPCSender;
+import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCNetworkHandlingTest.RPCHandlingTest;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCNetworkHandlingTest.RPCHandlingTestImpl;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the rpc throughput of sequentially fired rpc compared to rpc fired in batches. Each response is delivered
+ * with a simulated network latency, batching only needs one round trip for all rpc in the batch.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class RPCBatchBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RPCBatchBenchmarkTest.class);
+
+  private static final int RPC_COUNT = 5_000;
+  private static final int BATCH_SIZE = 50;
+  private static final Executor RESPONSE_EXECUTOR = CompletableFuture.delayedExecutor(1, TimeUnit.MILLISECONDS);
+  private static final MethodTypeDesc ROUND_DESC = MethodTypeDesc.of(ConstantDescs.CD_long, ConstantDescs.CD_double);
+
+  private static NetworkChannel mockNetworkChannel(RPCPacketListener listener) {
+    var mockedChannel = Mockito.mock(NetworkChannel.class);
+    Map<UUID, CompletableFuture<Packet>> pendingQueries = new ConcurrentHashMap<>();
+    Mockito
+      .doAnswer(invocation -> {
+        Packet request = invocation.getArgument(0);
+        var queryFuture = new CompletableFuture<Packet>();
+        request.uniqueId(UUID.randomUUID()); // usually QueryManager would take over this job
+        pendingQueries.put(request.uniqueId(), queryFuture);
+        listener.handle(mockedChannel, request);
+        return queryFuture;
+      })
+      .when(mockedChannel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        // deliver the response with the simulated latency
+        Packet response = invocation.getArgument(0);
+        var queryFuture = pendingQueries.remove(response.uniqueId());
+        RESPONSE_EXECUTOR.execute(() -> queryFuture.complete(response));
+        return null;
+      })
+      .when(mockedChannel)
+      .sendPacket(Mockito.any(Packet.class));
+    return mockedChannel;
+  }
+
+  private static long sequentialRPCPerSecond(RPCSender sender) {
+    var startTime = System.nanoTime();
+    for (var call = 0; call < RPC_COUNT; call++) {
+      long result = sender.invokeMethod("round", ROUND_DESC, (double) call).fireSync();
+      Assertions.assertEquals(call, result);
+    }
+
+    return RPC_COUNT * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+  }
+
+  private static long batchedRPCPerSecond(DefaultRPCFactory factory, RPCSender sender) {
+    var startTime = System.nanoTime();
+    for (var call = 0; call < RPC_COUNT; call += BATCH_SIZE) {
+      var batch = factory.newRPCBatch();
+      List<CompletableFuture<Long>> results = new ArrayList<>(BATCH_SIZE);
+      for (var batchEntry = 0; batchEntry < BATCH_SIZE; batchEntry++) {
+        results.add(batch.add(sender.invokeMethod("round", ROUND_DESC, (double) (call + batchEntry))));
+      }
+
+      batch.fire().join();
+      for (var batchEntry = 0; batchEntry < BATCH_SIZE; batchEntry++) {
+        Assertions.assertEquals(call + batchEntry, results.get(batchEntry).join());
+      }
+    }
+
+    return RPC_COUNT * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+  }
+
+  @Test
+  void compareSequentialAndBatchedRPC() {
+    var factory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    var handlerRegistry = new DefaultRPCHandlerRegistry();
+    handlerRegistry.registerHandler(factory.newRPCHandlerBuilder(RPCHandlingTest.class)
+      .targetInstance(new RPCHandlingTestImpl())
+      .build());
+
+    var channel = mockNetworkChannel(new RPCPacketListener(handlerRegistry));
+    var sender = factory.newRPCSenderBuilder(RPCHandlingTest.class).targetChannel(channel).build();
+
+    // warmup both invocation types before measuring
+    sequentialRPCPerSecond(sender);
+    batchedRPCPerSecond(factory, sender);
+
+    var sequentialRPC = sequentialRPCPerSecond(sender);
+    var batchedRPC = batchedRPCPerSecond(factory, sender);
+    LOGGER.info(
+      "{} rpc: {} rpc/s fired sequentially, {} rpc/s fired in batches of {}",
+      RPC_COUNT,
+      sequentialRPC,
+      batchedRPC,
+      BATCH_SIZE);
+  }
+}
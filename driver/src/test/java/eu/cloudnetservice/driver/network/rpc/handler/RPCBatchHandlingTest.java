@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.handler;
+
+import eu.cloudnetservice.common.concurrent.TaskUtil;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPC;
+import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandlerRegistry;
+import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCNetworkHandlingTest.RPCHandlingTest;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCNetworkHandlingTest.RPCHandlingTestChained;
+import eu.cloudnetservice.driver.network.rpc.handler.RPCNetworkHandlingTest.RPCHandlingTestImpl;
+import eu.cloudnetservice.driver.network.rpc.listener.RPCPacketListener;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.ConstantDescs;
+import java.lang.constant.MethodTypeDesc;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class RPCBatchHandlingTest {
+
+  @Test
+  void testRPCBatchHandling() {
+    var rpcFactory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+
+    // construct the network handler that would usually process the requests
+    var rpcHandlerRegistry = new DefaultRPCHandlerRegistry();
+    var rpcNetworkHandler = new RPCPacketListener(rpcHandlerRegistry);
+    rpcHandlerRegistry.registerHandler(rpcFactory.newRPCHandlerBuilder(RPCHandlingTest.class)
+      .targetInstance(new RPCHandlingTestImpl())
+      .build());
+    rpcHandlerRegistry.registerHandler(rpcFactory.newRPCHandlerBuilder(RPCHandlingTestChained.class).build());
+
+    // mock the channel handling, the whole batch must be sent as a single query
+    var sentBatches = new AtomicInteger();
+    var mockedChannel = Mockito.mock(NetworkChannel.class);
+    var responseQueue = new LinkedBlockingQueue<Packet>();
+    Mockito
+      .doAnswer(invocation -> {
+        Packet batchRequest = invocation.getArgument(0);
+        batchRequest.uniqueId(UUID.randomUUID()); // usually QueryManager would take over this job
+        Assertions.assertEquals(NetworkConstants.INTERNAL_RPC_BATCH_COM_CHANNEL, batchRequest.channel());
+        sentBatches.incrementAndGet();
+        rpcNetworkHandler.handle(mockedChannel, batchRequest);
+        return TaskUtil.supplyAsync(responseQueue::take);
+      })
+      .when(mockedChannel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+    Mockito
+      .doAnswer(invocation -> {
+        Packet batchResponse = invocation.getArgument(0);
+        Assertions.assertEquals(-1, batchResponse.channel());
+        responseQueue.offer(batchResponse);
+        return null;
+      })
+      .when(mockedChannel)
+      .sendPacket(Mockito.any(Packet.class));
+
+    var handlingTestSender = rpcFactory.newRPCSenderBuilder(RPCHandlingTest.class)
+      .targetChannel(mockedChannel)
+      .build();
+    var handlingTestChainSender = rpcFactory.newRPCSenderBuilder(RPCHandlingTestChained.class)
+      .targetChannel(mockedChannel)
+      .build();
+
+    // add single rpc, a failing rpc and a rpc chain to the batch
+    var batch = rpcFactory.newRPCBatch();
+    var helloWorldDesc = MethodTypeDesc.of(ConstantDescs.CD_String, ConstantDescs.CD_long);
+    var helloWorldResult = batch.<String>add(handlingTestSender.invokeMethod("helloWorld", helloWorldDesc, 123L));
+    var roundDesc = MethodTypeDesc.of(ConstantDescs.CD_long, ConstantDescs.CD_double);
+    var roundResult = batch.<Long>add(handlingTestSender.invokeMethod("round", roundDesc, 189.793491));
+    var sumDesc = MethodTypeDesc.of(ConstantDescs.CD_long, ConstantDescs.CD_long, ConstantDescs.CD_int);
+    var sumResult = batch.add(handlingTestSender.invokeMethod("sum", sumDesc, Long.MAX_VALUE, 1024));
+
+    var cdHandlingTestChained = ClassDesc.of(RPCHandlingTestChained.class.getName());
+    var chainedTestDesc = MethodTypeDesc.of(cdHandlingTestChained, ConstantDescs.CD_short);
+    var chainTestRPC = handlingTestSender.invokeMethod("chainedTest", chainedTestDesc, (short) 235);
+    var addToCounterDesc = MethodTypeDesc.of(ConstantDescs.CD_double, ConstantDescs.CD_float);
+    var addToCounterRPC = handlingTestChainSender.invokeMethod("addToCounter", addToCounterDesc, 9.5F);
+    var chainResult = batch.<Double>add(chainTestRPC.join(addToCounterRPC));
+    Assertions.assertEquals(4, batch.size());
+
+    Assertions.assertDoesNotThrow(() -> batch.fire().get(10, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, sentBatches.get());
+    Assertions.assertEquals(0, batch.size());
+
+    Assertions.assertEquals("Hello World, for the 123. time!", helloWorldResult.join());
+    Assertions.assertEquals(190L, roundResult.join());
+    Assertions.assertEquals(249.5D, chainResult.join());
+
+    // a failing rpc does not affect the other rpc in the batch
+    var sumException = Assertions.assertThrows(CompletionException.class, sumResult::join);
+    Assertions.assertInstanceOf(RPCExecutionException.class, sumException.getCause());
+    Assertions.assertEquals("ArithmeticException: long overflow", sumException.getCause().getMessage());
+  }
+
+  @Test
+  void testForeignRPCIsRejected() {
+    var rpcFactory = new DefaultRPCFactory(DefaultObjectMapper.DEFAULT_MAPPER, DataBufFactory.defaultFactory());
+    var batch = rpcFactory.newRPCBatch();
+    var foreignRPC = Mockito.mock(RPC.class);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> batch.add(foreignRPC));
+    Assertions.assertEquals(0, batch.size());
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the network task schedulers under a blocking query load: each request task blocks until the response to its
+ * query was handled, the response tasks are scheduled into the same scheduler (without a limit, as done for query
+ * responses) after a simulated network delay. This is the load that is produced by packet listeners waiting for rpc
+ * results, for example during a mass service start.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class NetworkTaskSchedulerBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(NetworkTaskSchedulerBenchmarkTest.class);
+
+  private static final int QUERIES = 5_000;
+  private static final long RESPONSE_DELAY_MILLIS = 5;
+
+  private static long runBlockingQueryLoad(NetworkTaskScheduler scheduler) throws InterruptedException {
+    var delayer = Executors.newSingleThreadScheduledExecutor();
+    try {
+      var handledQueries = new CountDownLatch(QUERIES);
+      var startTime = System.nanoTime();
+      for (var query = 0; query < QUERIES; query++) {
+        scheduler.execute(() -> {
+          // send the query and block until the response was handled by the scheduler
+          var response = new CompletableFuture<Void>();
+          delayer.schedule(
+            () -> scheduler.executeUnlimited(() -> response.complete(null)),
+            RESPONSE_DELAY_MILLIS,
+            TimeUnit.MILLISECONDS);
+          response.join();
+          handledQueries.countDown();
+        });
+      }
+
+      Assertions.assertTrue(handledQueries.await(5, TimeUnit.MINUTES));
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    } finally {
+      delayer.shutdownNow();
+      scheduler.shutdown();
+    }
+  }
+
+  private static int liveThreadsAfter(NetworkTaskScheduler scheduler) throws InterruptedException {
+    var threadsBefore = Thread.activeCount();
+    runBlockingQueryLoad(scheduler);
+    return Math.max(0, Thread.activeCount() - threadsBefore);
+  }
+
+  @Test
+  void compareSchedulersUnderBlockingQueryLoad() throws InterruptedException {
+    // warmup both schedulers before measuring
+    runBlockingQueryLoad(new ScalingNetworkTaskScheduler(Executors.defaultThreadFactory(), 12));
+    runBlockingQueryLoad(new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 256));
+
+    var scalingMillis = runBlockingQueryLoad(new ScalingNetworkTaskScheduler(Executors.defaultThreadFactory(), 12));
+    var virtualMillis = runBlockingQueryLoad(new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 256));
+
+    // count the platform threads that are left behind by the schedulers (the fallback threads stay alive for a while)
+    var scalingThreads = liveThreadsAfter(new ScalingNetworkTaskScheduler(Executors.defaultThreadFactory(), 12));
+    var virtualThreads = liveThreadsAfter(new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 256));
+
+    LOGGER.info(
+      "{} blocking queries: scaling scheduler took {}ms ({} platform threads left), virtual scheduler took {}ms ({})",
+      QUERIES,
+      scalingMillis,
+      scalingThreads,
+      virtualMillis,
+      virtualThreads);
+  }
+}
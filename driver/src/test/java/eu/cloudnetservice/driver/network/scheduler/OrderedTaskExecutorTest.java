@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OrderedTaskExecutorTest {
+
+  @Test
+  void testTasksAreExecutedInOrder() throws InterruptedException {
+    try (var backingExecutor = Executors.newFixedThreadPool(4)) {
+      var executor = new OrderedTaskExecutor(backingExecutor);
+      var executedTasks = new CountDownLatch(1000);
+      var running = new AtomicInteger();
+      var concurrentExecution = new AtomicBoolean();
+      List<Integer> executionOrder = Collections.synchronizedList(new ArrayList<>());
+
+      for (var taskId = 0; taskId < 1000; taskId++) {
+        var id = taskId;
+        executor.execute(() -> {
+          // no other task of the executor is allowed to run at the same time
+          if (running.incrementAndGet() != 1) {
+            concurrentExecution.set(true);
+          }
+          executionOrder.add(id);
+          running.decrementAndGet();
+          executedTasks.countDown();
+        });
+      }
+
+      Assertions.assertTrue(executedTasks.await(30, TimeUnit.SECONDS));
+      Assertions.assertFalse(concurrentExecution.get());
+      for (var index = 0; index < executionOrder.size(); index++) {
+        Assertions.assertEquals(index, executionOrder.get(index));
+      }
+    }
+  }
+
+  @Test
+  void testExecutorsRunInParallel() throws InterruptedException {
+    try (var backingExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var blockedExecutor = new OrderedTaskExecutor(backingExecutor);
+      var otherExecutor = new OrderedTaskExecutor(backingExecutor);
+
+      // block the first executor until the task of the second executor was executed
+      var otherTaskExecuted = new CountDownLatch(1);
+      var blockedTaskFinished = new CountDownLatch(1);
+      blockedExecutor.execute(() -> {
+        try {
+          if (otherTaskExecuted.await(30, TimeUnit.SECONDS)) {
+            blockedTaskFinished.countDown();
+          }
+        } catch (InterruptedException _) {
+        }
+      });
+      otherExecutor.execute(otherTaskExecuted::countDown);
+
+      Assertions.assertTrue(blockedTaskFinished.await(30, TimeUnit.SECONDS));
+    }
+  }
+}
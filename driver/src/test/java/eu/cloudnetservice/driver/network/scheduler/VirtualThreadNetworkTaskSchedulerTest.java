@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadNetworkTaskSchedulerTest {
+
+  @Test
+  void testConcurrencyIsLimited() throws InterruptedException {
+    var scheduler = new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 2);
+
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var executedTasks = new CountDownLatch(20);
+    for (var taskId = 0; taskId < 20; taskId++) {
+      scheduler.execute(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(10);
+        } catch (InterruptedException _) {
+        }
+        running.decrementAndGet();
+        executedTasks.countDown();
+      });
+    }
+
+    Assertions.assertTrue(executedTasks.await(30, TimeUnit.SECONDS));
+    Assertions.assertTrue(maxRunning.get() <= 2);
+    scheduler.shutdown();
+  }
+
+  @Test
+  void testUnlimitedTasksRunWhilePermitsAreBlocked() throws InterruptedException {
+    var scheduler = new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 2);
+
+    // block all permits with tasks that wait for a task which is scheduled after them
+    var release = new CountDownLatch(1);
+    var blockedTasksFinished = new CountDownLatch(2);
+    for (var taskId = 0; taskId < 2; taskId++) {
+      scheduler.execute(() -> {
+        try {
+          if (release.await(30, TimeUnit.SECONDS)) {
+            blockedTasksFinished.countDown();
+          }
+        } catch (InterruptedException _) {
+        }
+      });
+    }
+    scheduler.executeUnlimited(release::countDown);
+
+    Assertions.assertTrue(blockedTasksFinished.await(30, TimeUnit.SECONDS));
+    scheduler.shutdown();
+  }
+
+  @Test
+  void testRejectsTasksAfterShutdown() {
+    var scheduler = new VirtualThreadNetworkTaskScheduler(Thread.ofVirtual().factory(), 2);
+    scheduler.shutdown();
+    Assertions.assertThrows(RejectedExecutionException.class, () -> scheduler.execute(() -> {
+    }));
+  }
+}
@@ -45,6 +45,7 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SequencedMap;
 import lombok.NonNull;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
@@ -77,8 +78,8 @@ public void convertOldDatabaseEntries(
     // read the first player from the database - if the first player is valid we don't need to take a look at the other
     // players in the database as they were already converted
     var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
-    var first = playerDb.readChunk(0, 1);
-    if (first != null && !first.isEmpty()) {
+    var first = playerDb.readChunk(null, 1);
+    if (!first.isEmpty()) {
       // validate the offline player
       var document = Iterables.getOnlyElement(first.values());
       var lastNetworkPlayerProxyInfo = document.readDocument("lastNetworkPlayerProxyInfo");
@@ -89,8 +90,10 @@ public void convertOldDatabaseEntries(
 
         // invalid player data - convert the database
         var convertedPlayers = 0;
-        Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        String previousKey = null;
+        SequencedMap<String, Document> chunkData;
+        while (!(chunkData = playerDb.readChunk(previousKey, 100)).isEmpty()) {
+          Map<String, Document> convertedChunk = new HashMap<>();
           for (var entry : chunkData.entrySet()) {
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
@@ -122,14 +125,20 @@ public void convertOldDatabaseEntries(
             valueCopy.remove("lastNetworkConnectionInfo");
 
             // update the entry
-            playerDb.insert(entry.getKey(), valueCopy);
+            convertedChunk.put(entry.getKey(), valueCopy);
           }
 
+          // write the converted chunk at once
+          playerDb.insertAll(convertedChunk);
+
           // check if the chunk size was exactly 100 players - if not we just completed the last chunk
           convertedPlayers += chunkData.size();
           if (chunkData.size() != 100) {
             break;
           }
+
+          // resume after the last converted player
+          previousKey = chunkData.lastEntry().getKey();
         }
 
         // notify about the completion
@@ -138,6 +147,12 @@ public void convertOldDatabaseEntries(
     }
   }
 
+  @ModuleTask(order = 31, lifecycle = ModuleLifeCycle.STARTED)
+  public void declarePlayerDatabaseIndexes(@NonNull NodeDatabaseProvider databaseProvider) {
+    // offline players are looked up by their name, index the field to prevent a full scan on each lookup
+    databaseProvider.database(BRIDGE_PLAYER_DB_NAME).declareIndex("name");
+  }
+
   @ModuleTask(order = 40, lifecycle = ModuleLifeCycle.LOADED)
   public void convertOldConfiguration() {
     // read the file & check if it is the old config version
@@ -26,9 +26,12 @@
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
 import eu.cloudnetservice.modules.bridge.node.player.NodePlayerManager;
+import eu.cloudnetservice.modules.bridge.player.CloudPlayer;
 import eu.cloudnetservice.node.event.service.CloudServicePostLifecycleEvent;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.NonNull;
 
 @Singleton
@@ -87,13 +90,18 @@ public void handleClusterServiceLifecycleChange(@NonNull CloudServiceLifecycleCh
 
   private void handleCloudServiceRemove(@NonNull ServiceInfoSnapshot snapshot) {
     if (ServiceEnvironmentType.minecraftProxy(snapshot.serviceId().environment())) {
-      // test if any player has the stopped service as the login service
+      // collect all players which have the stopped service as the login service
+      List<CloudPlayer> players = new ArrayList<>();
       for (var value : this.playerManager.players().values()) {
         if (value.loginService().serviceId().uniqueId().equals(snapshot.serviceId().uniqueId())) {
-          // the player was connected to that proxy, log him out now
-          this.playerManager.logoutPlayer(value);
+          players.add(value);
         }
       }
+
+      // the players were connected to that proxy, log them out now at once
+      if (!players.isEmpty()) {
+        this.playerManager.logoutPlayers(players);
+      }
     }
   }
 }
@@ -52,6 +52,8 @@
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -472,7 +474,39 @@ public void logoutPlayer(@NonNull CloudPlayer cloudPlayer) {
     }
   }
 
+  public void logoutPlayers(@NonNull Collection<CloudPlayer> cloudPlayers) {
+    // bulkGet returns the locks in a consistent order which prevents deadlocks with concurrent bulk logouts
+    var managementLocks = this.playerReadWriteLocks.bulkGet(cloudPlayers.stream().map(CloudPlayer::uniqueId).toList());
+    try {
+      // ensure only one update operation at a time, the locks are held until the database was updated to prevent a
+      // login in the meantime from being overridden by the offline players
+      managementLocks.forEach(Lock::lock);
+
+      // update the caches, then push all changes to the database in one batch
+      Map<String, Document> offlinePlayers = new HashMap<>();
+      for (var cloudPlayer : cloudPlayers) {
+        var offlinePlayer = this.processLogoutLocally(cloudPlayer);
+        offlinePlayers.put(offlinePlayer.uniqueId().toString(), Document.newJsonDocument().appendTree(offlinePlayer));
+      }
+      this.database().insertAll(offlinePlayers);
+    } finally {
+      managementLocks.forEach(Lock::unlock);
+    }
+
+    // notify about each logout
+    for (var cloudPlayer : cloudPlayers) {
+      this.notifyLogout(cloudPlayer);
+    }
+  }
+
   private void logoutPlayer0(@NonNull CloudPlayer cloudPlayer) {
+    var offlinePlayer = this.processLogoutLocally(cloudPlayer);
+    // push the change to the database
+    this.database().insert(offlinePlayer.uniqueId().toString(), Document.newJsonDocument().appendTree(offlinePlayer));
+    this.notifyLogout(cloudPlayer);
+  }
+
+  private @NonNull CloudOfflinePlayer processLogoutLocally(@NonNull CloudPlayer cloudPlayer) {
     // remove the player from the cache
     this.onlinePlayers.remove(cloudPlayer.uniqueId());
     cloudPlayer.lastNetworkPlayerProxyInfo(cloudPlayer.networkPlayerProxyInfo());
@@ -480,8 +514,10 @@ private void logoutPlayer0(@NonNull CloudPlayer cloudPlayer) {
     var offlinePlayer = CloudOfflinePlayer.offlineCopy(cloudPlayer);
     // update the offline version of the player into the cache
     this.pushOfflinePlayerCache(cloudPlayer.uniqueId(), offlinePlayer);
-    // push the change to the database
-    this.database().insert(offlinePlayer.uniqueId().toString(), Document.newJsonDocument().appendTree(offlinePlayer));
+    return offlinePlayer;
+  }
+
+  private void notifyLogout(@NonNull CloudPlayer cloudPlayer) {
     // notify the cluster
     ChannelMessage.builder()
       .targetAll()
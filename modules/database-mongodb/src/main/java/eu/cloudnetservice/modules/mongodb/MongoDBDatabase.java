@@ -17,11 +17,16 @@
 package eu.cloudnetservice.modules.mongodb;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
@@ -29,8 +34,12 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.bson.conversions.Bson;
@@ -43,18 +52,42 @@ public class MongoDBDatabase extends AbstractDatabase {
 
   protected static final IndexOptions UNIQUE_KEY_OPTIONS = new IndexOptions().unique(true);
   protected static final UpdateOptions INSERT_OR_REPLACE_OPTIONS = new UpdateOptions().upsert(true);
+  protected static final BulkWriteOptions UNORDERED_BULK_WRITE_OPTIONS = new BulkWriteOptions().ordered(false);
+
+  protected static final Bson KEY_ONLY_PROJECTION = Projections.fields(
+    Projections.include(KEY_NAME),
+    Projections.excludeId());
 
   protected final MongoCollection<org.bson.Document> collection;
+  protected final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
 
   protected MongoDBDatabase(
     @NonNull String name,
     @NonNull MongoCollection<org.bson.Document> collection,
+    @NonNull Collection<String> indexedFields,
     @NonNull NodeDatabaseProvider provider
   ) {
     super(name, provider);
 
     this.collection = collection;
     this.collection.createIndex(Indexes.ascending(KEY_NAME), UNIQUE_KEY_OPTIONS);
+
+    // load the indexes on value fields that were already created and create the missing ones for the configured fields
+    try (var cursor = this.collection.listIndexes().iterator()) {
+      while (cursor.hasNext()) {
+        var indexKeys = cursor.next().get("key", org.bson.Document.class);
+        if (indexKeys != null && indexKeys.size() == 1) {
+          var indexedPath = indexKeys.keySet().iterator().next();
+          if (indexedPath.startsWith(VALUE_NAME + '.')) {
+            this.indexedFields.add(indexedPath.substring(VALUE_NAME.length() + 1));
+          }
+        }
+      }
+    }
+
+    for (var indexedField : indexedFields) {
+      this.declareIndex(indexedField);
+    }
   }
 
   @Override
@@ -62,20 +95,43 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
     return this.insertOrUpdate(key, document);
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    List<WriteModel<org.bson.Document>> writes = new ArrayList<>(entries.size());
+    for (var entry : entries.entrySet()) {
+      writes.add(new UpdateOneModel<>(
+        Filters.eq(KEY_NAME, entry.getKey()),
+        this.insertOrUpdateOperation(entry.getKey(), entry.getValue()),
+        INSERT_OR_REPLACE_OPTIONS));
+    }
+
+    // send all writes in a single unordered bulk operation instead of one round trip per entry
+    var result = this.collection.bulkWrite(writes, UNORDERED_BULK_WRITE_OPTIONS);
+    return result.getMatchedCount() + result.getUpserts().size() == entries.size();
+  }
+
   protected boolean insertOrUpdate(String key, Document document) {
     var result = this.collection.updateOne(
       Filters.eq(KEY_NAME, key),
-      Updates.combine(
-        Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
-        Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document)))
-      ),
+      this.insertOrUpdateOperation(key, document),
       INSERT_OR_REPLACE_OPTIONS);
     return result.getUpsertedId() != null || result.getMatchedCount() > 0;
   }
 
+  protected @NonNull Bson insertOrUpdateOperation(@NonNull String key, @NonNull Document document) {
+    return Updates.combine(
+      Updates.setOnInsert(new org.bson.Document(KEY_NAME, key)),
+      Updates.set(VALUE_NAME, org.bson.Document.parse(this.serializeDocumentToJsonString(document))));
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
-    return this.collection.find(Filters.eq(KEY_NAME, key)).first() != null;
+    // only the key is needed which can be read from the key index, there is no need to load the document
+    return this.collection.find(Filters.eq(KEY_NAME, key)).projection(KEY_ONLY_PROJECTION).first() != null;
   }
 
   @Override
@@ -83,6 +139,15 @@ public boolean delete(@NonNull String key) {
     return this.collection.deleteOne(Filters.eq(KEY_NAME, key)).getDeletedCount() > 0;
   }
 
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    return this.collection.deleteMany(Filters.in(KEY_NAME, keys)).getDeletedCount();
+  }
+
   @Override
   public @Nullable Document get(@NonNull String key) {
     var document = this.collection.find(Filters.eq(KEY_NAME, key)).first();
@@ -129,7 +194,7 @@ public boolean delete(@NonNull String key) {
   @Override
   public @NonNull Collection<String> keys() {
     Collection<String> keys = new ArrayList<>();
-    try (var cursor = this.collection.find().iterator()) {
+    try (var cursor = this.collection.find().projection(KEY_ONLY_PROJECTION).iterator()) {
       while (cursor.hasNext()) {
         keys.add(cursor.next().getString(KEY_NAME));
       }
@@ -171,7 +236,15 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer) {
-    this.entries().forEach(consumer);
+    try (var cursor = this.collection.find().iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          consumer.accept(document.getString(KEY_NAME), parsedDocument);
+        }
+      }
+    }
   }
 
   @Override
@@ -191,14 +264,15 @@ public boolean synced() {
 
   @Override
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
-    Map<String, Document> result = new HashMap<>();
-    try (var cursor = this.collection.find().skip((int) beginIndex).limit(chunkSize).iterator()) {
+    // offset based reads need to skip all previous entries, sequential reads should use the keyset based read instead
+    Map<String, Document> result = new LinkedHashMap<>();
+    var query = this.collection.find().sort(Sorts.ascending(KEY_NAME)).skip((int) beginIndex).limit(chunkSize);
+    try (var cursor = query.iterator()) {
       while (cursor.hasNext()) {
         var document = cursor.next();
         var parsedDocument = this.parseDocumentValue(document);
         if (parsedDocument != null) {
-          var entryKey = document.getString(KEY_NAME);
-          result.put(entryKey, parsedDocument);
+          result.put(document.getString(KEY_NAME), parsedDocument);
         }
       }
     }
@@ -206,6 +280,60 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @NonNull SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize) {
+    this.validateChunkSize(chunkSize);
+
+    var lastKey = previousKey;
+    SequencedMap<String, Document> result = new LinkedHashMap<>();
+    while (true) {
+      var remaining = chunkSize - result.size();
+      var filter = lastKey == null ? new org.bson.Document() : Filters.gt(KEY_NAME, lastKey);
+
+      var readDocuments = 0;
+      try (var cursor = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(remaining).iterator()) {
+        while (cursor.hasNext()) {
+          var document = cursor.next();
+          lastKey = document.getString(KEY_NAME);
+          readDocuments++;
+
+          var parsedDocument = this.parseDocumentValue(document);
+          if (parsedDocument != null) {
+            result.put(lastKey, parsedDocument);
+          }
+        }
+      }
+
+      // documents without a value are skipped, continue after the last read key to not return a short chunk which
+      // would end the iteration of the caller even though there are more entries
+      if (readDocuments < remaining || result.size() == chunkSize) {
+        return result;
+      }
+    }
+  }
+
+  @Override
+  public boolean declareIndex(@NonNull String fieldName) {
+    if (this.indexedFields.contains(fieldName)) {
+      return true;
+    }
+
+    // field names starting with a dollar sign are operators and cannot be indexed
+    if (fieldName.isEmpty() || fieldName.startsWith("$")) {
+      return false;
+    }
+
+    // creating an index which already exists (for example created by another node) has no effect
+    this.collection.createIndex(Indexes.ascending(VALUE_NAME + '.' + fieldName));
+    this.indexedFields.add(fieldName);
+    return true;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return Set.copyOf(this.indexedFields);
+  }
+
   @Override
   public void close() {
   }
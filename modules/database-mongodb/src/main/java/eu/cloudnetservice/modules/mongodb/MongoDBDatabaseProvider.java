@@ -55,7 +55,7 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> {
       var collection = this.mongoDatabase.getCollection(name);
-      return new MongoDBDatabase(name, collection, this);
+      return this.withDocumentCache(new MongoDBDatabase(name, collection, this.config.indexedFields(name), this));
     });
   }
 
@@ -19,7 +19,10 @@
 import com.google.common.base.Strings;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
+import lombok.NonNull;
 import lombok.ToString;
 
 @ToString
@@ -39,6 +42,8 @@ public class MongoDBConnectionConfig {
 
   private final String overridingConnectionUri;
 
+  private final Map<String, List<String>> indexedFields;
+
   public MongoDBConnectionConfig() {
     this(
       "mongodb",
@@ -48,7 +53,8 @@ public MongoDBConnectionConfig() {
       "cloudnet",
       "",
       "cn_db",
-      null
+      null,
+      Map.of("cloudnet_cloud_players", List.of("name", "lastNetworkPlayerProxyInfo.xBoxId"))
     );
   }
 
@@ -61,6 +67,29 @@ public MongoDBConnectionConfig(
     String password,
     String database,
     String overridingConnectionUri
+  ) {
+    this(
+      databaseServiceName,
+      host,
+      port,
+      authSource,
+      username,
+      password,
+      database,
+      overridingConnectionUri,
+      null);
+  }
+
+  public MongoDBConnectionConfig(
+    String databaseServiceName,
+    String host,
+    int port,
+    String authSource,
+    String username,
+    String password,
+    String database,
+    String overridingConnectionUri,
+    Map<String, List<String>> indexedFields
   ) {
     this.databaseServiceName = databaseServiceName;
     this.host = host;
@@ -70,6 +99,7 @@ public MongoDBConnectionConfig(
     this.password = password;
     this.database = database;
     this.overridingConnectionUri = overridingConnectionUri;
+    this.indexedFields = indexedFields;
   }
 
   public String databaseServiceName() {
@@ -104,6 +134,11 @@ public String overridingConnectionUri() {
     return this.overridingConnectionUri;
   }
 
+  public @NonNull List<String> indexedFields(@NonNull String databaseName) {
+    // the indexed fields are missing in configurations written before they were introduced
+    return this.indexedFields == null ? List.of() : this.indexedFields.getOrDefault(databaseName, List.of());
+  }
+
   public String buildConnectionUri() {
     if (!Strings.isNullOrEmpty(this.overridingConnectionUri)) {
       return this.overridingConnectionUri;
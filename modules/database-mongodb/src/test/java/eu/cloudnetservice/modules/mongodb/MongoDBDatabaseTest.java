@@ -47,7 +47,8 @@ void setup() throws Exception {
       "",
       "",
       "cn_db",
-      null));
+      null,
+      Map.of("indexed", List.of("name"))));
     this.databaseProvider.init();
   }
 
@@ -171,4 +172,64 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("indexed");
+    Assertions.assertNotNull(database);
+    Assertions.assertEquals(List.of("name"), List.copyOf(database.indexedFields()));
+
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.declareIndex("uniqueId"));
+    Assertions.assertFalse(database.declareIndex("$name"));
+
+    var found = database.find("name", "derklaro");
+    Assertions.assertEquals(1, found.size());
+    Assertions.assertEquals("derklaro", found.iterator().next().getString("name"));
+
+    Assertions.assertTrue(database.contains("2"));
+    Assertions.assertFalse(database.contains("3"));
+    Assertions.assertEquals(List.of("1", "2"), database.keys().stream().sorted().toList());
+
+    // the declared indexes are loaded again when the database is opened again
+    var reopened = new MongoDBDatabase(
+      "indexed",
+      this.databaseProvider.mongoDatabase.getCollection("indexed"),
+      List.of(),
+      this.databaseProvider);
+    Assertions.assertTrue(reopened.indexedFields().containsAll(List.of("name", "uniqueId")));
+  }
+
+  @Test
+  void testNonSequentialChunkRead() {
+    var database = this.databaseProvider.database("test");
+    for (var i = 0; i < 10; i++) {
+      database.insert("key_" + i, Document.newJsonDocument().append("index", i));
+    }
+
+    Assertions.assertEquals(List.of("key_0", "key_1", "key_2"), List.copyOf(database.readChunk(0, 3).keySet()));
+    Assertions.assertEquals(List.of("key_3", "key_4", "key_5"), List.copyOf(database.readChunk(3, 3).keySet()));
+    Assertions.assertEquals(List.of("key_8", "key_9"), List.copyOf(database.readChunk(8, 3).keySet()));
+    Assertions.assertEquals(List.of("key_6", "key_7", "key_8"), List.copyOf(database.readChunk(6, 3).keySet()));
+    Assertions.assertNull(database.readChunk(10, 3));
+  }
+
+  @Test
+  void testKeysetChunkReadSkipsDocumentsWithoutValue() {
+    var database = this.databaseProvider.database("test");
+    for (var i = 0; i < 4; i++) {
+      database.insert("key_" + i, Document.newJsonDocument().append("index", i));
+    }
+
+    // documents without a value cannot be parsed and must not cut the chunk short
+    var collection = this.databaseProvider.mongoDatabase.getCollection("test");
+    collection.insertOne(new org.bson.Document(MongoDBDatabase.KEY_NAME, "key_0a"));
+    collection.insertOne(new org.bson.Document(MongoDBDatabase.KEY_NAME, "key_0b"));
+
+    var firstChunk = database.readChunk(null, 3);
+    Assertions.assertEquals(List.of("key_0", "key_1", "key_2"), List.copyOf(firstChunk.keySet()));
+    Assertions.assertEquals(List.of("key_3"), List.copyOf(database.readChunk("key_2", 3).keySet()));
+    Assertions.assertTrue(database.readChunk("key_3", 3).isEmpty());
+  }
 }
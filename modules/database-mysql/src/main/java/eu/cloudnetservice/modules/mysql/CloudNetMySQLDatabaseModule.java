@@ -25,15 +25,20 @@
 import eu.cloudnetservice.driver.registry.ServiceRegistry;
 import eu.cloudnetservice.modules.mysql.config.MySQLConfiguration;
 import eu.cloudnetservice.modules.mysql.config.MySQLConnectionEndpoint;
+import eu.cloudnetservice.modules.mysql.config.MySQLPoolConfiguration;
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import io.leangen.geantyref.TypeFactory;
 import jakarta.inject.Singleton;
 import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
 
 @Singleton
 public final class CloudNetMySQLDatabaseModule extends DriverModule {
 
+  private static final Map<String, List<String>> DEFAULT_INDEXED_FIELDS = Map.of(
+    "cloudnet_cloud_players", List.of("name", "lastNetworkPlayerProxyInfo.xBoxId"));
+
   private volatile MySQLConfiguration configuration;
 
   @ModuleTask(order = 127, lifecycle = ModuleLifeCycle.LOADED)
@@ -45,7 +50,9 @@ public void convertConfig() {
         config.getString("username"),
         config.getString("password"),
         config.getString("database"),
-        config.readObject("addresses", TypeFactory.parameterizedClass(List.class, MySQLConnectionEndpoint.class))
+        config.readObject("addresses", TypeFactory.parameterizedClass(List.class, MySQLConnectionEndpoint.class)),
+        DEFAULT_INDEXED_FIELDS,
+        MySQLPoolConfiguration.DEFAULT
       )));
     }
   }
@@ -58,7 +65,9 @@ public void registerDatabaseProvider(@NonNull ServiceRegistry serviceRegistry) {
         "root",
         "123456",
         "mysql",
-        List.of(new MySQLConnectionEndpoint("cloudnet", new HostAndPort("127.0.0.1", 3306)))),
+        List.of(new MySQLConnectionEndpoint("cloudnet", new HostAndPort("127.0.0.1", 3306))),
+        DEFAULT_INDEXED_FIELDS,
+        MySQLPoolConfiguration.DEFAULT),
       DocumentFactory.json());
 
     serviceRegistry.registerProvider(
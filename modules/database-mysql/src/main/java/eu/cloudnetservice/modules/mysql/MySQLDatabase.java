@@ -20,23 +20,57 @@
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
 import eu.cloudnetservice.node.database.sql.SQLDatabaseProvider;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.SequencedMap;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class MySQLDatabase extends SQLDatabase {
 
-  public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
+  private static final String INDEX_COLUMN_PREFIX = "cn_idx_";
+  private static final int INDEX_COLUMN_LENGTH = 255;
+  private static final Pattern VALID_FIELD_PATH_SEGMENT = Pattern.compile("[^\\\\\"'`]+");
+
+  // field path -> name of the generated column which holds the value of the field
+  private final Map<String, String> indexColumns = new ConcurrentHashMap<>();
+
+  private final String upsertDocumentQuery;
+  private final String deleteDocumentQuery;
+  private final String clearDocumentsQuery;
+  private final String selectChunkQuery;
+
+  public MySQLDatabase(
+    @NonNull SQLDatabaseProvider provider,
+    @NonNull String name,
+    @NonNull Collection<String> indexedFields
+  ) {
     super(provider, name);
 
+    this.upsertDocumentQuery = String.format(
+      "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
+      name,
+      TABLE_COLUMN_KEY,
+      TABLE_COLUMN_VAL,
+      TABLE_COLUMN_VAL);
+    this.deleteDocumentQuery = String.format("DELETE FROM `%s` WHERE `%s` = ?;", name, TABLE_COLUMN_KEY);
+    this.clearDocumentsQuery = String.format("TRUNCATE TABLE `%s`;", name);
+    this.selectChunkQuery = String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ? OFFSET ?;", name, TABLE_COLUMN_KEY);
+
     // create the table
     provider.executeUpdate(String.format(
       "CREATE TABLE IF NOT EXISTS `%s` (%s VARCHAR(512) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci PRIMARY KEY, %s JSON NOT NULL);",
@@ -49,25 +83,127 @@ public MySQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // load the generated columns that were already created and create the missing ones for the configured fields
+    this.loadIndexColumns();
+    for (var indexedField : indexedFields) {
+      this.declareIndex(indexedField);
+    }
+  }
+
+  private static @NonNull String jsonPath(@NonNull String fieldPath) {
+    // quote all path segments, quotes and backslashes in field names are escaped the same way as in a json string
+    var pathBuilder = new StringBuilder("$");
+    for (var segment : fieldPath.split("\\.", -1)) {
+      var escapedSegment = segment.replace("\\", "\\\\").replace("\"", "\\\"");
+      pathBuilder.append(".\"").append(escapedSegment).append('"');
+    }
+
+    return pathBuilder.toString();
+  }
+
+  private static boolean indexableFieldPath(@NonNull String fieldPath) {
+    // the json path and the field path are written into the statement that creates the generated column, only allow
+    // paths that do not need to be escaped in the statement
+    for (var segment : fieldPath.split("\\.", -1)) {
+      if (!VALID_FIELD_PATH_SEGMENT.matcher(segment).matches()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static @NonNull String indexColumnName(@NonNull String fieldPath) {
+    try {
+      // hash the path to get a valid column name which is shorter than the mysql limit of 64 characters
+      var digest = MessageDigest.getInstance("SHA-256").digest(fieldPath.getBytes(StandardCharsets.UTF_8));
+      return INDEX_COLUMN_PREFIX + HexFormat.of().formatHex(digest, 0, 12);
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException("SHA-256 is not supported by the runtime", exception);
+    }
+  }
+
+  private void loadIndexColumns() {
+    this.databaseProvider.executeQuery(
+      "SELECT COLUMN_NAME, COLUMN_COMMENT FROM INFORMATION_SCHEMA.COLUMNS "
+        + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME LIKE ?;",
+      resultSet -> {
+        while (resultSet.next()) {
+          // the comment of the generated column holds the path of the indexed field
+          this.indexColumns.put(resultSet.getString("COLUMN_COMMENT"), resultSet.getString("COLUMN_NAME"));
+        }
+        return null;
+      },
+      null,
+      this.name, INDEX_COLUMN_PREFIX.replace("_", "\\_") + "%");
+  }
+
+  @Override
+  public boolean declareIndex(@NonNull String fieldName) {
+    if (this.indexColumns.containsKey(fieldName)) {
+      return true;
+    }
+
+    if (!indexableFieldPath(fieldName)) {
+      return false;
+    }
+
+    // the generated column holds a prefix of the field value, queries compare the full value after selecting the
+    // candidates using the index. The value must be cut off as values longer than the column would fail inserts
+    var columnName = indexColumnName(fieldName);
+    this.databaseProvider.executeUpdate(String.format(
+      "ALTER TABLE `%s` ADD COLUMN `%s` VARCHAR(%d) AS (LEFT(JSON_UNQUOTE(JSON_EXTRACT(%s, '%s')), %d)) VIRTUAL "
+        + "COMMENT '%s', ADD INDEX `%s` (`%s`);",
+      this.name,
+      columnName,
+      INDEX_COLUMN_LENGTH,
+      TABLE_COLUMN_VAL,
+      jsonPath(fieldName),
+      INDEX_COLUMN_LENGTH,
+      fieldName,
+      columnName,
+      columnName));
+
+    // re-read the columns, another node might have created the column concurrently which lets the statement fail
+    this.loadIndexColumns();
+    return this.indexColumns.containsKey(fieldName);
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return List.copyOf(this.indexColumns.keySet());
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
     var serializedDocument = this.serializeDocumentToJsonString(document);
     return this.databaseProvider.executeUpdate(
-      String.format(
-        "INSERT INTO `%s` (%s, %s) VALUES (?, ?) ON DUPLICATE KEY UPDATE %s = ?;",
-        this.name,
-        TABLE_COLUMN_KEY,
-        TABLE_COLUMN_VAL,
-        TABLE_COLUMN_VAL),
+      this.upsertDocumentQuery,
       key, serializedDocument, serializedDocument) > 0;
   }
 
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    Collection<Object[]> batchArguments = new ArrayList<>(entries.size());
+    for (var entry : entries.entrySet()) {
+      var serializedDocument = this.serializeDocumentToJsonString(entry.getValue());
+      batchArguments.add(new Object[]{entry.getKey(), serializedDocument, serializedDocument});
+    }
+
+    return this.databaseProvider.executeBatchUpdate(
+      this.upsertDocumentQuery,
+      batchArguments) != -1;
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_KEY, this.name, TABLE_COLUMN_KEY),
+      this.selectKeyQuery,
       ResultSet::next,
       false,
       key);
@@ -76,14 +212,31 @@ public boolean contains(@NonNull String key) {
   @Override
   public boolean delete(@NonNull String key) {
     return this.databaseProvider.executeUpdate(
-      String.format("DELETE FROM %s WHERE `%s` = ?;", this.name, TABLE_COLUMN_KEY),
+      this.deleteDocumentQuery,
       key) > 0;
   }
 
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    Collection<Object[]> batchArguments = new ArrayList<>(keys.size());
+    for (var key : keys) {
+      batchArguments.add(new Object[]{key});
+    }
+
+    var removed = this.databaseProvider.executeBatchUpdate(
+      this.deleteDocumentQuery,
+      batchArguments);
+    return Math.max(removed, 0);
+  }
+
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?;", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_KEY),
+      this.selectDocumentQuery,
       resultSet -> {
         if (resultSet.next()) {
           return DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
@@ -95,62 +248,55 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
-    return this.databaseProvider.executeQuery(
-      String.format(
-        "SELECT %s FROM `%s` WHERE JSON_SEARCH(%s, 'one', '%s', NULL, '$.%s') IS NOT NULL;",
-        TABLE_COLUMN_VAL,
-        this.name,
-        TABLE_COLUMN_VAL,
-        Objects.toString(fieldValue).replaceAll("([_%])", "\\\\$1"),
-        fieldName),
-      resultSet -> {
-        List<Document> results = new ArrayList<>();
-        while (resultSet.next()) {
-          results.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
-        }
-
-        return results;
-      }, List.of());
+    return this.find(Collections.singletonMap(fieldName, fieldValue));
   }
 
   @Override
   public @NonNull Collection<Document> find(@NonNull Map<String, String> filters) {
-    var stringBuilder = new StringBuilder("SELECT ")
-      .append(TABLE_COLUMN_VAL)
-      .append(" FROM `")
-      .append(this.name)
-      .append('`');
-
-    if (!filters.isEmpty()) {
-      stringBuilder.append(" WHERE ");
-      var iterator = filters.entrySet().iterator();
-      while (iterator.hasNext()) {
-        var entry = iterator.next();
-        stringBuilder
-          .append("JSON_SEARCH(")
-          .append(TABLE_COLUMN_VAL)
-          .append(", 'one', '")
-          .append(entry.getValue().replaceAll("([_%])", "\\\\$1"))
-          .append("', NULL, '$.")
-          .append(entry.getKey())
-          .append("') IS NOT NULL")
-          .append(iterator.hasNext() ? " AND " : ';');
+    List<Object> arguments = new ArrayList<>();
+    var query = new StringBuilder("SELECT ").append(TABLE_COLUMN_VAL).append(" FROM `").append(this.name).append('`');
+
+    var firstFilter = true;
+    for (var filter : filters.entrySet()) {
+      query.append(firstFilter ? " WHERE " : " AND ");
+      firstFilter = false;
+
+      var jsonPath = jsonPath(filter.getKey());
+      if (filter.getValue() == null) {
+        // a null value matches all documents which have no string value for the field
+        query.append("NOT (JSON_TYPE(JSON_EXTRACT(").append(TABLE_COLUMN_VAL).append(", ?)) <=> 'STRING')");
+        arguments.add(jsonPath);
+        continue;
+      }
+
+      // select the candidates using the index if there is a generated column for the field
+      var indexColumn = this.indexColumns.get(filter.getKey());
+      if (indexColumn != null) {
+        query.append('`').append(indexColumn).append("` = LEFT(?, ").append(INDEX_COLUMN_LENGTH).append(") AND ");
+        arguments.add(filter.getValue());
       }
+
+      // only match string values, the same as Document#getString does
+      query.append("JSON_TYPE(JSON_EXTRACT(").append(TABLE_COLUMN_VAL).append(", ?)) = 'STRING' AND ")
+        .append("JSON_UNQUOTE(JSON_EXTRACT(").append(TABLE_COLUMN_VAL).append(", ?)) = ?");
+      arguments.add(jsonPath);
+      arguments.add(jsonPath);
+      arguments.add(filter.getValue());
     }
 
-    return this.databaseProvider.executeQuery(stringBuilder.toString(), resultSet -> {
+    return this.databaseProvider.executeQuery(query.append(';').toString(), resultSet -> {
       List<Document> results = new ArrayList<>();
       while (resultSet.next()) {
         results.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
       }
 
       return results;
-    }, List.of());
+    }, List.of(), arguments.toArray());
   }
 
   @Override
   public @NonNull Collection<String> keys() {
-    return this.databaseProvider.executeQuery(String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_KEY, this.name),
+    return this.databaseProvider.executeQuery(this.selectKeysQuery,
       resultSet -> {
         List<String> results = new ArrayList<>();
         while (resultSet.next()) {
@@ -163,7 +309,7 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull Collection<Document> documents() {
-    return this.databaseProvider.executeQuery(String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_VAL, this.name),
+    return this.databaseProvider.executeQuery(this.selectDocumentsQuery,
       resultSet -> {
         List<Document> results = new ArrayList<>();
         while (resultSet.next()) {
@@ -176,7 +322,7 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public @NonNull Map<String, Document> entries() {
-    return this.databaseProvider.executeQuery(String.format("SELECT * FROM `%s`;", this.name), resultSet -> {
+    return this.databaseProvider.executeQuery(this.selectEntriesQuery, resultSet -> {
       Map<String, Document> results = new HashMap<>();
       while (resultSet.next()) {
         results.put(
@@ -190,12 +336,12 @@ public boolean delete(@NonNull String key) {
 
   @Override
   public void clear() {
-    this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`;", this.name));
+    this.databaseProvider.executeUpdate(this.clearDocumentsQuery);
   }
 
   @Override
   public long documentCount() {
-    return this.databaseProvider.executeQuery("SELECT COUNT(*) FROM `" + this.name + "`;", resultSet -> {
+    return this.databaseProvider.executeQuery(this.countDocumentsQuery, resultSet -> {
       if (resultSet.next()) {
         return resultSet.getLong(1);
       }
@@ -211,7 +357,7 @@ public boolean synced() {
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer) {
     this.databaseProvider.executeQuery(
-      String.format("SELECT * FROM `%s`;", this.name),
+      this.selectEntriesQuery,
       resultSet -> {
         while (resultSet.next()) {
           var key = resultSet.getString(TABLE_COLUMN_KEY);
@@ -226,7 +372,7 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
   @Override
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ? OFFSET ?;", this.name, TABLE_COLUMN_KEY),
+      this.selectChunkQuery,
       resultSet -> {
         Map<String, Document> result = new HashMap<>();
         while (resultSet.next()) {
@@ -239,6 +385,26 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
       }, null, chunkSize, beginIndex);
   }
 
+  @Override
+  public @NonNull SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize) {
+    this.validateChunkSize(chunkSize);
+    var query = previousKey == null ? this.selectFirstChunkQuery : this.selectNextChunkQuery;
+    var arguments = previousKey == null ? new Object[]{chunkSize} : new Object[]{previousKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        SequencedMap<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result;
+      }, new LinkedHashMap<>(), arguments);
+  }
+
   @Override
   public void close() {
   }
@@ -52,6 +52,7 @@ public MySQLDatabaseProvider(
   public boolean init() {
     var hikariConfig = new HikariConfig();
     var endpoint = this.config.randomEndpoint();
+    var poolConfig = this.config.poolConfiguration();
 
     hikariConfig.setJdbcUrl(String.format(
       CONNECT_URL_FORMAT,
@@ -61,7 +62,7 @@ public boolean init() {
     hikariConfig.setPassword(this.config.password());
 
     hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
-    hikariConfig.addDataSourceProperty("prepStmtCacheSize", "250");
+    hikariConfig.addDataSourceProperty("prepStmtCacheSize", poolConfig.preparedStatementCacheSize());
     hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
     hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
     hikariConfig.addDataSourceProperty("useLocalSessionState", "true");
@@ -71,10 +72,12 @@ public boolean init() {
     hikariConfig.addDataSourceProperty("elideSetAutoCommits", "true");
     hikariConfig.addDataSourceProperty("maintainTimeStats", "false");
 
-    hikariConfig.setMinimumIdle(2);
-    hikariConfig.setMaximumPoolSize(100);
-    hikariConfig.setConnectionTimeout(10_000);
-    hikariConfig.setValidationTimeout(10_000);
+    hikariConfig.setMinimumIdle(poolConfig.minimumIdle());
+    hikariConfig.setMaximumPoolSize(poolConfig.maximumPoolSize());
+    hikariConfig.setConnectionTimeout(poolConfig.connectionTimeout());
+    hikariConfig.setValidationTimeout(poolConfig.validationTimeout());
+    hikariConfig.setIdleTimeout(poolConfig.idleTimeout());
+    hikariConfig.setMaxLifetime(poolConfig.maxLifetime());
 
     this.hikariDataSource = new HikariDataSource(hikariConfig);
     return true;
@@ -82,11 +85,15 @@ public boolean init() {
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> new MySQLDatabase(this, name));
+    return this.databaseCache.get(name, $ -> {
+      var database = new MySQLDatabase(this, name, this.config.indexedFields(name));
+      return this.withDocumentCache(database);
+    });
   }
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
+    this.databaseCache.invalidate(name);
     return this.executeUpdate(String.format("DROP TABLE IF EXISTS `%s`;", name)) != -1;
   }
 
@@ -142,6 +149,16 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batchArguments) {
+    try (var con = this.connection()) {
+      return this.executeBatchUpdate(con, query, batchArguments);
+    } catch (SQLException exception) {
+      LOGGER.error("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
   @Override
   public <T> @UnknownNullability T executeQuery(
     @NonNull String query,
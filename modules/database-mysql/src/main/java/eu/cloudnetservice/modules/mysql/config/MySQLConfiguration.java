@@ -17,16 +17,30 @@
 package eu.cloudnetservice.modules.mysql.config;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public record MySQLConfiguration(
   @NonNull String username,
   @NonNull String password,
   @NonNull String databaseServiceName,
-  @NonNull List<MySQLConnectionEndpoint> endpoints
+  @NonNull List<MySQLConnectionEndpoint> endpoints,
+  @Nullable Map<String, List<String>> indexedFields,
+  @Nullable MySQLPoolConfiguration pool
 ) {
 
+  public @NonNull MySQLPoolConfiguration poolConfiguration() {
+    // the pool settings are missing in configurations written before they were introduced
+    return this.pool == null ? MySQLPoolConfiguration.DEFAULT : this.pool;
+  }
+
+  public @NonNull List<String> indexedFields(@NonNull String databaseName) {
+    // the indexed fields are missing in configurations written before they were introduced
+    return this.indexedFields == null ? List.of() : this.indexedFields.getOrDefault(databaseName, List.of());
+  }
+
   public @NonNull MySQLConnectionEndpoint randomEndpoint() {
     // check if there are any endpoints
     if (this.endpoints.isEmpty()) {
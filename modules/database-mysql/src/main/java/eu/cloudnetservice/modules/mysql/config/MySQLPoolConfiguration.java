@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.modules.mysql.config;
+
+public record MySQLPoolConfiguration(
+  int minimumIdle,
+  int maximumPoolSize,
+  long connectionTimeout,
+  long validationTimeout,
+  long idleTimeout,
+  long maxLifetime,
+  int preparedStatementCacheSize
+) {
+
+  public static final MySQLPoolConfiguration DEFAULT = new MySQLPoolConfiguration(
+    2,
+    100,
+    10_000,
+    10_000,
+    600_000,
+    1_800_000,
+    250);
+}
@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.modules.mysql.config.MySQLConfiguration;
 import eu.cloudnetservice.modules.mysql.config.MySQLConnectionEndpoint;
+import eu.cloudnetservice.modules.mysql.config.MySQLPoolConfiguration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -53,7 +54,9 @@ void setup() {
       "mysql",
       List.of(new MySQLConnectionEndpoint(
         "cn_testing",
-        new HostAndPort(this.mysqlContainer.getHost(), this.mysqlContainer.getFirstMappedPort())))),
+        new HostAndPort(this.mysqlContainer.getHost(), this.mysqlContainer.getFirstMappedPort()))),
+      Map.of("indexed", List.of("name", "proxy.xBoxId")),
+      new MySQLPoolConfiguration(1, 10, 10_000, 10_000, 600_000, 1_800_000, 250)),
       null);
     this.databaseProvider.init();
   }
@@ -144,6 +147,42 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("indexed");
+    Assertions.assertNotNull(database);
+    Assertions.assertTrue(database.indexedFields().containsAll(List.of("name", "proxy.xBoxId")));
+
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument()
+      .append("name", "derklaro")
+      .append("proxy", Document.newJsonDocument().append("xBoxId", "1234"))));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", 1234)));
+
+    var byName = database.find("name", "derklaro");
+    Assertions.assertEquals(1, byName.size());
+    Assertions.assertEquals("derklaro", byName.iterator().next().getString("name"));
+
+    var byNestedField = database.find("proxy.xBoxId", "1234");
+    Assertions.assertEquals(1, byNestedField.size());
+    Assertions.assertEquals("derklaro", byNestedField.iterator().next().getString("name"));
+
+    // only string values are matched, the same as with a full scan
+    Assertions.assertTrue(database.find("name", "1234").isEmpty());
+    Assertions.assertEquals(2, database.find("proxy.xBoxId", null).size());
+    Assertions.assertTrue(database.find(Map.of("name", "0utplay", "proxy.xBoxId", "1234")).isEmpty());
+
+    // indexes can be declared after documents were inserted
+    Assertions.assertTrue(database.declareIndex("unknown"));
+    Assertions.assertTrue(database.indexedFields().contains("unknown"));
+    Assertions.assertEquals(3, database.find("unknown", null).size());
+    Assertions.assertFalse(database.declareIndex("invalid'field"));
+
+    // quotes in field names are escaped in finds
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("quoted\"'field", "value")));
+    Assertions.assertEquals(1, database.find("quoted\"'field", "value").size());
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
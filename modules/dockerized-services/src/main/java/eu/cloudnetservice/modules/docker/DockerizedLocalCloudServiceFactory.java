@@ -22,6 +22,7 @@
 import eu.cloudnetservice.modules.docker.config.DockerConfiguration;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.defaults.factory.BaseLocalCloudServiceFactory;
@@ -35,6 +36,7 @@ public class DockerizedLocalCloudServiceFactory extends BaseLocalCloudServiceFac
 
   protected final TickLoop mainThread;
   protected final EventManager eventManager;
+  protected final NodeNetworkUtil networkUtil;
   protected final DockerClient dockerClient;
   protected final DockerConfiguration dockerConfiguration;
   protected final CloudServiceManager cloudServiceManager;
@@ -46,12 +48,14 @@ public DockerizedLocalCloudServiceFactory(
     @NonNull CloudServiceManager cloudServiceManager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
+    @NonNull NodeNetworkUtil networkUtil,
     @NonNull DockerClient dockerClient,
     @NonNull DockerConfiguration configuration
   ) {
     super(nodeConfig, versionProvider);
     this.mainThread = tickLoop;
     this.eventManager = eventManager;
+    this.networkUtil = networkUtil;
     this.cloudServiceManager = cloudServiceManager;
     this.dockerClient = dockerClient;
     this.dockerConfiguration = configuration;
@@ -75,6 +79,7 @@ public DockerizedLocalCloudServiceFactory(
       this.eventManager,
       this.versionProvider,
       preparer,
+      this.networkUtil,
       this.dockerClient,
       this.dockerConfiguration);
   }
@@ -34,6 +34,7 @@
 import com.google.common.collect.Lists;
 import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.modules.docker.config.DockerConfiguration;
 import eu.cloudnetservice.modules.docker.config.DockerImage;
@@ -41,6 +42,7 @@
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.service.CloudServicePostProcessStartEvent;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.JVMService;
@@ -101,10 +103,19 @@ protected DockerizedService(
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
     @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull NodeNetworkUtil networkUtil,
     @NonNull DockerClient dockerClient,
     @NonNull DockerConfiguration dockerConfiguration
   ) {
-    super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    super(
+      tickLoop,
+      nodeConfig,
+      configuration,
+      manager,
+      eventManager,
+      versionProvider,
+      serviceConfigurationPreparer,
+      networkUtil);
 
     this.dockerClient = dockerClient;
     this.configuration = dockerConfiguration;
@@ -113,6 +124,12 @@ protected DockerizedService(
     this.initLogHandler();
   }
 
+  @Override
+  protected @NonNull HostAndPort selectConnectListener(@NonNull List<HostAndPort> listeners) {
+    // the unix domain socket of the node is not reachable from inside the container, always use a tcp listener
+    return this.selectTcpConnectListener(listeners);
+  }
+
   @Override
   public void runCommand(@NonNull String command) {
     if (this.stdOut != null) {
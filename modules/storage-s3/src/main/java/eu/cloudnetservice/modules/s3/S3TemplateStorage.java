@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.template.FileInfo;
 import eu.cloudnetservice.driver.template.TemplateStorage;
 import eu.cloudnetservice.modules.s3.config.S3TemplateStorageConfig;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import io.vavr.CheckedConsumer;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -112,6 +113,7 @@ public boolean deployDirectory(
     @Nullable Predicate<Path> filter
   ) {
     var result = new AtomicBoolean(true);
+    var deployFilter = LocalTemplateStorage.excludePulledManifests(directory, filter);
     // walk down the file tree
     FileUtil.walkFileTree(directory, ($, file) -> {
       if (!Files.isDirectory(file)) {
@@ -131,7 +133,7 @@ public boolean deployDirectory(
           result.set(false);
         }
       }
-    }, true, filter == null ? path -> true : filter::test);
+    }, true, deployFilter::test);
     return result.get();
   }
 
@@ -199,7 +201,7 @@ public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory)
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) {
     var localTarget = FileUtil.createTempFile();
     if (this.pull(template, localTarget)) {
-      return ZipUtil.zipToStream(localTarget);
+      return ZipUtil.zipToStream(localTarget, LocalTemplateStorage.excludePulledManifests(localTarget, null));
     } else {
       return null;
     }
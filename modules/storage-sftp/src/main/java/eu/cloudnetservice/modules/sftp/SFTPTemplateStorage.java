@@ -24,6 +24,7 @@
 import eu.cloudnetservice.modules.sftp.config.SFTPTemplateStorageConfig;
 import eu.cloudnetservice.modules.sftp.sshj.ActiveHeartbeatKeepAliveProvider;
 import eu.cloudnetservice.modules.sftp.sshj.FilteringLocalFileSource;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import io.vavr.CheckedFunction1;
 import java.io.IOException;
 import java.io.InputStream;
@@ -122,7 +123,10 @@ public boolean deployDirectory(
     @Nullable Predicate<Path> filter
   ) {
     return this.executeWithClient(client -> {
-      client.put(new FilteringLocalFileSource(directory, filter), this.constructRemotePath(target));
+      var fileSource = new FilteringLocalFileSource(
+        directory,
+        LocalTemplateStorage.excludePulledManifests(directory, filter));
+      client.put(fileSource, this.constructRemotePath(target));
       return true;
     }, false);
   }
@@ -158,7 +162,7 @@ public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory)
     return this.executeWithClient(client -> {
       var localTarget = FileUtil.createTempFile();
       if (this.pull(template, localTarget)) {
-        return ZipUtil.zipToStream(localTarget);
+        return ZipUtil.zipToStream(localTarget, LocalTemplateStorage.excludePulledManifests(localTarget, null));
       } else {
         return null;
       }
@@ -18,8 +18,10 @@
 
 import dev.derklaro.aerogel.Order;
 import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.common.log.io.LogOutputStream;
+import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.database.DatabaseProvider;
@@ -27,6 +29,7 @@
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.module.DefaultModuleDependencyLoader;
 import eu.cloudnetservice.driver.module.ModuleProvider;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkServer;
 import eu.cloudnetservice.driver.network.chunk.event.FileQueryChannelMessageListener;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
@@ -47,15 +50,19 @@
 import eu.cloudnetservice.node.console.util.HeaderReader;
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import eu.cloudnetservice.node.database.h2.H2DatabaseProvider;
+import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import eu.cloudnetservice.node.database.xodus.XodusDatabaseProvider;
 import eu.cloudnetservice.node.event.CloudNetNodePostInitializationEvent;
 import eu.cloudnetservice.node.module.ModulesHolder;
 import eu.cloudnetservice.node.module.NodeModuleProviderHandler;
 import eu.cloudnetservice.node.module.updater.ModuleUpdater;
 import eu.cloudnetservice.node.module.updater.ModuleUpdaterRegistry;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.network.chunk.FileDeployCallbackListener;
+import eu.cloudnetservice.node.network.listener.message.DatabaseChannelMessageListener;
 import eu.cloudnetservice.node.setup.DefaultInstallation;
 import eu.cloudnetservice.node.template.LocalTemplateStorage;
+import eu.cloudnetservice.node.template.TemplateMaterialisationMode;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -81,6 +88,10 @@ public final class Node {
 
   public static final boolean DEV_MODE = Boolean.getBoolean("cloudnet.dev");
   public static final boolean AUTO_UPDATE = Boolean.getBoolean("cloudnet.auto.update");
+  private static final boolean BIND_DOMAIN_SOCKET = Boolean.getBoolean("cloudnet.net.domain-socket");
+  private static final Path DOMAIN_SOCKET_PATH = Path.of(System.getProperty(
+    "cloudnet.net.domain-socket-path",
+    FileUtil.TEMP_DIR.resolve("node.sock").toString()));
   private static final Logger LOGGER = LoggerFactory.getLogger(Node.class);
 
   @Inject
@@ -139,7 +150,12 @@ private void setupModuleProvider(
   private void registerDefaultServices(@NonNull ServiceRegistry serviceRegistry, @NonNull Configuration configuration) {
     // local template storage
     var localStoragePath = Path.of(System.getProperty("cloudnet.storage.local", "local/templates"));
-    serviceRegistry.registerProvider(TemplateStorage.class, "local", new LocalTemplateStorage(localStoragePath));
+    var materialisationMode = TemplateMaterialisationMode.valueOf(StringUtil.toUpper(
+      System.getProperty("cloudnet.storage.local.materialisation", "copy")));
+    serviceRegistry.registerProvider(
+      TemplateStorage.class,
+      "local",
+      new LocalTemplateStorage(localStoragePath, materialisationMode));
 
     // xodus database
     var runsInCluster = !configuration.clusterConfig().nodes().isEmpty();
@@ -171,7 +187,7 @@ private void convertDatabase(
         var xodusDatabase = xodusProvider.database(databaseName);
         // insert the data of the h2 database into the xodus database
         // in chunks of 100 documents to prevent oom
-        h2Database.iterate(xodusDatabase::insert, 100);
+        LocalDatabaseUtil.copyEntries(h2Database, xodusDatabase, 100);
       }
 
       // close the database provider as they are not needed anymore
@@ -210,6 +226,7 @@ private void initializeDatabaseProvider(
     @NonNull ServiceRegistry serviceRegistry,
     @NonNull InjectionLayer<?> bootLayer,
     @NonNull RPCFactory rpcFactory,
+    @NonNull EventManager eventManager,
     @NonNull RPCHandlerRegistry rpcHandlerRegistry
   ) throws Exception {
     // initialize the default database provider
@@ -235,6 +252,9 @@ private void initializeDatabaseProvider(
     var dbProviderHandler = rpcFactory.newRPCHandlerBuilder(DatabaseProvider.class).targetInstance(provider).build();
     rpcHandlerRegistry.registerHandler(dbProviderHandler);
 
+    // keep the document cache in sync with the changes made by other nodes
+    eventManager.registerListener(DatabaseChannelMessageListener.class);
+
     // notify the user about the selected database
     LOGGER.info(I18n.trans("start-connect-database", provider.name()));
   }
@@ -266,7 +286,8 @@ private void registerConfiguredNodeServers(
   @Order(550)
   private void bindNetworkListeners(
     @NonNull Configuration configuration,
-    @NonNull NetworkServer networkServer
+    @NonNull NetworkServer networkServer,
+    @NonNull NodeNetworkUtil networkUtil
   ) throws InterruptedException {
     // print out some network information, more for debug reasons in normal cases
     LOGGER.info(I18n.trans("network-selected-transport", NettyUtil.selectedNettyTransport().displayName()));
@@ -295,6 +316,23 @@ private void bindNetworkListeners(
       Thread.sleep(5000);
       System.exit(1);
     }
+
+    // local services are always running on the same host as the node, bind a unix domain socket for them
+    // to skip the tcp stack if requested. connections to the socket are not checked against the ip whitelist,
+    // therefore binding it is opt-in. services fall back to the tcp listeners if the socket cannot be bound
+    if (BIND_DOMAIN_SOCKET) {
+      var socketListener = new HostAndPort(DOMAIN_SOCKET_PATH.toAbsolutePath().toString(), HostAndPort.NO_PORT);
+      networkServer.addListener(socketListener).handle(($, exception) -> {
+        if (exception != null) {
+          LOGGER.info(I18n.trans("network-listener-bound-exceptionally", socketListener, exception.getMessage()));
+        } else {
+          networkUtil.domainSocketListener(socketListener);
+          LOGGER.info(I18n.trans("network-listener-bound", socketListener));
+        }
+
+        return null;
+      }).join();
+    }
   }
 
   @Inject
@@ -19,6 +19,8 @@
 import eu.cloudnetservice.common.resource.CpuUsageResolver;
 import eu.cloudnetservice.common.resource.ResourceFormatter;
 import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.network.netty.NettyFlushStatisticsHandler;
+import eu.cloudnetservice.driver.network.netty.codec.NettyFrameCompressionCodec;
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.node.Node;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
@@ -26,10 +28,12 @@
 import eu.cloudnetservice.node.command.annotation.Description;
 import eu.cloudnetservice.node.command.source.CommandSource;
 import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
 import jakarta.inject.Singleton;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import lombok.NonNull;
@@ -56,6 +60,7 @@ public void me(
     @NonNull CloudNetVersion version,
     @NonNull Configuration configuration,
     @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull NodeDatabaseProvider databaseProvider,
     @NonNull CommandSource source,
     @Flag("showClusterId") boolean showFullClusterId) {
     var nodeInfoSnapshot = nodeServerProvider.localNode().nodeInfoSnapshot();
@@ -67,7 +72,7 @@ public void me(
       clusterId = matcher.replaceAll("-****-");
     }
 
-    source.sendMessage(List.of(
+    List<String> messages = new ArrayList<>(List.of(
       " ",
       version.toString(),
       "Discord: <https://discord.cloudnetservice.eu/>",
@@ -105,7 +110,46 @@ public void me(
         + UPDATE_REPO
         + ", Update Branch: "
         + UPDATE_BRANCH
-        + (Node.DEV_MODE ? " (development mode)" : ""),
-      " "));
+        + (Node.DEV_MODE ? " (development mode)" : "")));
+
+    // only show the document cache statistics if the cache is actually used
+    var documentCache = databaseProvider.documentCache();
+    if (documentCache.enabled()) {
+      var stats = documentCache.stats();
+      messages.add("Database document cache (H/M/E): "
+        + stats.hitCount()
+        + "/"
+        + stats.missCount()
+        + "/"
+        + stats.evictionCount()
+        + ", Hit rate: "
+        + ResourceFormatter.formatTwoDigitPrecision(stats.hitRate() * 100)
+        + "%, Cached documents: "
+        + documentCache.cachedDocuments());
+    }
+
+    messages.add("Network flushes (Frames/Flushes): "
+      + NettyFlushStatisticsHandler.writtenFrames()
+      + "/"
+      + NettyFlushStatisticsHandler.executedFlushes()
+      + ", Frames per flush: "
+      + ResourceFormatter.formatTwoDigitPrecision(NettyFlushStatisticsHandler.framesPerFlush()));
+
+    // only show the frame compression statistics if compression is enabled
+    if (NettyFrameCompressionCodec.COMPRESSION_AVAILABLE) {
+      var uncompressedBytes = NettyFrameCompressionCodec.uncompressedBytes();
+      var compressedBytes = NettyFrameCompressionCodec.compressedBytes();
+      var ratio = uncompressedBytes == 0 ? 100D : (compressedBytes * 100D) / uncompressedBytes;
+      messages.add("Network compression (Raw/Sent): "
+        + (uncompressedBytes / 1024)
+        + "KB/"
+        + (compressedBytes / 1024)
+        + "KB, Ratio: "
+        + ResourceFormatter.formatTwoDigitPrecision(ratio)
+        + "%");
+    }
+
+    messages.add(" ");
+    source.sendMessage(messages);
   }
 }
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.node.command.source.CommandSource;
 import eu.cloudnetservice.node.command.source.ConsoleCommandSource;
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import io.vavr.CheckedConsumer;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -103,7 +104,7 @@ public void migrateDatabase(
         var sourceDatabase = sourceDatabaseProvider.database(databaseName);
         var targetDatabase = targetDatabaseProvider.database(databaseName);
 
-        sourceDatabase.iterate(targetDatabase::insert, chunkSize);
+        LocalDatabaseUtil.copyEntries(sourceDatabase, targetDatabase, chunkSize);
       }
     } catch (Exception exception) {
       LOGGER.error(I18n.trans("command-migrate-database-connection-failed"), exception);
@@ -19,6 +19,8 @@
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.Collection;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 
@@ -39,19 +41,22 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
-        }
+    this.iterator(chunkSize).forEachRemaining(entry -> consumer.accept(entry.getKey(), entry.getValue()));
+  }
+
+  @Override
+  public boolean declareIndex(@NonNull String fieldName) {
+    return false;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return Set.of();
+  }
 
-        break;
-      }
+  protected void validateChunkSize(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive, got " + chunkSize);
     }
   }
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedMap;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A database which serves single document reads from the document cache of the database provider and delegates all
+ * other calls to the actual database. Documents are removed from the cache after they were written or deleted, synced
+ * databases notify the other nodes in the cluster to remove the documents from their caches as well.
+ */
+final class CachedLocalDatabase implements LocalDatabase {
+
+  private final LocalDatabase delegate;
+  private final DatabaseDocumentCache documentCache;
+
+  CachedLocalDatabase(@NonNull LocalDatabase delegate, @NonNull DatabaseDocumentCache documentCache) {
+    this.delegate = delegate;
+    this.documentCache = documentCache;
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.delegate.name();
+  }
+
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    try {
+      return this.delegate.insert(key, document);
+    } finally {
+      this.invalidate(List.of(key));
+    }
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    try {
+      return this.delegate.insertAll(entries);
+    } finally {
+      this.invalidate(entries.keySet());
+    }
+  }
+
+  @Override
+  public boolean contains(@NonNull String key) {
+    return this.delegate.contains(key);
+  }
+
+  @Override
+  public boolean delete(@NonNull String key) {
+    try {
+      return this.delegate.delete(key);
+    } finally {
+      this.invalidate(List.of(key));
+    }
+  }
+
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    try {
+      return this.delegate.deleteAll(keys);
+    } finally {
+      this.invalidate(keys);
+    }
+  }
+
+  @Override
+  public @Nullable Document get(@NonNull String key) {
+    return this.documentCache.get(this.name(), key, this.delegate::get);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    return this.delegate.find(fieldName, fieldValue);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull Map<String, String> filters) {
+    return this.delegate.find(filters);
+  }
+
+  @Override
+  public @NonNull Collection<String> keys() {
+    return this.delegate.keys();
+  }
+
+  @Override
+  public @NonNull Collection<Document> documents() {
+    return this.delegate.documents();
+  }
+
+  @Override
+  public @NonNull Map<String, Document> entries() {
+    return this.delegate.entries();
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer) {
+    this.delegate.iterate(consumer);
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
+    this.delegate.iterate(consumer, chunkSize);
+  }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
+    return this.delegate.readChunk(beginIndex, chunkSize);
+  }
+
+  @Override
+  public @NonNull SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize) {
+    return this.delegate.readChunk(previousKey, chunkSize);
+  }
+
+  @Override
+  public boolean declareIndex(@NonNull String fieldName) {
+    return this.delegate.declareIndex(fieldName);
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return this.delegate.indexedFields();
+  }
+
+  @Override
+  public void clear() {
+    try {
+      this.delegate.clear();
+    } finally {
+      this.documentCache.invalidateDatabase(this.name());
+      if (this.delegate.synced()) {
+        ChannelMessage.builder()
+          .targetNodes()
+          .message("invalidate_database_cache")
+          .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+          .buffer(DataBuf.empty().writeString(this.name()))
+          .build()
+          .send();
+      }
+    }
+  }
+
+  @Override
+  public long documentCount() {
+    return this.delegate.documentCount();
+  }
+
+  @Override
+  public boolean synced() {
+    return this.delegate.synced();
+  }
+
+  @Override
+  public void close() throws Exception {
+    // the documents of this database are no longer needed when the database instance is removed from the provider
+    this.documentCache.invalidateDatabase(this.name());
+    this.delegate.close();
+  }
+
+  private void invalidate(@NonNull Collection<String> keys) {
+    this.documentCache.invalidate(this.name(), keys);
+    if (this.delegate.synced()) {
+      // the other nodes are reading from the same storage, their cached documents are outdated now
+      ChannelMessage.builder()
+        .targetNodes()
+        .message("invalidate_database_cache_entries")
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .buffer(DataBuf.empty().writeString(this.name()).writeObject(keys))
+        .build()
+        .send();
+    }
+  }
+}
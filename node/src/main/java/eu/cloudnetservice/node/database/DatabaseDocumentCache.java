@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A size bounded cache for documents read from the databases of a database provider. The weight of each cached
+ * document is the length of its serialized form, the size of the cache is the sum of all weights. A cache with a
+ * maximum size of zero is disabled and databases should be used without it.
+ */
+public final class DatabaseDocumentCache {
+
+  private final long maximumSize;
+  private final Cache<EntryKey, Document> cache;
+
+  public DatabaseDocumentCache(long maximumSize) {
+    this.maximumSize = maximumSize;
+    this.cache = Caffeine.newBuilder()
+      .maximumWeight(Math.max(maximumSize, 0))
+      .weigher(DatabaseDocumentCache::weigh)
+      .recordStats()
+      .build();
+  }
+
+  private static int weigh(@NonNull EntryKey key, @NonNull Document document) {
+    var serializedLength = document.serializeToString(StandardSerialisationStyle.COMPACT).length();
+    return (int) Math.min(Integer.MAX_VALUE, (long) serializedLength + key.key().length());
+  }
+
+  public boolean enabled() {
+    return this.maximumSize > 0;
+  }
+
+  public @Nullable Document get(
+    @NonNull String database,
+    @NonNull String key,
+    @NonNull Function<String, Document> loader
+  ) {
+    // loading and invalidating the same key is atomic, this prevents caching a document that is replaced while loading
+    return this.cache.get(new EntryKey(database, key), entryKey -> {
+      var document = loader.apply(entryKey.key());
+      return document == null ? null : document.immutableCopy();
+    });
+  }
+
+  public void invalidate(@NonNull String database, @NonNull String key) {
+    this.cache.invalidate(new EntryKey(database, key));
+  }
+
+  public void invalidate(@NonNull String database, @NonNull Collection<String> keys) {
+    Collection<EntryKey> entryKeys = new ArrayList<>(keys.size());
+    for (var key : keys) {
+      entryKeys.add(new EntryKey(database, key));
+    }
+
+    this.cache.invalidateAll(entryKeys);
+  }
+
+  public void invalidateDatabase(@NonNull String database) {
+    this.cache.asMap().keySet().removeIf(entryKey -> entryKey.database().equals(database));
+  }
+
+  public void invalidateAll() {
+    this.cache.invalidateAll();
+  }
+
+  public @NonNull CacheStats stats() {
+    return this.cache.stats();
+  }
+
+  public long cachedDocuments() {
+    return this.cache.estimatedSize();
+  }
+
+  private record EntryKey(@NonNull String database, @NonNull String key) {
+
+  }
+}
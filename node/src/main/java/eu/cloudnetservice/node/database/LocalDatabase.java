@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
@@ -42,4 +43,23 @@ public interface LocalDatabase extends Database {
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Declares a secondary index on the given top-level field of all documents stored in this database. Databases which
+   * support secondary indexes use them to answer {@link #find(String, String)} and {@link #find(Map)} without reading
+   * and parsing every document in the database. Declaring an index which already exists has no effect, an index stays
+   * declared until the database gets deleted.
+   *
+   * @param fieldName the name of the top-level document field to index.
+   * @return true if the index is available after the call, false if the database does not support secondary indexes.
+   * @throws NullPointerException if the given field name is null.
+   */
+  boolean declareIndex(@NonNull String fieldName);
+
+  /**
+   * Get the names of all document fields which are currently backed by a secondary index in this database.
+   *
+   * @return the names of all indexed document fields.
+   */
+  @NonNull Collection<String> indexedFields();
 }
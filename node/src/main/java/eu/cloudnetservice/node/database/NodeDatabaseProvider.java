@@ -41,7 +41,10 @@ public abstract class NodeDatabaseProvider implements DatabaseProvider, Named, A
     }
   };
 
+  protected static final long DOCUMENT_CACHE_MAX_BYTES = Long.getLong("cloudnet.database.document-cache.max-bytes", 0);
+
   protected final Cache<String, LocalDatabase> databaseCache;
+  protected final DatabaseDocumentCache documentCache;
 
   protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> removalListener) {
     this.databaseCache = Caffeine.newBuilder()
@@ -49,6 +52,7 @@ protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> r
       .expireAfterAccess(Duration.ofMinutes(5))
       .removalListener(removalListener)
       .build();
+    this.documentCache = new DatabaseDocumentCache(DOCUMENT_CACHE_MAX_BYTES);
   }
 
   public abstract boolean init() throws Exception;
@@ -56,8 +60,17 @@ protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> r
   @Override
   public abstract @NonNull LocalDatabase database(@NonNull String name);
 
+  public @NonNull DatabaseDocumentCache documentCache() {
+    return this.documentCache;
+  }
+
+  protected @NonNull LocalDatabase withDocumentCache(@NonNull LocalDatabase database) {
+    return this.documentCache.enabled() ? new CachedLocalDatabase(database, this.documentCache) : database;
+  }
+
   @Override
   public void close() throws Exception {
     this.databaseCache.invalidateAll();
+    this.documentCache.invalidateAll();
   }
 }
@@ -19,24 +19,92 @@
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.sql.SQLDatabase;
-import eu.cloudnetservice.node.database.sql.SQLDatabaseProvider;
+import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.SequencedMap;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class H2Database extends SQLDatabase {
 
-  public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
+  private static final String FIELD_TABLE_COLUMN_NAME = "FieldName";
+  private static final String FIELD_TABLE_COLUMN_VALUE = "FieldValue";
+
+  private static final int FIELD_TABLE_FILL_CHUNK_SIZE = 100;
+  // strings which are written into the json text as they are and contain no like wildcard except for _
+  private static final Pattern PLAIN_JSON_STRING = Pattern.compile("[\\w .:+\\-]*");
+
+  private final H2DatabaseProvider provider;
+  private final String fieldTableName;
+
+  // the fields which values are written into the field table and the fields for which all values were written
+  private final Set<String> writtenFields = ConcurrentHashMap.newKeySet();
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+  private final Lock indexLock = new ReentrantLock();
+
+  private final String mergeDocumentQuery;
+  private final String deleteDocumentQuery;
+  private final String insertFieldQuery;
+  private final String deleteFieldsQuery;
+  private final String deleteFieldQuery;
+  private final String clearDocumentsQuery;
+  private final String clearFieldsQuery;
+  private final String selectChunkQuery;
+  private final String lockFirstChunkQuery;
+  private final String lockNextChunkQuery;
+
+  public H2Database(@NonNull H2DatabaseProvider provider, @NonNull String name) {
     super(provider, name);
+    this.provider = provider;
+    this.fieldTableName = fieldTableName(name);
+
+    this.mergeDocumentQuery = String.format(
+      "MERGE INTO `%s` (%s, %s) KEY (%s) VALUES (?, ?);",
+      name,
+      TABLE_COLUMN_KEY,
+      TABLE_COLUMN_VAL,
+      TABLE_COLUMN_KEY);
+    this.deleteDocumentQuery = String.format("DELETE FROM `%s` WHERE %s = ?", name, TABLE_COLUMN_KEY);
+    this.insertFieldQuery = String.format(
+      "INSERT INTO `%s` (%s, %s, %s) VALUES (?, ?, ?);",
+      this.fieldTableName,
+      TABLE_COLUMN_KEY,
+      FIELD_TABLE_COLUMN_NAME,
+      FIELD_TABLE_COLUMN_VALUE);
+    this.deleteFieldsQuery = String.format("DELETE FROM `%s` WHERE %s = ?", this.fieldTableName, TABLE_COLUMN_KEY);
+    this.deleteFieldQuery = String.format(
+      "DELETE FROM `%s` WHERE %s = ? AND %s = ?",
+      this.fieldTableName,
+      TABLE_COLUMN_KEY,
+      FIELD_TABLE_COLUMN_NAME);
+    this.clearDocumentsQuery = String.format("TRUNCATE TABLE `%s`", name);
+    this.clearFieldsQuery = String.format("TRUNCATE TABLE `%s`", this.fieldTableName);
+    this.selectChunkQuery = String.format("SELECT * FROM `%s` ORDER BY `%s` OFFSET ? LIMIT ?;", name, TABLE_COLUMN_KEY);
+    this.lockFirstChunkQuery = String.format(
+      "SELECT * FROM `%s` ORDER BY `%s` LIMIT ? FOR UPDATE;",
+      name,
+      TABLE_COLUMN_KEY);
+    this.lockNextChunkQuery = String.format(
+      "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ? FOR UPDATE;",
+      name,
+      TABLE_COLUMN_KEY,
+      TABLE_COLUMN_KEY);
 
     // create the table
     provider.executeUpdate(String.format(
@@ -44,6 +112,52 @@ public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // create the table which holds the string values of the indexed top-level document fields, used to look up
+    // documents by a field value without parsing all documents of the table
+    provider.executeUpdate(String.format(
+      "CREATE TABLE IF NOT EXISTS `%s` (%s VARCHAR(64) NOT NULL, %s VARCHAR NOT NULL, %s VARCHAR NOT NULL, "
+        + "PRIMARY KEY (%s, %s));",
+      this.fieldTableName,
+      TABLE_COLUMN_KEY,
+      FIELD_TABLE_COLUMN_NAME,
+      FIELD_TABLE_COLUMN_VALUE,
+      TABLE_COLUMN_KEY,
+      FIELD_TABLE_COLUMN_NAME));
+    provider.executeUpdate(String.format(
+      "CREATE INDEX IF NOT EXISTS `%s$value` ON `%s` (%s, %s);",
+      this.fieldTableName,
+      this.fieldTableName,
+      FIELD_TABLE_COLUMN_NAME,
+      FIELD_TABLE_COLUMN_VALUE));
+
+    // load the declared indexes. an index is only marked as complete once the values of all documents were written,
+    // indexes which were not completed (for example because the node stopped while filling them) are filled again
+    Map<String, Boolean> declaredIndexes = provider.executeQuery(
+      String.format(
+        "SELECT FieldName, Complete FROM `%s` WHERE DatabaseName = ?;",
+        H2DatabaseProvider.INDEX_TABLE_NAME),
+      resultSet -> {
+        Map<String, Boolean> indexes = new HashMap<>();
+        while (resultSet.next()) {
+          indexes.put(resultSet.getString("FieldName"), resultSet.getBoolean("Complete"));
+        }
+        return indexes;
+      },
+      Map.of(),
+      name);
+    this.writtenFields.addAll(declaredIndexes.keySet());
+    for (var declaredIndex : declaredIndexes.entrySet()) {
+      if (declaredIndex.getValue()) {
+        this.indexedFields.add(declaredIndex.getKey());
+      } else {
+        this.completeIndex(declaredIndex.getKey());
+      }
+    }
+  }
+
+  static @NonNull String fieldTableName(@NonNull String databaseName) {
+    return H2DatabaseProvider.INTERNAL_TABLE_PREFIX + "fields$" + databaseName;
   }
 
   @Override
@@ -51,32 +165,78 @@ public void close() {
   }
 
   @Override
-  public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.insertOrUpdate(key, document);
+  public boolean declareIndex(@NonNull String fieldName) {
+    if (this.indexedFields.contains(fieldName)) {
+      return true;
+    }
+
+    this.indexLock.lock();
+    try {
+      if (this.indexedFields.contains(fieldName)) {
+        return true;
+      }
+
+      // record the index before filling it, inserts write the field values from now on
+      this.provider.executeUpdate(
+        String.format(
+          "MERGE INTO `%s` (DatabaseName, FieldName, Complete) KEY (DatabaseName, FieldName) VALUES (?, ?, FALSE);",
+          H2DatabaseProvider.INDEX_TABLE_NAME),
+        this.name, fieldName);
+      this.writtenFields.add(fieldName);
+      return this.completeIndex(fieldName);
+    } finally {
+      this.indexLock.unlock();
+    }
   }
 
-  private boolean insert0(@NonNull String key, @NonNull Document document) {
-    return this.databaseProvider.executeUpdate(
-      "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
-      key, this.serializeDocumentToJsonString(document)
-    ) != -1;
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return List.copyOf(this.indexedFields);
   }
 
-  public boolean update0(String key, Document document) {
-    return this.databaseProvider.executeUpdate(
-      "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
-      this.serializeDocumentToJsonString(document), key
-    ) != -1;
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    var serializedDocument = this.serializeDocumentToJsonString(document);
+    return this.provider.executeInTransaction(connection -> {
+      // merge the document and replace the field values in one transaction to keep them consistent
+      try (var statement = connection.prepareStatement(this.mergeDocumentQuery)) {
+        statement.setString(1, key);
+        statement.setString(2, serializedDocument);
+        statement.executeUpdate();
+      }
+
+      this.writeFields(connection, key, document);
+      return true;
+    }, false);
   }
 
-  public boolean insertOrUpdate(String key, Document document) {
-    return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    return this.provider.executeInTransaction(connection -> {
+      try (var statement = connection.prepareStatement(this.mergeDocumentQuery)) {
+        for (var entry : entries.entrySet()) {
+          statement.setString(1, entry.getKey());
+          statement.setString(2, this.serializeDocumentToJsonString(entry.getValue()));
+          statement.addBatch();
+        }
+        statement.executeBatch();
+      }
+
+      for (var entry : entries.entrySet()) {
+        this.writeFields(connection, entry.getKey(), entry.getValue());
+      }
+      return true;
+    }, false);
   }
 
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_KEY, this.name, TABLE_COLUMN_KEY),
+      this.selectKeyQuery,
       ResultSet::next,
       false,
       key);
@@ -84,20 +244,38 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.delete0(key);
+    return this.deleteAll(List.of(key)) > 0;
   }
 
-  public boolean delete0(String key) {
-    return this.databaseProvider.executeUpdate(
-      String.format("DELETE FROM `%s` WHERE %s = ?", this.name, TABLE_COLUMN_KEY),
-      key
-    ) > 0;
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    return this.provider.executeInTransaction(connection -> {
+      long removed = 0;
+      try (
+        var documentStatement = connection.prepareStatement(this.deleteDocumentQuery);
+        var fieldStatement = connection.prepareStatement(this.deleteFieldsQuery)
+      ) {
+        for (var key : keys) {
+          documentStatement.setString(1, key);
+          removed += documentStatement.executeUpdate();
+
+          fieldStatement.setString(1, key);
+          fieldStatement.executeUpdate();
+        }
+      }
+
+      return removed;
+    }, 0L);
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s = ?", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_KEY),
+      this.selectDocumentQuery,
       resultSet -> resultSet.next() ? DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)) : null,
       null,
       key
@@ -105,64 +283,87 @@ public boolean delete0(String key) {
   }
 
   @Override
-  public @NonNull List<Document> find(@NonNull String fieldName, String fieldValue) {
-    return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
-      resultSet -> {
-        List<Document> jsonDocuments = new ArrayList<>();
-        while (resultSet.next()) {
-          jsonDocuments.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
-        }
-
-        return jsonDocuments;
-      },
-      List.of(),
-      "%\"" + fieldName + "\":" + Objects.toString(fieldValue).replaceAll("([_%])", "\\$$1") + "%");
+  public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    return this.find(Collections.singletonMap(fieldName, fieldValue));
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
-    var stringBuilder = new StringBuilder("SELECT ")
-      .append(TABLE_COLUMN_VAL).append(" FROM `")
-      .append(this.name).append('`');
-
-    Collection<String> collection = new ArrayList<>();
-    if (filters.size() > 0) {
-      stringBuilder.append(" WHERE ");
-
-      var iterator = filters.entrySet().iterator();
-
-      while (iterator.hasNext()) {
-        var entry = iterator.next();
+    List<Object> arguments = new ArrayList<>();
+    var query = new StringBuilder("SELECT d.").append(TABLE_COLUMN_VAL).append(" FROM ");
+
+    // select the candidates using the index on the first indexed filter which has a value, the remaining indexed
+    // filters are checked using the primary key of the field table
+    var indexedFilter = filters.entrySet().stream()
+      .filter(entry -> entry.getValue() != null && this.indexedFields.contains(entry.getKey()))
+      .findFirst()
+      .orElse(null);
+    if (indexedFilter != null) {
+      query.append('`').append(this.fieldTableName).append("` f INNER JOIN `").append(this.name)
+        .append("` d ON d.").append(TABLE_COLUMN_KEY).append(" = f.").append(TABLE_COLUMN_KEY)
+        .append(" WHERE f.").append(FIELD_TABLE_COLUMN_NAME).append(" = ? AND f.")
+        .append(FIELD_TABLE_COLUMN_VALUE).append(" = ?");
+      arguments.add(indexedFilter.getKey());
+      arguments.add(indexedFilter.getValue());
+    } else {
+      query.append('`').append(this.name).append("` d WHERE TRUE");
+    }
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
-        collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+    Map<String, String> unindexedFilters = new HashMap<>();
+    for (var filter : filters.entrySet()) {
+      if (indexedFilter != null && filter.getKey().equals(indexedFilter.getKey())) {
+        continue;
+      }
 
-        if (iterator.hasNext()) {
-          stringBuilder.append(" and ");
+      if (this.indexedFields.contains(filter.getKey())) {
+        // a null value matches all documents which have no string value for the field
+        query.append(filter.getValue() == null ? " AND NOT EXISTS" : " AND EXISTS")
+          .append(" (SELECT 1 FROM `").append(this.fieldTableName).append("` e WHERE e.")
+          .append(TABLE_COLUMN_KEY).append(" = d.").append(TABLE_COLUMN_KEY)
+          .append(" AND e.").append(FIELD_TABLE_COLUMN_NAME).append(" = ?");
+        arguments.add(filter.getKey());
+
+        if (filter.getValue() != null) {
+          query.append(" AND e.").append(FIELD_TABLE_COLUMN_VALUE).append(" = ?");
+          arguments.add(filter.getValue());
+        }
+        query.append(')');
+      } else {
+        // fields without an index are compared on the parsed documents. values which are written into the json text
+        // as they are can be used to narrow down the candidates using the json text first
+        unindexedFilters.put(filter.getKey(), filter.getValue());
+        if (filter.getValue() != null
+          && PLAIN_JSON_STRING.matcher(filter.getKey()).matches()
+          && PLAIN_JSON_STRING.matcher(filter.getValue()).matches()) {
+          query.append(" AND d.").append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+          var jsonPair = "\"" + filter.getKey() + "\":\"" + filter.getValue() + "\"";
+          arguments.add("%" + jsonPair.replace("_", "$_") + "%");
         }
       }
     }
 
     return this.databaseProvider.executeQuery(
-      stringBuilder.append(";").toString(),
+      query.append(';').toString(),
       resultSet -> {
         List<Document> jsonDocuments = new ArrayList<>();
         while (resultSet.next()) {
-          jsonDocuments.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          if (matchesAll(document, unindexedFilters)) {
+            jsonDocuments.add(document);
+          }
         }
 
         return jsonDocuments;
       },
       List.of(),
-      collection.toArray()
+      arguments.toArray()
     );
   }
 
   @Override
   public @NonNull Collection<String> keys() {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_KEY, this.name),
+      this.selectKeysQuery,
       resultSet -> {
         Collection<String> keys = new ArrayList<>();
         while (resultSet.next()) {
@@ -176,7 +377,7 @@ public boolean delete0(String key) {
   @Override
   public @NonNull Collection<Document> documents() {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_VAL, this.name),
+      this.selectDocumentsQuery,
       resultSet -> {
         Collection<Document> documents = new ArrayList<>();
         while (resultSet.next()) {
@@ -190,9 +391,9 @@ public boolean delete0(String key) {
   @Override
   public @NonNull Map<String, Document> entries() {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT * FROM `%s`;", this.name),
+      this.selectEntriesQuery,
       resultSet -> {
-        Map<String, Document> map = new WeakHashMap<>();
+        Map<String, Document> map = new HashMap<>();
         while (resultSet.next()) {
           map.put(
             resultSet.getString(TABLE_COLUMN_KEY),
@@ -206,7 +407,7 @@ public boolean delete0(String key) {
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer) {
     this.databaseProvider.executeQuery(
-      String.format("SELECT * FROM `%s`;", this.name),
+      this.selectEntriesQuery,
       resultSet -> {
         while (resultSet.next()) {
           var key = resultSet.getString(TABLE_COLUMN_KEY);
@@ -220,12 +421,18 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
 
   @Override
   public void clear() {
-    this.databaseProvider.executeUpdate(String.format("TRUNCATE TABLE `%s`", this.name));
+    this.provider.executeInTransaction(connection -> {
+      try (var statement = connection.createStatement()) {
+        statement.executeUpdate(this.clearDocumentsQuery);
+        statement.executeUpdate(this.clearFieldsQuery);
+      }
+      return null;
+    }, null);
   }
 
   @Override
   public long documentCount() {
-    return this.databaseProvider.executeQuery("SELECT COUNT(*) FROM `" + this.name + "`;", resultSet -> {
+    return this.databaseProvider.executeQuery(this.countDocumentsQuery, resultSet -> {
       if (resultSet.next()) {
         return resultSet.getLong(1);
       }
@@ -241,7 +448,7 @@ public boolean synced() {
   @Override
   public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
     return this.databaseProvider.executeQuery(
-      String.format("SELECT * FROM `%s` ORDER BY `%s` OFFSET ? LIMIT ?;", this.name, TABLE_COLUMN_KEY),
+      this.selectChunkQuery,
       resultSet -> {
         Map<String, Document> result = new HashMap<>();
         while (resultSet.next()) {
@@ -256,4 +463,134 @@ public boolean synced() {
       beginIndex, chunkSize
     );
   }
+
+  @Override
+  public @NonNull SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize) {
+    this.validateChunkSize(chunkSize);
+    var query = previousKey == null ? this.selectFirstChunkQuery : this.selectNextChunkQuery;
+    var arguments = previousKey == null ? new Object[]{chunkSize} : new Object[]{previousKey, chunkSize};
+
+    return this.databaseProvider.executeQuery(
+      query,
+      resultSet -> {
+        SequencedMap<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result;
+      },
+      new LinkedHashMap<>(),
+      arguments);
+  }
+
+  private static boolean matchesAll(@NonNull Document document, @NonNull Map<String, String> filters) {
+    for (var filter : filters.entrySet()) {
+      // only string values can be searched for, see Document.getString
+      if (!Objects.equals(filter.getValue(), document.getString(filter.getKey()))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean completeIndex(@NonNull String fieldName) {
+    // write the values of the documents which existed before the index was declared. the documents of each chunk are
+    // locked while writing their values, inserts running at the same time can therefore not be overwritten
+    String previousKey = null;
+    while (true) {
+      var chunkStart = previousKey;
+      Optional<String> chunkEnd = this.provider.executeInTransaction(
+        connection -> Optional.ofNullable(this.fillFieldTableChunk(connection, chunkStart, fieldName)),
+        null);
+      if (chunkEnd == null) {
+        // the transaction failed, the index stays incomplete and is filled again on the next start
+        return false;
+      }
+
+      if (chunkEnd.isEmpty()) {
+        break;
+      }
+
+      previousKey = chunkEnd.get();
+    }
+
+    this.provider.executeUpdate(
+      String.format(
+        "UPDATE `%s` SET Complete = TRUE WHERE DatabaseName = ? AND FieldName = ?;",
+        H2DatabaseProvider.INDEX_TABLE_NAME),
+      this.name, fieldName);
+    this.indexedFields.add(fieldName);
+    return true;
+  }
+
+  private @Nullable String fillFieldTableChunk(
+    @NonNull Connection connection,
+    @Nullable String previousKey,
+    @NonNull String fieldName
+  ) throws SQLException {
+    var query = previousKey == null ? this.lockFirstChunkQuery : this.lockNextChunkQuery;
+    try (var statement = connection.prepareStatement(query)) {
+      var parameterIndex = 1;
+      if (previousKey != null) {
+        statement.setString(parameterIndex++, previousKey);
+      }
+      statement.setInt(parameterIndex, FIELD_TABLE_FILL_CHUNK_SIZE);
+
+      String lastKey = null;
+      try (
+        var resultSet = statement.executeQuery();
+        var deleteStatement = connection.prepareStatement(this.deleteFieldQuery);
+        var insertStatement = connection.prepareStatement(this.insertFieldQuery)
+      ) {
+        while (resultSet.next()) {
+          lastKey = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+
+          deleteStatement.setString(1, lastKey);
+          deleteStatement.setString(2, fieldName);
+          deleteStatement.executeUpdate();
+
+          var fieldValue = document.getString(fieldName);
+          if (fieldValue != null) {
+            insertStatement.setString(1, lastKey);
+            insertStatement.setString(2, fieldName);
+            insertStatement.setString(3, fieldValue);
+            insertStatement.executeUpdate();
+          }
+        }
+      }
+
+      return lastKey;
+    }
+  }
+
+  private void writeFields(
+    @NonNull Connection connection,
+    @NonNull String key,
+    @NonNull Document document
+  ) throws SQLException {
+    try (var statement = connection.prepareStatement(this.deleteFieldsQuery)) {
+      statement.setString(1, key);
+      statement.executeUpdate();
+    }
+
+    try (var statement = connection.prepareStatement(this.insertFieldQuery)) {
+      for (var fieldName : this.writtenFields) {
+        // only string values can be searched for, see Document.getString
+        var fieldValue = document.getString(fieldName);
+        if (fieldValue != null) {
+          statement.setString(1, key);
+          statement.setString(2, fieldName);
+          statement.setString(3, fieldValue);
+          statement.addBatch();
+        }
+      }
+
+      statement.executeBatch();
+    }
+  }
 }
@@ -23,7 +23,6 @@
 import io.vavr.CheckedFunction1;
 import java.nio.file.Path;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -31,6 +30,7 @@
 import java.util.Set;
 import lombok.NonNull;
 import org.h2.Driver;
+import org.h2.jdbcx.JdbcConnectionPool;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
@@ -41,39 +41,85 @@ public final class H2DatabaseProvider extends SQLDatabaseProvider {
     Driver.load();
   }
 
+  static final String INTERNAL_TABLE_PREFIX = "cloudnet_internal$";
+  static final String INDEX_TABLE_NAME = INTERNAL_TABLE_PREFIX + "indexes";
+
+  private static final int DEFAULT_MAX_CONNECTIONS = Integer.getInteger("cloudnet.database.h2.max-connections", 16);
+  private static final int DEFAULT_CONNECTION_TIMEOUT = Integer.getInteger(
+    "cloudnet.database.h2.connection-timeout",
+    30);
+  private static final int QUERY_CACHE_SIZE = Integer.getInteger("cloudnet.database.h2.query-cache-size", 64);
+
   private final Path h2dbFile;
-  private Connection connection;
+  private final String connectionUrl;
+
+  private final int maxConnections;
+  private final int connectionTimeout;
+
+  private JdbcConnectionPool connectionPool;
 
   public H2DatabaseProvider(@NonNull String h2File) {
+    this(h2File, DEFAULT_MAX_CONNECTIONS, DEFAULT_CONNECTION_TIMEOUT);
+  }
+
+  public H2DatabaseProvider(@NonNull String h2File, int maxConnections, int connectionTimeout) {
     super(DEFAULT_REMOVAL_LISTENER);
     this.h2dbFile = Path.of(h2File);
+    // the query cache holds the parsed statements of each connection, the default of 8 is too small for the amount
+    // of different statements that are executed on each table
+    this.connectionUrl = "jdbc:h2:" + this.h2dbFile.toAbsolutePath() + ";QUERY_CACHE_SIZE=" + QUERY_CACHE_SIZE;
+    this.maxConnections = maxConnections;
+    this.connectionTimeout = connectionTimeout;
   }
 
   @Override
   public boolean init() throws Exception {
     FileUtil.createDirectory(this.h2dbFile.getParent());
-    this.connection = DriverManager.getConnection("jdbc:h2:" + this.h2dbFile.toAbsolutePath());
 
-    return this.connection != null;
+    // each thread borrows its own connection, statements of different threads are no longer serialized on one
+    // connection and transactions do not leak into statements executed concurrently by other threads
+    this.connectionPool = JdbcConnectionPool.create(this.connectionUrl, "", "");
+    this.connectionPool.setMaxConnections(this.maxConnections);
+    this.connectionPool.setLoginTimeout(this.connectionTimeout);
+
+    // open a connection once to ensure that the database is accessible
+    try (var connection = this.connectionPool.getConnection()) {
+      if (!connection.isValid(this.connectionTimeout)) {
+        return false;
+      }
+    }
+
+    // create the table which holds the declared indexes of all databases
+    return this.executeUpdate(String.format(
+      "CREATE TABLE IF NOT EXISTS `%s` (DatabaseName VARCHAR NOT NULL, FieldName VARCHAR NOT NULL, "
+        + "Complete BOOLEAN NOT NULL, PRIMARY KEY (DatabaseName, FieldName));",
+      INDEX_TABLE_NAME)) != -1;
   }
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> new H2Database(this, name));
+    return this.databaseCache.get(name, $ -> this.withDocumentCache(new H2Database(this, name)));
   }
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
+    this.databaseCache.invalidate(name);
+    this.executeUpdate("DROP TABLE IF EXISTS `" + H2Database.fieldTableName(name) + "`");
+    this.executeUpdate("DELETE FROM `" + INDEX_TABLE_NAME + "` WHERE DatabaseName = ?", name);
     return this.executeUpdate("DROP TABLE IF EXISTS `" + name + "`") != -1;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    try (var meta = this.connection.getMetaData().getTables(null, null, null, TABLE_TYPE)) {
+    try (var connection = this.connection();
+      var meta = connection.getMetaData().getTables(null, null, null, TABLE_TYPE)) {
       // now we just need to extract the name from of the tables from the result set
       Collection<String> names = new ArrayList<>();
       while (meta.next()) {
-        names.add(StringUtil.toLower(meta.getString("table_name")));
+        var tableName = StringUtil.toLower(meta.getString("table_name"));
+        if (!tableName.startsWith(INTERNAL_TABLE_PREFIX)) {
+          names.add(tableName);
+        }
       }
       return names;
     } catch (SQLException exception) {
@@ -91,19 +137,23 @@ public boolean deleteDatabase(@NonNull String name) {
   public void close() throws Exception {
     super.close();
 
-    if (this.connection != null) {
-      this.connection.close();
+    if (this.connectionPool != null) {
+      this.connectionPool.dispose();
     }
   }
 
   @Override
   public @NonNull Connection connection() {
-    return this.connection;
+    try {
+      return this.connectionPool.getConnection();
+    } catch (SQLException exception) {
+      throw new IllegalStateException("Unable to retrieve connection from pool", exception);
+    }
   }
 
   @Override
   public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
-    try (var preparedStatement = this.connection().prepareStatement(query)) {
+    try (var connection = this.connection(); var preparedStatement = connection.prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
         preparedStatement.setString(i + 1, objects[i].toString());
       }
@@ -115,6 +165,38 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     }
   }
 
+  @Override
+  public int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batchArguments) {
+    try (var connection = this.connection()) {
+      return this.executeBatchUpdate(connection, query, batchArguments);
+    } catch (SQLException exception) {
+      LOGGER.error("Exception while executing database batch update", exception);
+      return -1;
+    }
+  }
+
+  public <T> @UnknownNullability T executeInTransaction(
+    @NonNull CheckedFunction1<Connection, T> handler,
+    @Nullable T def
+  ) {
+    try (var connection = this.connection()) {
+      connection.setAutoCommit(false);
+      try {
+        var result = handler.apply(connection);
+        connection.commit();
+        return result;
+      } catch (Throwable throwable) {
+        connection.rollback();
+        throw throwable;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (Throwable throwable) {
+      LOGGER.error("Exception while executing database transaction", throwable);
+      return def;
+    }
+  }
+
   @Override
   public @UnknownNullability <T> T executeQuery(
     @NonNull String query,
@@ -122,7 +204,7 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     @Nullable T def,
     @NonNull Object... objects
   ) {
-    try (var preparedStatement = this.connection().prepareStatement(query)) {
+    try (var connection = this.connection(); var preparedStatement = connection.prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
         preparedStatement.setString(i + 1, objects[i].toString());
       }
@@ -132,7 +214,7 @@ public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
       }
     } catch (Throwable throwable) {
       LOGGER.error("Exception while executing database query", throwable);
-      return null;
+      return def;
     }
   }
 }
@@ -29,8 +29,39 @@ public abstract class SQLDatabase extends AbstractDatabase {
 
   protected final SQLDatabaseProvider databaseProvider;
 
+  // the statements which are the same for all sql dialects, formatted once instead of on every call
+  protected final String selectKeyQuery;
+  protected final String selectDocumentQuery;
+  protected final String selectKeysQuery;
+  protected final String selectDocumentsQuery;
+  protected final String selectEntriesQuery;
+  protected final String countDocumentsQuery;
+  protected final String selectFirstChunkQuery;
+  protected final String selectNextChunkQuery;
+
   public SQLDatabase(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(name, provider);
     this.databaseProvider = provider;
+
+    this.selectKeyQuery = String.format(
+      "SELECT %s FROM `%s` WHERE %s = ?;",
+      TABLE_COLUMN_KEY,
+      name,
+      TABLE_COLUMN_KEY);
+    this.selectDocumentQuery = String.format(
+      "SELECT %s FROM `%s` WHERE %s = ?;",
+      TABLE_COLUMN_VAL,
+      name,
+      TABLE_COLUMN_KEY);
+    this.selectKeysQuery = String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_KEY, name);
+    this.selectDocumentsQuery = String.format("SELECT %s FROM `%s`;", TABLE_COLUMN_VAL, name);
+    this.selectEntriesQuery = String.format("SELECT * FROM `%s`;", name);
+    this.countDocumentsQuery = String.format("SELECT COUNT(*) FROM `%s`;", name);
+    this.selectFirstChunkQuery = String.format("SELECT * FROM `%s` ORDER BY `%s` LIMIT ?;", name, TABLE_COLUMN_KEY);
+    this.selectNextChunkQuery = String.format(
+      "SELECT * FROM `%s` WHERE `%s` > ? ORDER BY `%s` LIMIT ?;",
+      name,
+      TABLE_COLUMN_KEY,
+      TABLE_COLUMN_KEY);
   }
 }
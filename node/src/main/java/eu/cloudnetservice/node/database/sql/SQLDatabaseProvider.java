@@ -22,6 +22,9 @@
 import io.vavr.CheckedFunction1;
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
@@ -55,9 +58,43 @@ public boolean containsDatabase(@NonNull String name) {
 
   public abstract int executeUpdate(@NonNull String query, @NonNull Object... objects);
 
+  public abstract int executeBatchUpdate(@NonNull String query, @NonNull Collection<Object[]> batchArguments);
+
   public abstract <T> @UnknownNullability T executeQuery(
     @NonNull String query,
     @NonNull CheckedFunction1<ResultSet, T> callback,
     @Nullable T def,
     @NonNull Object... objects);
+
+  protected int executeBatchUpdate(
+    @NonNull Connection connection,
+    @NonNull String query,
+    @NonNull Collection<Object[]> batchArguments
+  ) throws SQLException {
+    var previousAutoCommit = connection.getAutoCommit();
+    try (var statement = connection.prepareStatement(query)) {
+      // execute all statements of the batch in a single transaction
+      connection.setAutoCommit(false);
+      for (var arguments : batchArguments) {
+        for (var i = 0; i < arguments.length; i++) {
+          statement.setObject(i + 1, arguments[i]);
+        }
+        statement.addBatch();
+      }
+
+      var updatedRows = 0;
+      for (var updateCount : statement.executeBatch()) {
+        // some drivers do not report the affected rows of rewritten batches, count those as one changed row each
+        updatedRows += updateCount == Statement.SUCCESS_NO_INFO ? 1 : Math.max(updateCount, 0);
+      }
+
+      connection.commit();
+      return updatedRows;
+    } catch (SQLException exception) {
+      connection.rollback();
+      throw exception;
+    } finally {
+      connection.setAutoCommit(previousAutoCommit);
+    }
+  }
 }
@@ -0,0 +1,455 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.util;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.send.DocumentSend;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compact binary encoding for documents which are stored by local databases. Every value is prefixed with a type
+ * tag, strings are prefixed with their length and objects and arrays with the length of their encoded content. This
+ * allows to read a single top-level field without decoding the full document and avoids the json parsing overhead
+ * when decoding a full document.
+ * <p>
+ * Encoded documents start with a zero byte, which can never be the first byte of a json document. This allows
+ * databases to store both formats side by side and to detect the format of an entry when reading it.
+ */
+public final class BinaryDocumentCodec {
+
+  private static final byte FORMAT_MARKER = 0x00;
+  private static final byte FORMAT_VERSION = 0x01;
+  private static final int HEADER_LENGTH = 2;
+
+  private static final byte TAG_NULL = 0;
+  private static final byte TAG_TRUE = 1;
+  private static final byte TAG_FALSE = 2;
+  private static final byte TAG_LONG = 3;
+  private static final byte TAG_DOUBLE = 4;
+  private static final byte TAG_DECIMAL = 5;
+  private static final byte TAG_STRING = 6;
+  private static final byte TAG_ARRAY = 7;
+  private static final byte TAG_OBJECT = 8;
+
+  private BinaryDocumentCodec() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Checks if the given data is a document encoded by this codec.
+   *
+   * @param data   the data to check.
+   * @param length the amount of readable bytes in the given data array.
+   * @return true if the data is a binary encoded document, false otherwise.
+   * @throws NullPointerException if the given data array is null.
+   */
+  public static boolean isBinary(byte @NonNull [] data, int length) {
+    return length >= HEADER_LENGTH && data[0] == FORMAT_MARKER;
+  }
+
+  /**
+   * Encodes the given document into the binary format of this codec.
+   *
+   * @param document the document to encode.
+   * @return the encoded document.
+   * @throws NullPointerException if the given document is null.
+   */
+  public static byte @NonNull [] encode(@NonNull Document document) {
+    var output = new Output();
+    output.writeByte(FORMAT_MARKER);
+    output.writeByte(FORMAT_VERSION);
+    writeElement(output, document.send().rootElement());
+    return output.toByteArray();
+  }
+
+  /**
+   * Decodes the binary encoded document from the given data into a new json document.
+   *
+   * @param data   the data to decode.
+   * @param length the amount of readable bytes in the given data array.
+   * @return the decoded document.
+   * @throws NullPointerException   if the given data array is null.
+   * @throws DocumentParseException if the given data is not a valid binary encoded document.
+   */
+  public static @NonNull Document.Mutable decode(byte @NonNull [] data, int length) {
+    var input = openRootObject(data, length);
+    try {
+      var root = readObjectContent(input, Element.NO_KEY);
+      return DocumentFactory.json().receive(new BinaryDocumentSend(root));
+    } catch (IndexOutOfBoundsException exception) {
+      throw new DocumentParseException("Binary document is truncated", exception);
+    }
+  }
+
+  /**
+   * Reads the string value of the given top-level field without decoding the full document. The result is the same
+   * as the result of {@link Document#getString(String)} on the decoded document.
+   *
+   * @param data   the data of the binary encoded document.
+   * @param length the amount of readable bytes in the given data array.
+   * @param key    the key of the top-level field to read.
+   * @return the string value of the field, null if the field is not present or not a string.
+   * @throws NullPointerException   if the given data array or key is null.
+   * @throws DocumentParseException if the given data is not a valid binary encoded document.
+   */
+  public static @Nullable String readString(byte @NonNull [] data, int length, @NonNull String key) {
+    var input = openRootObject(data, length);
+    try {
+      // skip the content length of the root object, we iterate over all entries anyway
+      input.readInt();
+      var entryCount = input.readVarInt();
+
+      var encodedKey = key.getBytes(StandardCharsets.UTF_8);
+      for (var i = 0; i < entryCount; i++) {
+        var keyLength = input.readVarInt();
+        var keyMatches = Arrays.equals(
+          input.data, input.position, input.position + keyLength,
+          encodedKey, 0, encodedKey.length);
+        input.skip(keyLength);
+
+        var tag = input.readByte();
+        if (keyMatches) {
+          return tag == TAG_STRING ? input.readString() : null;
+        }
+
+        skipValue(input, tag);
+      }
+
+      return null;
+    } catch (IndexOutOfBoundsException exception) {
+      throw new DocumentParseException("Binary document is truncated", exception);
+    }
+  }
+
+  private static @NonNull Input openRootObject(byte @NonNull [] data, int length) {
+    if (!isBinary(data, length)) {
+      throw new DocumentParseException("Data is not a binary encoded document");
+    }
+
+    if (data[1] != FORMAT_VERSION) {
+      throw new DocumentParseException("Unsupported binary document version " + data[1]);
+    }
+
+    var input = new Input(data, HEADER_LENGTH, length);
+    if (input.readByte() != TAG_OBJECT) {
+      throw new DocumentParseException("Root element of binary document is not an object");
+    }
+
+    return input;
+  }
+
+  private static void writeElement(@NonNull Output output, @NonNull Element element) {
+    switch (element) {
+      case NullElement _ -> output.writeByte(TAG_NULL);
+      case PrimitiveElement primitive -> writePrimitive(output, primitive.innerValue());
+      case ArrayElement array -> writeContainer(output, TAG_ARRAY, array.entries(), false);
+      case ObjectElement object -> writeContainer(output, TAG_OBJECT, object.elements(), true);
+    }
+  }
+
+  private static void writeContainer(
+    @NonNull Output output,
+    byte tag,
+    @NonNull Collection<? extends Element> elements,
+    boolean writeKeys
+  ) {
+    output.writeByte(tag);
+
+    // reserve the space for the content length, the actual length is known after writing the content
+    var lengthPosition = output.reserveInt();
+    output.writeVarInt(elements.size());
+    for (var element : elements) {
+      if (writeKeys) {
+        output.writeString(element.key());
+      }
+      writeElement(output, element);
+    }
+
+    output.writeIntAt(lengthPosition, output.position - lengthPosition - Integer.BYTES);
+  }
+
+  private static void writePrimitive(@NonNull Output output, @NonNull Object value) {
+    switch (value) {
+      case String string -> {
+        output.writeByte(TAG_STRING);
+        output.writeString(string);
+      }
+      case Character character -> {
+        output.writeByte(TAG_STRING);
+        output.writeString(character.toString());
+      }
+      case Boolean bool -> output.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+      case Integer _, Long _, Short _, Byte _ -> {
+        output.writeByte(TAG_LONG);
+        output.writeVarLong(((Number) value).longValue());
+      }
+      case Double doubleValue -> {
+        output.writeByte(TAG_DOUBLE);
+        output.writeLong(Double.doubleToRawLongBits(doubleValue));
+      }
+      case Number number -> {
+        // numbers that were parsed from json are lazily parsed, prefer the compact encoding if they are integers
+        var numberString = number.toString();
+        var integer = parseLong(numberString);
+        if (integer != null) {
+          output.writeByte(TAG_LONG);
+          output.writeVarLong(integer);
+        } else {
+          output.writeByte(TAG_DECIMAL);
+          output.writeString(numberString);
+        }
+      }
+      default -> throw new IllegalArgumentException("Unsupported primitive type " + value.getClass().getName());
+    }
+  }
+
+  private static @Nullable Long parseLong(@NonNull String value) {
+    try {
+      var parsed = Long.parseLong(value);
+      // only use the parsed value if it has the same string representation, for example not for -0
+      return Long.toString(parsed).equals(value) ? parsed : null;
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  private static @NonNull Element readElement(@NonNull Input input, @NonNull String key) {
+    var tag = input.readByte();
+    return switch (tag) {
+      case TAG_NULL -> new NullElement(key);
+      case TAG_TRUE -> new PrimitiveElement(key, Boolean.TRUE);
+      case TAG_FALSE -> new PrimitiveElement(key, Boolean.FALSE);
+      case TAG_LONG -> new PrimitiveElement(key, input.readVarLong());
+      case TAG_DOUBLE -> new PrimitiveElement(key, Double.longBitsToDouble(input.readLong()));
+      case TAG_DECIMAL -> new PrimitiveElement(key, new BigDecimal(input.readString()));
+      case TAG_STRING -> new PrimitiveElement(key, input.readString());
+      case TAG_ARRAY -> readArrayContent(input, key);
+      case TAG_OBJECT -> readObjectContent(input, key);
+      default -> throw new DocumentParseException("Unknown binary document tag " + tag);
+    };
+  }
+
+  private static @NonNull ObjectElement readObjectContent(@NonNull Input input, @NonNull String key) {
+    input.readInt();
+    var entryCount = input.readVarInt();
+
+    List<Element> elements = new ArrayList<>(entryCount);
+    for (var i = 0; i < entryCount; i++) {
+      var entryKey = input.readString();
+      elements.add(readElement(input, entryKey));
+    }
+
+    return new ObjectElement(key, Collections.unmodifiableList(elements));
+  }
+
+  private static @NonNull ArrayElement readArrayContent(@NonNull Input input, @NonNull String key) {
+    input.readInt();
+    var entryCount = input.readVarInt();
+
+    List<Element> elements = new ArrayList<>(entryCount);
+    for (var i = 0; i < entryCount; i++) {
+      elements.add(readElement(input, Element.NO_KEY));
+    }
+
+    return new ArrayElement(key, Collections.unmodifiableList(elements));
+  }
+
+  private static void skipValue(@NonNull Input input, byte tag) {
+    switch (tag) {
+      case TAG_NULL, TAG_TRUE, TAG_FALSE -> {
+      }
+      case TAG_LONG -> input.readVarLong();
+      case TAG_DOUBLE -> input.skip(Long.BYTES);
+      case TAG_DECIMAL, TAG_STRING -> input.skip(input.readVarInt());
+      case TAG_ARRAY, TAG_OBJECT -> input.skip(input.readInt());
+      default -> throw new DocumentParseException("Unknown binary document tag " + tag);
+    }
+  }
+
+  private record BinaryDocumentSend(@NonNull ObjectElement rootElement) implements DocumentSend {
+
+    @Override
+    public @NonNull Document.Mutable into(@NonNull DocumentFactory factory) {
+      return factory.receive(this);
+    }
+  }
+
+  private static final class Output {
+
+    private byte[] buffer = new byte[256];
+    private int position;
+
+    private void ensureWritable(int bytes) {
+      if (this.position + bytes > this.buffer.length) {
+        this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.position + bytes));
+      }
+    }
+
+    private void writeByte(int value) {
+      this.ensureWritable(1);
+      this.buffer[this.position++] = (byte) value;
+    }
+
+    private int reserveInt() {
+      this.ensureWritable(Integer.BYTES);
+      var reservedPosition = this.position;
+      this.position += Integer.BYTES;
+      return reservedPosition;
+    }
+
+    private void writeIntAt(int index, int value) {
+      this.buffer[index] = (byte) (value >>> 24);
+      this.buffer[index + 1] = (byte) (value >>> 16);
+      this.buffer[index + 2] = (byte) (value >>> 8);
+      this.buffer[index + 3] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+      this.ensureWritable(Long.BYTES);
+      for (var shift = 56; shift >= 0; shift -= 8) {
+        this.buffer[this.position++] = (byte) (value >>> shift);
+      }
+    }
+
+    private void writeVarInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        this.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      this.writeByte(value);
+    }
+
+    private void writeVarLong(long value) {
+      // zig-zag encode the value to keep small negative numbers small
+      var encoded = (value << 1) ^ (value >> 63);
+      while ((encoded & ~0x7FL) != 0) {
+        this.writeByte((int) ((encoded & 0x7F) | 0x80));
+        encoded >>>= 7;
+      }
+      this.writeByte((int) encoded);
+    }
+
+    private void writeString(@NonNull String value) {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+      this.writeVarInt(bytes.length);
+      this.ensureWritable(bytes.length);
+      System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+      this.position += bytes.length;
+    }
+
+    private byte @NonNull [] toByteArray() {
+      return Arrays.copyOf(this.buffer, this.position);
+    }
+  }
+
+  private static final class Input {
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+
+    private Input(byte @NonNull [] data, int position, int limit) {
+      this.data = data;
+      this.limit = limit;
+      this.position = position;
+    }
+
+    private void checkReadable(int bytes) {
+      if (bytes < 0 || this.position + bytes > this.limit) {
+        throw new IndexOutOfBoundsException("Cannot read " + bytes + " bytes at position " + this.position);
+      }
+    }
+
+    private byte readByte() {
+      this.checkReadable(1);
+      return this.data[this.position++];
+    }
+
+    private int readInt() {
+      this.checkReadable(Integer.BYTES);
+      var value = ((this.data[this.position] & 0xFF) << 24)
+        | ((this.data[this.position + 1] & 0xFF) << 16)
+        | ((this.data[this.position + 2] & 0xFF) << 8)
+        | (this.data[this.position + 3] & 0xFF);
+      this.position += Integer.BYTES;
+      return value;
+    }
+
+    private long readLong() {
+      this.checkReadable(Long.BYTES);
+      long value = 0;
+      for (var i = 0; i < Long.BYTES; i++) {
+        value = (value << 8) | (this.data[this.position++] & 0xFF);
+      }
+      return value;
+    }
+
+    private int readVarInt() {
+      var value = 0;
+      for (var shift = 0; shift < 35; shift += 7) {
+        var current = this.readByte();
+        value |= (current & 0x7F) << shift;
+        if ((current & 0x80) == 0) {
+          return value;
+        }
+      }
+
+      throw new DocumentParseException("VarInt in binary document is too big");
+    }
+
+    private long readVarLong() {
+      long encoded = 0;
+      for (var shift = 0; shift < 70; shift += 7) {
+        var current = this.readByte();
+        encoded |= (long) (current & 0x7F) << shift;
+        if ((current & 0x80) == 0) {
+          return (encoded >>> 1) ^ -(encoded & 1);
+        }
+      }
+
+      throw new DocumentParseException("VarLong in binary document is too big");
+    }
+
+    private @NonNull String readString() {
+      var length = this.readVarInt();
+      this.checkReadable(length);
+      var value = new String(this.data, this.position, length, StandardCharsets.UTF_8);
+      this.position += length;
+      return value;
+    }
+
+    private void skip(int bytes) {
+      this.checkReadable(bytes);
+      this.position += bytes;
+    }
+  }
+}
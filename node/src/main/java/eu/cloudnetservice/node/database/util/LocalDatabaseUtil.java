@@ -16,6 +16,9 @@
 
 package eu.cloudnetservice.node.database.util;
 
+import eu.cloudnetservice.driver.database.Database;
+import eu.cloudnetservice.driver.document.Document;
+import java.util.SequencedMap;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,4 +40,14 @@ public static void bigWarningThatEveryoneCanSee(@NonNull String warning) {
     LOGGER.warn("║        https://cloudnetservice.eu/docs/3.4/setup/cluster          ");
     LOGGER.warn("╚══════════════════════════════════════════════════════════════════╝");
   }
+
+  public static void copyEntries(@NonNull Database source, @NonNull Database target, int chunkSize) {
+    // copy the data in chunks, writing each chunk in one batch operation into the target database
+    String previousKey = null;
+    SequencedMap<String, Document> chunk;
+    while (!(chunk = source.readChunk(previousKey, chunkSize)).isEmpty()) {
+      target.insertAll(chunk);
+      previousKey = chunk.lastEntry().getKey();
+    }
+  }
 }
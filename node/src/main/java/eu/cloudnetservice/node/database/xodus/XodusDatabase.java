@@ -19,20 +19,28 @@
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
+import eu.cloudnetservice.node.database.util.BinaryDocumentCodec;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.SequencedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -40,21 +48,45 @@ public class XodusDatabase extends AbstractDatabase {
 
   protected final Environment environment;
   protected final AtomicReference<Store> store;
+  protected final boolean binaryDocuments;
+  protected final Map<String, XodusDatabaseIndex> indexes = new ConcurrentHashMap<>();
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Collection<XodusDatabaseIndex> indexes,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
     this.environment = store.getEnvironment();
     this.store = new AtomicReference<>(store);
+    this.binaryDocuments = provider.binaryDocuments;
+
+    for (var index : indexes) {
+      this.indexes.put(index.fieldName(), index);
+    }
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
-        txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+    return this.environment.computeInExclusiveTransaction(txn -> this.insert0(txn, key, document));
+  }
+
+  @Override
+  public boolean insertAll(@NonNull Map<String, Document> entries) {
+    if (entries.isEmpty()) {
+      return true;
+    }
+
+    // write all entries in one transaction to only pay the commit cost once
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      var allWritten = true;
+      for (var entry : entries.entrySet()) {
+        allWritten &= this.insert0(txn, entry.getKey(), entry.getValue());
+      }
+      return allWritten;
+    });
   }
 
   @Override
@@ -65,38 +97,86 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    return this.environment.computeInTransaction(txn -> this.delete0(txn, key));
+  }
+
+  @Override
+  public long deleteAll(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return 0;
+    }
+
+    return this.environment.computeInExclusiveTransaction(txn -> {
+      long removed = 0;
+      for (var key : keys) {
+        if (this.delete0(txn, key)) {
+          removed++;
+        }
+      }
+      return removed;
+    });
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.environment.computeInReadonlyTransaction(txn -> {
       var entry = this.store().get(txn, StringBinding.stringToEntry(key));
-      return entry == null ? null : DocumentFactory.json().parse(entry.getBytesUnsafe());
+      return entry == null ? null : deserializeDocument(entry);
     });
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
-    return this.handleWithCursor(($, document) -> {
-      if (Objects.equals(document.getString(fieldName), fieldValue)) {
-        return document;
-      }
-      return null;
-    });
+    var index = this.indexes.get(fieldName);
+    if (index != null) {
+      return this.handleWithIndex(index, fieldValue, document -> true);
+    }
+
+    return this.findWithCursor(List.of(new AbstractMap.SimpleImmutableEntry<>(fieldName, fieldValue)));
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
     var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
-      for (var entry : entries) {
-        if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
-        }
+    for (var entry : entries) {
+      // use the first indexed filter to select the candidates, the remaining filters are checked on the documents
+      var index = this.indexes.get(entry.getKey());
+      if (index != null) {
+        return this.handleWithIndex(index, entry.getValue(), document -> this.matchesAll(document, entries));
       }
-      return document;
-    });
+    }
+
+    return this.findWithCursor(entries);
+  }
+
+  @Override
+  public boolean declareIndex(@NonNull String fieldName) {
+    if (!this.indexes.containsKey(fieldName)) {
+      this.environment.executeInExclusiveTransaction(txn -> {
+        // check again while holding the exclusive transaction, the index might have been declared concurrently
+        if (this.indexes.containsKey(fieldName)) {
+          return;
+        }
+
+        var index = XodusDatabaseIndex.create(this.environment, this.name, fieldName, txn);
+        // index all documents which are already present in the database
+        try (var cursor = this.store().openCursor(txn)) {
+          while (cursor.getNext()) {
+            var document = deserializeDocument(cursor.getValue());
+            index.update(txn, new ArrayByteIterable(cursor.getKey()), null, document);
+          }
+        }
+
+        this.indexes.put(fieldName, index);
+      });
+    }
+
+    return true;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return List.copyOf(this.indexes.keySet());
   }
 
   @Override
@@ -126,6 +206,10 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      for (var index : this.indexes.values()) {
+        index.truncate(txn);
+      }
     });
   }
 
@@ -154,13 +238,111 @@ public void close() {
     return result;
   }
 
+  protected @NonNull List<Document> handleWithIndex(
+    @NonNull XodusDatabaseIndex index,
+    @Nullable String fieldValue,
+    @NonNull Predicate<Document> filter
+  ) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      for (var key : index.keys(txn, fieldValue)) {
+        var entry = this.store().get(txn, StringBinding.stringToEntry(key));
+        if (entry != null) {
+          var document = deserializeDocument(entry);
+          if (filter.test(document)) {
+            result.add(document);
+          }
+        }
+      }
+
+      return result;
+    });
+  }
+
+  protected @NonNull List<Document> findWithCursor(@NonNull Collection<Map.Entry<String, String>> filters) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var entry = cursor.getValue();
+          var data = entry.getBytesUnsafe();
+          var length = entry.getLength();
+
+          if (BinaryDocumentCodec.isBinary(data, length)) {
+            // binary documents can be filtered without decoding them, only decode the matching ones
+            if (this.matchesAll(data, length, filters)) {
+              result.add(BinaryDocumentCodec.decode(data, length));
+            }
+          } else {
+            var document = deserializeDocument(entry);
+            if (this.matchesAll(document, filters)) {
+              result.add(document);
+            }
+          }
+        }
+      }
+
+      return result;
+    });
+  }
+
+  protected boolean matchesAll(
+    byte @NonNull [] data,
+    int length,
+    @NonNull Collection<Map.Entry<String, String>> filters
+  ) {
+    for (var entry : filters) {
+      if (!Objects.equals(BinaryDocumentCodec.readString(data, length, entry.getKey()), entry.getValue())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected boolean matchesAll(@NonNull Document document, @NonNull Collection<Map.Entry<String, String>> filters) {
+    for (var entry : filters) {
+      if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  protected boolean insert0(@NonNull Transaction txn, @NonNull String key, @NonNull Document document) {
+    var keyEntry = StringBinding.stringToEntry(key);
+    this.updateIndexes(txn, keyEntry, document);
+
+    return this.store().put(txn, keyEntry, this.serializeDocument(document));
+  }
+
+  protected boolean delete0(@NonNull Transaction txn, @NonNull String key) {
+    var keyEntry = StringBinding.stringToEntry(key);
+    this.updateIndexes(txn, keyEntry, null);
+
+    return this.store().delete(txn, keyEntry);
+  }
+
+  protected void updateIndexes(@NonNull Transaction txn, @NonNull ByteIterable key, @Nullable Document document) {
+    if (!this.indexes.isEmpty()) {
+      // the previous document is needed to remove the outdated index entries
+      var previousEntry = this.store().get(txn, key);
+      var previous = previousEntry == null ? null : deserializeDocument(previousEntry);
+
+      for (var index : this.indexes.values()) {
+        index.update(txn, key, previous, document);
+      }
+    }
+  }
+
   protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     this.environment.executeInReadonlyTransaction(txn -> {
       try (var cursor = this.store().openCursor(txn)) {
         while (cursor.getNext()) {
           handler.accept(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            deserializeDocument(cursor.getValue()));
         }
       }
     });
@@ -183,7 +365,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
         while (chunkSize > currentReadCount && cursor.getNext()) {
           result.put(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            deserializeDocument(cursor.getValue()));
           currentReadCount++;
         }
 
@@ -192,7 +374,96 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @NonNull SequencedMap<String, Document> readChunk(@Nullable String previousKey, int chunkSize) {
+    this.validateChunkSize(chunkSize);
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      SequencedMap<String, Document> result = new LinkedHashMap<>();
+      try (var cursor = this.store().openCursor(txn)) {
+        boolean positioned;
+        if (previousKey == null) {
+          positioned = cursor.getNext();
+        } else {
+          // seek to the first key that is equal to or greater than the previous key, skip it if it is the previous key
+          var previousKeyEntry = StringBinding.stringToEntry(previousKey);
+          positioned = cursor.getSearchKeyRange(previousKeyEntry) != null;
+          if (positioned && cursor.getKey().compareTo(previousKeyEntry) == 0) {
+            positioned = cursor.getNext();
+          }
+        }
+
+        while (positioned && result.size() < chunkSize) {
+          result.put(
+            StringBinding.entryToString(cursor.getKey()),
+            deserializeDocument(cursor.getValue()));
+          positioned = cursor.getNext();
+        }
+      }
+
+      return result;
+    });
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
+
+  protected @Nullable ByteIterable rewriteDocuments(
+    @NonNull Transaction txn,
+    @Nullable ByteIterable previousKey,
+    int chunkSize
+  ) {
+    // collect the entries first to not modify the store while iterating over it
+    Map<ByteIterable, ByteIterable> entries = new LinkedHashMap<>();
+    try (var cursor = this.store().openCursor(txn)) {
+      boolean positioned;
+      if (previousKey == null) {
+        positioned = cursor.getNext();
+      } else {
+        // seek to the first key that is equal to or greater than the previous key, skip it if it is the previous key
+        positioned = cursor.getSearchKeyRange(previousKey) != null;
+        if (positioned && cursor.getKey().compareTo(previousKey) == 0) {
+          positioned = cursor.getNext();
+        }
+      }
+
+      while (positioned && entries.size() < chunkSize) {
+        entries.put(new ArrayByteIterable(cursor.getKey()), new ArrayByteIterable(cursor.getValue()));
+        positioned = cursor.getNext();
+      }
+    }
+
+    ByteIterable lastKey = null;
+    for (var entry : entries.entrySet()) {
+      var value = entry.getValue();
+      var binary = BinaryDocumentCodec.isBinary(value.getBytesUnsafe(), value.getLength());
+      if (binary != this.binaryDocuments) {
+        this.store().put(txn, entry.getKey(), this.serializeDocument(deserializeDocument(value)));
+      }
+
+      lastKey = entry.getKey();
+    }
+
+    // null signals that the end of the store was reached
+    return entries.size() < chunkSize ? null : lastKey;
+  }
+
+  protected @NonNull ByteIterable serializeDocument(@NonNull Document document) {
+    if (this.binaryDocuments) {
+      return new ArrayByteIterable(BinaryDocumentCodec.encode(document));
+    }
+
+    return new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8));
+  }
+
+  static @NonNull Document deserializeDocument(@NonNull ByteIterable entry) {
+    // the format is detected per entry, as stores might still contain entries written in the other format
+    var data = entry.getBytesUnsafe();
+    var length = entry.getLength();
+    if (BinaryDocumentCodec.isBinary(data, length)) {
+      return BinaryDocumentCodec.decode(data, length);
+    }
+
+    return DocumentFactory.json().parse(new String(data, 0, length, StandardCharsets.UTF_8));
+  }
 }
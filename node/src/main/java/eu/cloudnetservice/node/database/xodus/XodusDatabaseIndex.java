@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.xodus;
+
+import eu.cloudnetservice.driver.document.Document;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
+import jetbrains.exodus.bindings.StringBinding;
+import jetbrains.exodus.env.Environment;
+import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A secondary index of a xodus database which maps the string value of a single top-level document field to the keys
+ * of all documents having that value. The index is kept in a separate store of the same environment and must only be
+ * modified in the same transaction which modifies the indexed database.
+ */
+final class XodusDatabaseIndex {
+
+  static final String INTERNAL_STORE_PREFIX = "cloudnet_internal$";
+  static final String INDEX_META_STORE_NAME = INTERNAL_STORE_PREFIX + "indexes";
+
+  private static final byte NULL_VALUE_MARKER = 0;
+  private static final byte STRING_VALUE_MARKER = 1;
+
+  private final String fieldName;
+  private final String storeName;
+  private final Environment environment;
+  private final AtomicReference<Store> store;
+
+  private XodusDatabaseIndex(@NonNull String fieldName, @NonNull String storeName, @NonNull Store store) {
+    this.fieldName = fieldName;
+    this.storeName = storeName;
+    this.environment = store.getEnvironment();
+    this.store = new AtomicReference<>(store);
+  }
+
+  static @NonNull Store openMetaStore(@NonNull Environment environment, @NonNull Transaction txn) {
+    return environment.openStore(INDEX_META_STORE_NAME, StoreConfig.WITH_DUPLICATES_WITH_PREFIXING, txn);
+  }
+
+  static @NonNull List<XodusDatabaseIndex> openIndexes(
+    @NonNull Environment environment,
+    @NonNull String databaseName,
+    @NonNull Transaction txn
+  ) {
+    List<XodusDatabaseIndex> indexes = new ArrayList<>();
+    try (var cursor = openMetaStore(environment, txn).openCursor(txn)) {
+      var value = cursor.getSearchKey(StringBinding.stringToEntry(databaseName));
+      if (value != null) {
+        do {
+          indexes.add(open(environment, databaseName, StringBinding.entryToString(cursor.getValue()), txn));
+        } while (cursor.getNextDup());
+      }
+    }
+
+    return indexes;
+  }
+
+  static @NonNull XodusDatabaseIndex create(
+    @NonNull Environment environment,
+    @NonNull String databaseName,
+    @NonNull String fieldName,
+    @NonNull Transaction txn
+  ) {
+    // register the index in the meta store, so that it gets loaded again when opening the database
+    openMetaStore(environment, txn).put(
+      txn,
+      StringBinding.stringToEntry(databaseName),
+      StringBinding.stringToEntry(fieldName));
+    return open(environment, databaseName, fieldName, txn);
+  }
+
+  static void removeIndexes(@NonNull Environment environment, @NonNull String databaseName, @NonNull Transaction txn) {
+    for (var index : openIndexes(environment, databaseName, txn)) {
+      environment.removeStore(index.storeName, txn);
+    }
+
+    openMetaStore(environment, txn).delete(txn, StringBinding.stringToEntry(databaseName));
+  }
+
+  private static @NonNull XodusDatabaseIndex open(
+    @NonNull Environment environment,
+    @NonNull String databaseName,
+    @NonNull String fieldName,
+    @NonNull Transaction txn
+  ) {
+    var storeName = INTERNAL_STORE_PREFIX + "index$" + databaseName + '$' + fieldName;
+    var store = environment.openStore(storeName, StoreConfig.WITH_DUPLICATES_WITH_PREFIXING, txn);
+    return new XodusDatabaseIndex(fieldName, storeName, store);
+  }
+
+  private static @NonNull ByteIterable valueToEntry(@Nullable String value) {
+    if (value == null) {
+      return new ArrayByteIterable(new byte[]{NULL_VALUE_MARKER});
+    }
+
+    // prefix the value with a marker to distinguish the string "null" from an actual null value
+    var valueBytes = value.getBytes(StandardCharsets.UTF_8);
+    var entry = new byte[valueBytes.length + 1];
+    entry[0] = STRING_VALUE_MARKER;
+    System.arraycopy(valueBytes, 0, entry, 1, valueBytes.length);
+    return new ArrayByteIterable(entry);
+  }
+
+  @NonNull String fieldName() {
+    return this.fieldName;
+  }
+
+  void update(
+    @NonNull Transaction txn,
+    @NonNull ByteIterable key,
+    @Nullable Document previous,
+    @Nullable Document current
+  ) {
+    var previousValue = previous == null ? null : previous.getString(this.fieldName);
+    var currentValue = current == null ? null : current.getString(this.fieldName);
+
+    // nothing to do if the indexed value did not change
+    if (previous != null && current != null && Objects.equals(previousValue, currentValue)) {
+      return;
+    }
+
+    if (previous != null) {
+      try (var cursor = this.store.get().openCursor(txn)) {
+        if (cursor.getSearchBoth(valueToEntry(previousValue), key)) {
+          cursor.deleteCurrent();
+        }
+      }
+    }
+
+    if (current != null) {
+      this.store.get().put(txn, valueToEntry(currentValue), key);
+    }
+  }
+
+  @NonNull Collection<String> keys(@NonNull Transaction txn, @Nullable String value) {
+    Collection<String> keys = new ArrayList<>();
+    try (var cursor = this.store.get().openCursor(txn)) {
+      var entry = cursor.getSearchKey(valueToEntry(value));
+      if (entry != null) {
+        do {
+          keys.add(StringBinding.entryToString(cursor.getValue()));
+        } while (cursor.getNextDup());
+      }
+    }
+
+    return keys;
+  }
+
+  void truncate(@NonNull Transaction txn) {
+    var config = this.store.get().getConfig();
+    this.environment.truncateStore(this.storeName, txn);
+    this.store.set(this.environment.openStore(this.storeName, config, txn));
+  }
+}
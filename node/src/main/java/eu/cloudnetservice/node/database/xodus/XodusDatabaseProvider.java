@@ -22,15 +22,27 @@
 import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import java.io.File;
 import java.util.Collection;
+import java.util.List;
+import jetbrains.exodus.ByteIterable;
+import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
 import jetbrains.exodus.env.StoreConfig;
 import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class XodusDatabaseProvider extends NodeDatabaseProvider {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(XodusDatabaseProvider.class);
+
+  protected static final String SETTINGS_STORE_NAME = XodusDatabaseIndex.INTERNAL_STORE_PREFIX + "settings";
+  protected static final String DOCUMENT_FORMAT_KEY = "document_format";
+  protected static final int CONVERSION_CHUNK_SIZE = 1000;
+
   protected final boolean runsInCluster;
+  protected final boolean binaryDocuments;
   protected final File databaseDirectory;
 
   protected final EnvironmentConfig environmentConfig;
@@ -38,9 +50,14 @@ public class XodusDatabaseProvider extends NodeDatabaseProvider {
   protected Environment environment;
 
   public XodusDatabaseProvider(@NonNull File databaseDirectory, boolean runsInCluster) {
+    this(databaseDirectory, runsInCluster, Boolean.getBoolean("cloudnet.database.xodus.binary-documents"));
+  }
+
+  public XodusDatabaseProvider(@NonNull File databaseDirectory, boolean runsInCluster, boolean binaryDocuments) {
     super(DEFAULT_REMOVAL_LISTENER);
 
     this.runsInCluster = runsInCluster;
+    this.binaryDocuments = binaryDocuments;
     this.databaseDirectory = databaseDirectory;
 
     this.environmentConfig = new EnvironmentConfig()
@@ -57,6 +74,7 @@ public boolean init() {
     }
 
     this.environment = Environments.newInstance(this.databaseDirectory, this.environmentConfig);
+    this.convertDocumentFormat();
     return true;
   }
 
@@ -64,7 +82,8 @@ public boolean init() {
   public @NonNull LocalDatabase database(@NonNull String name) {
     return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
-      return new XodusDatabase(name, store, this);
+      var indexes = XodusDatabaseIndex.openIndexes(this.environment, name, txn);
+      return this.withDocumentCache(new XodusDatabase(name, store, indexes, this));
     }));
   }
 
@@ -76,14 +95,19 @@ public boolean containsDatabase(@NonNull String name) {
   @Override
   public boolean deleteDatabase(@NonNull String name) {
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
+    this.environment.executeInTransaction(txn -> {
+      this.environment.removeStore(name, txn);
+      XodusDatabaseIndex.removeIndexes(this.environment, name, txn);
+    });
 
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn).stream()
+      .filter(storeName -> !storeName.startsWith(XodusDatabaseIndex.INTERNAL_STORE_PREFIX))
+      .toList());
   }
 
   @Override
@@ -92,6 +116,40 @@ public void close() throws Exception {
     this.environment.close();
   }
 
+  protected void convertDocumentFormat() {
+    var targetFormat = this.binaryDocuments ? "binary" : "json";
+    var formatKey = StringBinding.stringToEntry(DOCUMENT_FORMAT_KEY);
+    var settingsStore = this.environment.computeInTransaction(
+      txn -> this.environment.openStore(SETTINGS_STORE_NAME, StoreConfig.WITHOUT_DUPLICATES, txn));
+
+    // stores without a format entry were written before the binary format existed and only contain json
+    var currentFormatEntry = this.environment.computeInReadonlyTransaction(txn -> settingsStore.get(txn, formatKey));
+    var currentFormat = currentFormatEntry == null ? "json" : StringBinding.entryToString(currentFormatEntry);
+    if (!currentFormat.equals(targetFormat)) {
+      for (var databaseName : this.databaseNames()) {
+        // not using the database cache here to not keep a database with the wrong (empty) indexes
+        var store = this.environment.computeInTransaction(
+          txn -> this.environment.openStore(databaseName, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn));
+        var database = new XodusDatabase(databaseName, store, List.of(), this);
+
+        // convert in chunks to not block the environment with a single huge transaction. the format is detected per
+        // entry, therefore a conversion that was interrupted is just continued on the next start
+        ByteIterable previousKey = null;
+        do {
+          var chunkStart = previousKey;
+          previousKey = this.environment.computeInExclusiveTransaction(
+            txn -> database.rewriteDocuments(txn, chunkStart, CONVERSION_CHUNK_SIZE));
+        } while (previousKey != null);
+      }
+
+      LOGGER.info("Converted the documents of all xodus databases from {} to {}", currentFormat, targetFormat);
+    }
+
+    // only written after all stores were converted
+    var targetFormatEntry = StringBinding.stringToEntry(targetFormat);
+    this.environment.executeInTransaction(txn -> settingsStore.put(txn, formatKey, targetFormatEntry));
+  }
+
   @Override
   public @NonNull String name() {
     return "xodus";
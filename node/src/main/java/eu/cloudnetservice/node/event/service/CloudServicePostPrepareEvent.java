@@ -17,11 +17,26 @@
 package eu.cloudnetservice.node.event.service;
 
 import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.service.ServicePreparationTimings;
 import lombok.NonNull;
 
 public final class CloudServicePostPrepareEvent extends CloudServiceEvent {
 
+  private final ServicePreparationTimings preparationTimings;
+
   public CloudServicePostPrepareEvent(@NonNull CloudService service) {
+    this(service, ServicePreparationTimings.NONE);
+  }
+
+  public CloudServicePostPrepareEvent(
+    @NonNull CloudService service,
+    @NonNull ServicePreparationTimings preparationTimings
+  ) {
     super(service);
+    this.preparationTimings = preparationTimings;
+  }
+
+  public @NonNull ServicePreparationTimings preparationTimings() {
+    return this.preparationTimings;
   }
 }
@@ -16,12 +16,22 @@
 
 package eu.cloudnetservice.node.module.listener;
 
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
 import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.common.resource.ResourceResolver;
+import eu.cloudnetservice.common.util.StringUtil;
 import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.driver.util.ModuleHelper;
 import eu.cloudnetservice.node.event.service.CloudServicePreProcessStartEvent;
 import eu.cloudnetservice.node.service.CloudService;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import lombok.NonNull;
@@ -39,6 +49,23 @@ public record PluginIncludeListener(
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PluginIncludeListener.class);
 
+  private static final Path PLUGIN_CACHE_DIRECTORY = FileUtil.TEMP_DIR.resolve("caches").resolve("plugins");
+  private static final Map<Path, Boolean> PATCHED_PLUGIN_FILES = new ConcurrentHashMap<>();
+  private static final ClassValue<String> MODULE_HASHES = new ClassValue<>() {
+    @Override
+    protected @Nullable String computeValue(@NonNull Class<?> type) {
+      try {
+        var moduleFile = Path.of(ResourceResolver.resolveCodeSourceOfClass(type));
+        return Files.isRegularFile(moduleFile)
+          ? MoreFiles.asByteSource(moduleFile).hash(Hashing.murmur3_128()).toString()
+          : null;
+      } catch (Exception exception) {
+        LOGGER.debug("Unable to hash the module file of {}, not caching the plugin file", type, exception);
+        return null;
+      }
+    }
+  };
+
   public PluginIncludeListener(
     @NonNull String moduleName,
     @NonNull Class<?> moduleClass,
@@ -55,18 +82,69 @@ public void handle(@NonNull CloudServicePreProcessStartEvent event) {
       // remove the old plugin file if it exists
       var pluginFile = event.service().pluginDirectory().resolve(this.moduleName + ".jar");
       FileUtil.delete(pluginFile);
-      // try to copy the current plugin file
-      if (this.moduleHelper.copyJarContainingClass(this.moduleClass, pluginFile)) {
-        // copy the plugin.yml file for the environment
-        this.moduleHelper.copyPluginConfigurationFileForEnvironment(
-          this.moduleClass,
-          event.service().serviceId().environment(),
-          pluginFile);
-        // check if a post listener is available
-        if (this.includeHandler != null) {
-          this.includeHandler.accept(event.service(), pluginFile);
-        }
+      // copy the cached patched plugin file for the environment, patch the plugin file directly if that is not possible
+      var environment = event.service().serviceId().environment();
+      var patchedPluginFile = this.patchedPluginFile(environment);
+      var included = patchedPluginFile == null
+        ? this.patchPluginFile(environment, pluginFile)
+        : this.includePatchedPluginFile(patchedPluginFile, pluginFile);
+      // check if a post listener is available
+      if (included && this.includeHandler != null) {
+        this.includeHandler.accept(event.service(), pluginFile);
       }
     }
   }
+
+  private boolean patchPluginFile(@NonNull ServiceEnvironmentType environment, @NonNull Path target) {
+    // try to copy the current plugin file
+    if (this.moduleHelper.copyJarContainingClass(this.moduleClass, target)) {
+      // copy the plugin.yml file for the environment
+      this.moduleHelper.copyPluginConfigurationFileForEnvironment(this.moduleClass, environment, target);
+      return true;
+    }
+
+    return false;
+  }
+
+  private @Nullable Path patchedPluginFile(@NonNull ServiceEnvironmentType environment) {
+    var moduleHash = MODULE_HASHES.get(this.moduleClass);
+    if (moduleHash == null) {
+      return null;
+    }
+
+    // the patched plugin file only depends on the module file and the environment
+    var fileName = String.format("%s-%s-%s.jar", this.moduleName, StringUtil.toLower(environment.name()), moduleHash);
+    var cachedFile = PLUGIN_CACHE_DIRECTORY.resolve(fileName);
+    // computing serializes the patching of the same plugin file, the file might have been removed from the temp
+    // directory since the last call, therefore the existence is checked on each call
+    var patched = PATCHED_PLUGIN_FILES.compute(cachedFile, (_, _) -> {
+      if (Files.exists(cachedFile)) {
+        return true;
+      }
+
+      // patch into a temporary file first to never expose a partially patched plugin file
+      var tempFile = PLUGIN_CACHE_DIRECTORY.resolve(fileName + ".tmp");
+      FileUtil.createDirectory(PLUGIN_CACHE_DIRECTORY);
+      try {
+        if (this.patchPluginFile(environment, tempFile)) {
+          Files.move(tempFile, cachedFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+          return true;
+        }
+      } catch (IOException exception) {
+        LOGGER.debug("Unable to cache the patched plugin file {}", cachedFile, exception);
+      }
+
+      FileUtil.delete(tempFile);
+      return false;
+    });
+
+    return patched ? cachedFile : null;
+  }
+
+  private boolean includePatchedPluginFile(@NonNull Path patchedPluginFile, @NonNull Path target) {
+    // copy the file instead of linking it, the service or a plugin updater might write to the file in place which
+    // would otherwise change the cached file for all services
+    FileUtil.copy(patchedPluginFile, target);
+    return Files.exists(target);
+  }
 }
@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.config.Configuration;
@@ -73,7 +74,9 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
         PacketClientAuthorization.PacketAuthorizationType.NODE_TO_NODE,
         DataBuf.empty()
           .writeUniqueId(this.configuration.clusterConfig().clusterId())
-          .writeObject(this.configuration.identity())));
+          .writeObject(this.configuration.identity())
+          .writeBoolean(channel.compressionSupported())
+          .writeBoolean(RPCMethodIdTable.of(channel).supported())));
 
       LOGGER.debug(I18n.trans("client-network-channel-init",
         channel.serverAddress(),
@@ -130,6 +130,11 @@ private void closeAsCloudService(@NonNull CloudService cloudService, @NonNull Ne
   }
 
   private boolean shouldDenyConnection(@NonNull NetworkChannel channel) {
+    // connections via unix domain sockets are always coming from the local machine
+    if (!channel.clientAddress().validPort()) {
+      return false;
+    }
+
     var ipWhitelist = this.configuration.ipWhitelist();
     var sourceClientAddress = NetworkUtil.removeAddressScope(channel.clientAddress().host());
 
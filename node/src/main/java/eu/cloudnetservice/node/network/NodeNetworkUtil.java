@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.network.ChannelType;
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelInitEvent;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.defaults.ChunkedSessionRegistry;
 import eu.cloudnetservice.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
@@ -30,6 +31,7 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 @Singleton
 public final class NodeNetworkUtil {
@@ -37,6 +39,8 @@ public final class NodeNetworkUtil {
   private final EventManager eventManager;
   private final ChunkedSessionRegistry chunkedSessionRegistry;
 
+  private volatile HostAndPort domainSocketListener;
+
   @Inject
   public NodeNetworkUtil(@NonNull EventManager eventManager, @NonNull ChunkedSessionRegistry chunkedSessionRegistry) {
     this.eventManager = eventManager;
@@ -50,10 +54,19 @@ boolean shouldInitializeChannel(@NonNull NetworkChannel channel, @NonNull Channe
   public void addDefaultPacketListeners(@NonNull PacketListenerRegistry registry) {
     registry.addListener(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, PacketServerChannelMessageListener.class);
     registry.addListener(NetworkConstants.INTERNAL_RPC_COM_CHANNEL, RPCPacketListener.class);
+    registry.addListener(NetworkConstants.INTERNAL_RPC_BATCH_COM_CHANNEL, RPCPacketListener.class);
 
     var chunkedListener = new ChunkedPacketListener(
       this.chunkedSessionRegistry,
       new EventChunkHandlerFactory(this.eventManager));
     registry.addListener(NetworkConstants.CHUNKED_PACKET_COM_CHANNEL, chunkedListener);
   }
+
+  public @Nullable HostAndPort domainSocketListener() {
+    return this.domainSocketListener;
+  }
+
+  public void domainSocketListener(@Nullable HostAndPort domainSocketListener) {
+    this.domainSocketListener = domainSocketListener;
+  }
 }
@@ -20,10 +20,12 @@
 import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.driver.service.ServiceId;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
@@ -83,6 +85,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           // read the required data for the node auth
           var clusterId = content.readUniqueId();
           var node = content.readObject(NetworkClusterNode.class);
+          var compression = this.negotiateCompression(channel, content);
+          var rpcMethodIds = this.negotiateRPCMethodIds(channel, content);
           // check if the cluster id matches
           if (!this.configuration.clusterConfig().clusterId().equals(clusterId)) {
             break;
@@ -97,7 +101,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
               if (server.state() == NodeServerState.DISCONNECTED) {
                 // respond with an auth success
                 var data = this.dataSyncRegistry.prepareClusterData(true, DataSyncHandler::alwaysForceApply);
-                channel.sendPacket(new PacketServerAuthorizationResponse(true, true, data));
+                channel.sendPacket(new PacketServerAuthorizationResponse(true, true, data, compression, rpcMethodIds));
+                this.enableNegotiatedFeatures(channel, compression, rpcMethodIds);
                 channel.packetRegistry().addListener(
                   NetworkConstants.INTERNAL_SERVICE_SYNC_ACK_CHANNEL,
                   PacketClientServiceSyncAckListener.class);
@@ -107,7 +112,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
                 this.eventManager.callEvent(new NetworkClusterNodeReconnectEvent(server, channel));
               } else {
                 // reply with a default auth success
-                channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
+                channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null, compression, rpcMethodIds));
+                this.enableNegotiatedFeatures(channel, compression, rpcMethodIds);
                 // set the state of the node for further handling
                 server.channel(channel);
                 server.state(NodeServerState.READY);
@@ -126,6 +132,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           // read the required data for the wrapper auth
           var connectionKey = content.readString();
           var id = content.readObject(ServiceId.class);
+          var compression = this.negotiateCompression(channel, content);
+          var rpcMethodIds = this.negotiateRPCMethodIds(channel, content);
           // get the cloud service associated with the service id
           var service = this.cloudServiceManager.localCloudService(id.uniqueId());
           // we can only accept the connection if the service is present, and the connection key is correct
@@ -138,7 +146,8 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
             channel.packetRegistry().removeListeners(NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL);
             this.networkUtil.addDefaultPacketListeners(channel.packetRegistry());
             // successful auth
-            channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null));
+            channel.sendPacket(new PacketServerAuthorizationResponse(true, false, null, compression, rpcMethodIds));
+            this.enableNegotiatedFeatures(channel, compression, rpcMethodIds);
             // call the auth success event
             this.eventManager.callEvent(new NetworkServiceAuthSuccessEvent(service, channel));
             var serviceId = service.serviceId();
@@ -160,4 +169,28 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     channel.sendPacketSync(new PacketServerAuthorizationResponse(false, false, null));
     channel.close();
   }
+
+  private boolean negotiateCompression(@NonNull NetworkChannel channel, @NonNull DataBuf content) {
+    // older clients are not sending the compression flag, compression is only used if both sides support it
+    var clientSupportsCompression = content.accessible() && content.readableBytes() > 0 && content.readBoolean();
+    return clientSupportsCompression && channel.compressionSupported();
+  }
+
+  private boolean negotiateRPCMethodIds(@NonNull NetworkChannel channel, @NonNull DataBuf content) {
+    // older clients are not sending the rpc method id flag, method ids are only used if both sides support them
+    var clientSupportsRPCMethodIds = content.accessible() && content.readableBytes() > 0 && content.readBoolean();
+    return clientSupportsRPCMethodIds && RPCMethodIdTable.of(channel).supported();
+  }
+
+  private void enableNegotiatedFeatures(@NonNull NetworkChannel channel, boolean compression, boolean rpcMethodIds) {
+    // the response was already queued, it is sent uncompressed to the client before the compression gets enabled
+    if (compression) {
+      channel.enableCompression();
+    }
+
+    // the client reads method ids as soon as it agreed to use them, they can be written from now on
+    if (rpcMethodIds) {
+      RPCMethodIdTable.of(channel).enable();
+    }
+  }
 }
@@ -18,9 +18,11 @@
 
 import eu.cloudnetservice.common.language.I18n;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
 import eu.cloudnetservice.node.cluster.sync.DataSyncHandler;
@@ -71,10 +73,16 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
         .findFirst()
         .orElse(null);
       if (server != null) {
+        // read the reconnect state and the sync data, the feature flags are not sent by older nodes
+        var content = packet.content();
+        var reconnect = content.readBoolean();
+        var syncData = content.readObject(DataBuf.class);
+        var compression = content.accessible() && content.readableBytes() > 0 && content.readBoolean();
+        var rpcMethodIds = content.accessible() && content.readableBytes() > 0 && content.readBoolean();
+
         // check if this was a reconnection from the point of view of the other node
-        if (packet.content().readBoolean()) {
+        if (reconnect && syncData != null) {
           // handle the data sync
-          var syncData = packet.content().readDataBuf();
           this.dataSyncRegistry.handle(syncData, syncData.readBoolean());
 
           // check if there are pending packets for the node
@@ -97,6 +105,16 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
           server.state(NodeServerState.DISCONNECTED);
           server.channel().close();
         }
+        // the other node agreed to receive compressed frames
+        if (compression) {
+          channel.enableCompression();
+        }
+
+        // the other node agreed to read rpc method ids
+        if (rpcMethodIds) {
+          RPCMethodIdTable.of(channel).enable();
+        }
+
         // update the node status
         server.channel(channel);
         server.state(NodeServerState.READY);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.network.listener.message;
+
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import io.leangen.geantyref.TypeFactory;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import lombok.NonNull;
+
+@Singleton
+public final class DatabaseChannelMessageListener {
+
+  private static final Type STRING_COLLECTION_TYPE = TypeFactory.parameterizedClass(Collection.class, String.class);
+
+  private final NodeDatabaseProvider databaseProvider;
+
+  @Inject
+  public DatabaseChannelMessageListener(@NonNull NodeDatabaseProvider databaseProvider) {
+    this.databaseProvider = databaseProvider;
+  }
+
+  @EventListener
+  public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
+    if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)) {
+      var documentCache = this.databaseProvider.documentCache();
+      switch (event.message()) {
+        // entries of a database were changed on another node
+        case "invalidate_database_cache_entries" -> {
+          var database = event.content().readString();
+          Collection<String> keys = event.content().readObject(STRING_COLLECTION_TYPE);
+
+          documentCache.invalidate(database, keys);
+        }
+
+        // a database was cleared on another node
+        case "invalidate_database_cache" -> documentCache.invalidateDatabase(event.content().readString());
+
+        // none of our business
+        default -> {
+        }
+      }
+    }
+  }
+}
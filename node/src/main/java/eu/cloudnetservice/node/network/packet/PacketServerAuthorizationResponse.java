@@ -24,11 +24,23 @@
 public final class PacketServerAuthorizationResponse extends BasePacket {
 
   public PacketServerAuthorizationResponse(boolean success, boolean reconnect, @Nullable DataBuf extraData) {
+    this(success, reconnect, extraData, false, false);
+  }
+
+  public PacketServerAuthorizationResponse(
+    boolean success,
+    boolean reconnect,
+    @Nullable DataBuf extraData,
+    boolean compression,
+    boolean rpcMethodIds
+  ) {
     super(
       NetworkConstants.INTERNAL_AUTHORIZATION_CHANNEL,
       DataBuf.empty()
         .writeBoolean(success)
         .writeBoolean(reconnect)
-        .writeObject(extraData));
+        .writeObject(extraData)
+        .writeBoolean(compression)
+        .writeBoolean(rpcMethodIds));
   }
 }
@@ -83,14 +83,21 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
     var channels = this.findChannels(message.targets(), allowClusterRedirect);
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
+    }
+
+    // serialize the message once, all packets share the same content (which also releases the message content)
+    var content = PacketServerChannelMessage.serializeMessage(message, false);
     for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
+      // acquire the content for each channel we're sending the message to, the content is released once when it was
+      // written to a channel. That means when the content was written to all channels it's released
+      content.acquire();
 
       // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
+      var packet = new PacketServerChannelMessage(message.prioritized(), content);
       if (message.sendSync()) {
         channel.sendPacketSync(packet);
       } else {
@@ -98,8 +105,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       }
     }
 
-    // release the message now
-    message.content().release();
+    // release the content now
+    content.release();
   }
 
   public @NonNull CompletableFuture<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -117,18 +124,21 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       Set<ChannelMessage> result = new HashSet<>();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
+      // serialize the message once, all packets share the same content (which also releases the message content)
+      var content = PacketServerChannelMessage.serializeMessage(message, false);
+
       // send the packet to each channel
       for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
+        // acquire the content for each channel we're sending the message to, the content is released once when it was
+        // written to a channel. That means when the content was written to all channels it's released
+        content.acquire();
 
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
+        var packet = new PacketServerChannelMessage(message.prioritized(), content);
+        channel.sendQueryAsync(packet).whenComplete((response, th) -> {
           // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
+          if (th == null && response.readable()) {
             // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
+            result.addAll(response.content().readObject(COL_MSG));
           }
 
           // count down - one channel responded
@@ -136,8 +146,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
         });
       }
 
-      // release the message now
-      message.content().release();
+      // release the content now
+      content.release();
 
       // return the task on which the user can wait
       return task;
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service;
+
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * The time it took to run each stage of the preparation of a service.
+ *
+ * @param inclusions    the time it took to download and install the remote inclusions.
+ * @param templates     the time it took to pull and install the templates.
+ * @param configuration the time it took to configure the service and write the wrapper configuration.
+ */
+public record ServicePreparationTimings(
+  @NonNull Duration inclusions,
+  @NonNull Duration templates,
+  @NonNull Duration configuration
+) {
+
+  public static final ServicePreparationTimings NONE = new ServicePreparationTimings(
+    Duration.ZERO,
+    Duration.ZERO,
+    Duration.ZERO);
+
+  /**
+   * Get the time it took to run all stages of the preparation.
+   *
+   * @return the time it took to run all stages of the preparation.
+   */
+  public @NonNull Duration total() {
+    return this.inclusions.plus(this.templates).plus(this.configuration);
+  }
+}
@@ -58,12 +58,17 @@
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import eu.cloudnetservice.node.service.ServicePreparationTimings;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
 import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import java.io.IOException;
 import java.net.Inet6Address;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +77,11 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -89,6 +99,9 @@ public abstract class AbstractService implements CloudService {
   protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractService.class);
 
   protected static final Path INCLUSION_TEMP_DIR = FileUtil.TEMP_DIR.resolve("inclusions");
+  protected static final int MAX_CONCURRENT_INCLUSION_DOWNLOADS = Integer.getInteger(
+    "cloudnet.service.inclusions.max-concurrent-downloads",
+    4);
   protected static final Path WRAPPER_CONFIG_PATH = Path.of(".wrapper", "wrapper.json");
   protected static final BiPredicate<String, Pattern> FILE_MATCHER_PREDICATE =
     (fileName, pattern) -> pattern.matcher(fileName).matches();
@@ -329,6 +342,53 @@ public void includeWaitingServiceTemplates() {
 
   @Override
   public void includeWaitingServiceTemplates(boolean force) {
+    var templates = this.selectWaitingTemplates(force);
+    List<Tuple2<Path, Future<Path>>> stagedTemplates = new ArrayList<>(templates.size());
+    try {
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        this.stageTemplates(executor, templates, stagedTemplates);
+        this.installTemplates(templates, stagedTemplates);
+      }
+    } finally {
+      // the executor waited for all pulls to complete, remove the staging directories which were not installed
+      this.deleteStagingDirectories(stagedTemplates);
+    }
+  }
+
+  @Override
+  public void includeWaitingServiceInclusions() {
+    var inclusions = this.selectWaitingInclusions();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var downloads = this.stageInclusions(executor, inclusions);
+      this.installInclusions(inclusions, downloads);
+    }
+  }
+
+  protected long includeWaitingServiceResources(boolean forceTemplates) {
+    var inclusions = this.selectWaitingInclusions();
+    var templates = this.selectWaitingTemplates(forceTemplates);
+    List<Tuple2<Path, Future<Path>>> stagedTemplates = new ArrayList<>(templates.size());
+    try {
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        // download the inclusions and pull the remote templates at the same time, only the installation into the
+        // service directory has to happen in order: inclusions first, then the templates in the order of their priority
+        var downloads = this.stageInclusions(executor, inclusions);
+        this.stageTemplates(executor, templates, stagedTemplates);
+
+        this.installInclusions(inclusions, downloads);
+        var templatesStart = System.nanoTime();
+        this.installTemplates(templates, stagedTemplates);
+        return templatesStart;
+      }
+    } finally {
+      // the executor waited for all pulls to complete, remove the staging directories which were not installed
+      this.deleteStagingDirectories(stagedTemplates);
+    }
+  }
+
+  protected @NonNull List<ServiceTemplate> selectWaitingTemplates(boolean force) {
+    // select the templates to install in the order of their priority
+    List<ServiceTemplate> templates = new ArrayList<>();
     this.waitingTemplates.stream()
       .filter(template -> {
         // always allow manual requests & non-static service copies
@@ -345,16 +405,79 @@ public void includeWaitingServiceTemplates(boolean force) {
         // check if we should load the template
         var storage = template.storage();
         if (!this.eventManager.callEvent(new CloudServiceTemplateLoadEvent(this, storage, template)).cancelled()) {
-          // the event is not cancelled - copy the template
-          storage.pull(template, this.serviceDirectory);
-          // we've pulled the template
-          this.installedTemplates.add(template);
+          templates.add(template);
         }
       });
+    return templates;
   }
 
-  @Override
-  public void includeWaitingServiceInclusions() {
+  protected void stageTemplates(
+    @NonNull ExecutorService executor,
+    @NonNull List<ServiceTemplate> templates,
+    @NonNull List<Tuple2<Path, Future<Path>>> stagedTemplates
+  ) {
+    // pull the templates from remote storages in parallel into staging directories, templates from the local storage
+    // are pulled directly as they don't need to be downloaded. the staged templates are tracked by the index of the
+    // template as the same template might be waiting more than once
+    for (var template : templates) {
+      var storage = template.storage();
+      if (storage.name().equals(LocalTemplateStorage.LOCAL_TEMPLATE_STORAGE)) {
+        stagedTemplates.add(null);
+      } else {
+        var stagingDirectory = FileUtil.createTempFile();
+        stagedTemplates.add(new Tuple2<>(stagingDirectory, executor.submit(() -> {
+          storage.pull(template, stagingDirectory);
+          return stagingDirectory;
+        })));
+      }
+    }
+  }
+
+  protected void installTemplates(
+    @NonNull List<ServiceTemplate> templates,
+    @NonNull List<Tuple2<Path, Future<Path>>> stagedTemplates
+  ) {
+    // install the templates in the order of their priority while the remaining templates are still downloading,
+    // later templates overwrite the files of earlier templates
+    for (var index = 0; index < templates.size(); index++) {
+      var template = templates.get(index);
+      var stagedTemplate = stagedTemplates.get(index);
+      if (stagedTemplate == null) {
+        template.storage().pull(template, this.serviceDirectory);
+      } else {
+        var stagingDirectory = stagedTemplate.first();
+        try {
+          if (this.awaitStagedFile(stagedTemplate.second(), template) == null) {
+            continue;
+          }
+
+          FileUtil.walkFileTree(stagingDirectory, (_, file) -> {
+            if (!Files.isDirectory(file)) {
+              this.moveStagedFile(file, this.serviceDirectory.resolve(stagingDirectory.relativize(file)));
+            }
+          });
+        } finally {
+          // also removes the files which were already pulled if staging the template failed
+          FileUtil.delete(stagingDirectory);
+        }
+      }
+
+      // we've pulled the template
+      this.installedTemplates.add(template);
+    }
+  }
+
+  protected void deleteStagingDirectories(@NonNull List<Tuple2<Path, Future<Path>>> stagedTemplates) {
+    for (var stagedTemplate : stagedTemplates) {
+      if (stagedTemplate != null) {
+        FileUtil.delete(stagedTemplate.first());
+      }
+    }
+  }
+
+  protected @NonNull List<Tuple2<ServiceRemoteInclusion, Path>> selectWaitingInclusions() {
+    // select the inclusions to install in the order they were added
+    List<Tuple2<ServiceRemoteInclusion, Path>> inclusions = new ArrayList<>();
     ServiceRemoteInclusion inclusion;
     while ((inclusion = this.waitingRemoteInclusions.poll()) != null) {
       // check if we should load the inclusion
@@ -365,34 +488,54 @@ public void includeWaitingServiceInclusions() {
         // resolve the desired output path
         var target = this.serviceDirectory.resolve(inclusion.destination());
         FileUtil.ensureChild(this.serviceDirectory, target);
+        inclusions.add(new Tuple2<>(inclusion, target));
+      }
+    }
+    return inclusions;
+  }
 
+  protected @NonNull List<Future<Path>> stageInclusions(
+    @NonNull ExecutorService executor,
+    @NonNull List<Tuple2<ServiceRemoteInclusion, Path>> inclusions
+  ) {
+    // download the inclusions concurrently, limited to not open too many connections at once
+    var downloadPermits = new Semaphore(MAX_CONCURRENT_INCLUSION_DOWNLOADS);
+    List<Future<Path>> downloads = new ArrayList<>(inclusions.size());
+    for (var entry : inclusions) {
+      downloads.add(executor.submit(() -> {
+        downloadPermits.acquire();
         try {
-          if (inclusion.cacheStrategy().equals(ServiceRemoteInclusion.KEEP_UNTIL_RESTART_STRATEGY)) {
-            // get a target path based on the download url
-            var encodedUrl = Hashing.murmur3_128().hashString(inclusion.url(), StandardCharsets.UTF_8).toString();
-            var destination = INCLUSION_TEMP_DIR.resolve(encodedUrl);
-            // download the file to the temp path if it does not exist
-            if (Files.notExists(destination)) {
-              this.downloadInclusionFile(inclusion, destination);
-            }
+          return this.stageInclusion(entry.first());
+        } finally {
+          downloadPermits.release();
+        }
+      }));
+    }
+    return downloads;
+  }
 
-            // copy the file from the temp path to the desired output path
-            FileUtil.copy(destination, target);
-          } else {
-            // download the file directly to the target path if caching is disabled
-            this.downloadInclusionFile(inclusion, target);
-          }
+  protected void installInclusions(
+    @NonNull List<Tuple2<ServiceRemoteInclusion, Path>> inclusions,
+    @NonNull List<Future<Path>> downloads
+  ) {
+    // install the inclusions in the order they were added while the remaining inclusions are still downloading,
+    // later inclusions overwrite earlier ones
+    for (var index = 0; index < inclusions.size(); index++) {
+      var entry = inclusions.get(index);
+      var stagedFile = this.awaitStagedFile(downloads.get(index), entry.first());
+      if (stagedFile == null) {
+        continue;
+      }
 
-          // we've installed the inclusion successfully
-          this.installedInclusions.add(inclusion);
-        } catch (UnirestException exception) {
-          LOGGER.warn(
-            "Unable to download inclusion from {} to {}",
-            inclusion.url(),
-            target,
-            exception.getCause());
-        }
+      if (entry.first().cacheStrategy().equals(ServiceRemoteInclusion.KEEP_UNTIL_RESTART_STRATEGY)) {
+        // copy the file from the cache to the desired output path
+        FileUtil.copy(stagedFile, entry.second());
+      } else {
+        this.moveStagedFile(stagedFile, entry.second());
       }
+
+      // we've installed the inclusion successfully
+      this.installedInclusions.add(entry.first());
     }
   }
 
@@ -703,11 +846,11 @@ protected void prepareService() {
     // initial service details are now ready, let the modules know that we're starting to prepare
     this.eventManager.callEvent(new CloudServicePrePrepareEvent(this));
 
-    // load the inclusions
-    this.includeWaitingServiceInclusions();
-    // check if we should load the templates of the service
-    this.includeWaitingServiceTemplates(firstStartup);
+    // load the inclusions and the templates of the service
+    var inclusionsStart = System.nanoTime();
+    var templatesStart = this.includeWaitingServiceResources(firstStartup);
     // update the service configuration
+    var configurationStart = System.nanoTime();
     this.serviceConfigurationPreparer.configure(this);
     // write the configuration file for the service
     var listener = this.selectConnectListener(this.configuration.identity().listeners());
@@ -719,10 +862,19 @@ protected void prepareService() {
       .append("sslConfiguration", wrapperSslConfigDocument)
       .writeTo(this.serviceDirectory.resolve(WRAPPER_CONFIG_PATH));
     // finished the prepare process
-    this.eventManager.callEvent(new CloudServicePostPrepareEvent(this));
+    var preparationTimings = new ServicePreparationTimings(
+      Duration.ofNanos(templatesStart - inclusionsStart),
+      Duration.ofNanos(configurationStart - templatesStart),
+      Duration.ofNanos(System.nanoTime() - configurationStart));
+    LOGGER.debug("Prepared service {} in {}", this.serviceId(), preparationTimings);
+    this.eventManager.callEvent(new CloudServicePostPrepareEvent(this, preparationTimings));
   }
 
   protected @NonNull HostAndPort selectConnectListener(@NonNull List<HostAndPort> listeners) {
+    return this.selectTcpConnectListener(listeners);
+  }
+
+  protected final @NonNull HostAndPort selectTcpConnectListener(@NonNull List<HostAndPort> listeners) {
     // select a listener for the service to connect to, randomly
     var listener = listeners.get(ThreadLocalRandom.current().nextInt(listeners.size()));
     // rewrite 0.0.0.0 to 127.0.0.1 (or ::0 to ::1) to prevent unexpected connection issues (wrapper to node connection)
@@ -761,6 +913,67 @@ protected void prepareService() {
       .append("trustCertificatePath", relativeFilePath.toString());
   }
 
+  protected @Nullable Path stageInclusion(@NonNull ServiceRemoteInclusion inclusion) {
+    Path download = null;
+    try {
+      if (inclusion.cacheStrategy().equals(ServiceRemoteInclusion.KEEP_UNTIL_RESTART_STRATEGY)) {
+        // get a target path based on the download url
+        var encodedUrl = Hashing.murmur3_128().hashString(inclusion.url(), StandardCharsets.UTF_8).toString();
+        var destination = INCLUSION_TEMP_DIR.resolve(encodedUrl);
+        // download the file to the temp path if it does not exist, other services might download the same file
+        // concurrently therefore the file is downloaded to a random path first and then moved to the cache path
+        if (Files.notExists(destination)) {
+          download = FileUtil.createTempFile();
+          this.downloadInclusionFile(inclusion, download);
+          FileUtil.createDirectory(INCLUSION_TEMP_DIR);
+          Files.move(download, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        return destination;
+      } else {
+        // download the file to a staging path if caching is disabled
+        download = FileUtil.createTempFile();
+        this.downloadInclusionFile(inclusion, download);
+        return download;
+      }
+    } catch (UnirestException | IOException exception) {
+      // remove the partially downloaded file, it was neither moved into the cache nor handed out
+      if (download != null) {
+        FileUtil.delete(download);
+      }
+
+      LOGGER.warn(
+        "Unable to download inclusion from {} to {}",
+        inclusion.url(),
+        inclusion.destination(),
+        exception.getCause() == null ? exception : exception.getCause());
+      return null;
+    }
+  }
+
+  protected @Nullable Path awaitStagedFile(@NonNull Future<Path> stagingTask, @NonNull Object source) {
+    try {
+      return stagingTask.get();
+    } catch (ExecutionException exception) {
+      LOGGER.warn("Unable to stage {} for service {}", source, this.serviceId(), exception.getCause());
+      return null;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt(); // reset the interrupted state of the thread
+      return null;
+    }
+  }
+
+  protected void moveStagedFile(@NonNull Path stagedFile, @NonNull Path target) {
+    try {
+      FileUtil.createDirectory(target.getParent());
+      Files.move(stagedFile, target, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      // for example if the staged file is on a different file system than the target
+      FileUtil.copy(stagedFile, target);
+      FileUtil.delete(stagedFile);
+    }
+  }
+
   protected void downloadInclusionFile(@NonNull ServiceRemoteInclusion inclusion, @NonNull Path destination) {
     // prepare the connection from which we load the inclusion
     var request = Unirest.get(inclusion.url());
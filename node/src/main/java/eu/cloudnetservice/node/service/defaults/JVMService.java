@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessageSender;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLogEntryEvent;
+import eu.cloudnetservice.driver.network.HostAndPort;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
@@ -35,6 +36,7 @@
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.service.CloudServicePostProcessStartEvent;
 import eu.cloudnetservice.node.event.service.CloudServicePreProcessStartEvent;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
 import eu.cloudnetservice.node.service.defaults.log.ProcessServiceLogCache;
@@ -75,6 +77,7 @@ public class JVMService extends AbstractService {
   protected static final Path LIB_PATH = Path.of("launcher", "libs");
   protected static final Path WRAPPER_TEMP_FILE = FileUtil.TEMP_DIR.resolve("caches").resolve("wrapper.jar");
 
+  protected final NodeNetworkUtil networkUtil;
   protected volatile Process process;
 
   public JVMService(
@@ -84,13 +87,22 @@ public JVMService(
     @NonNull CloudServiceManager manager,
     @NonNull EventManager eventManager,
     @NonNull ServiceVersionProvider versionProvider,
-    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer
+    @NonNull ServiceConfigurationPreparer serviceConfigurationPreparer,
+    @NonNull NodeNetworkUtil networkUtil
   ) {
     super(tickLoop, nodeConfig, configuration, manager, eventManager, versionProvider, serviceConfigurationPreparer);
+    this.networkUtil = networkUtil;
     super.logCache = new ProcessServiceLogCache(() -> this.process, nodeConfig, this);
     this.initLogHandler();
   }
 
+  @Override
+  protected @NonNull HostAndPort selectConnectListener(@NonNull List<HostAndPort> listeners) {
+    // jvm services are running on the same host as the node, prefer the unix domain socket of the node if bound
+    var domainSocketListener = this.networkUtil.domainSocketListener();
+    return domainSocketListener != null ? domainSocketListener : super.selectConnectListener(listeners);
+  }
+
   @Override
   protected void startProcess() {
     this.eventManager.callEvent(new CloudServicePreProcessStartEvent(this));
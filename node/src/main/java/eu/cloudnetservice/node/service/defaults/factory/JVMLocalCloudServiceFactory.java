@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.network.NodeNetworkUtil;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import eu.cloudnetservice.node.service.defaults.JVMService;
@@ -33,6 +34,7 @@ public class JVMLocalCloudServiceFactory extends BaseLocalCloudServiceFactory {
 
   protected final TickLoop mainThread;
   protected final EventManager eventManager;
+  protected final NodeNetworkUtil networkUtil;
   protected final CloudServiceManager cloudServiceManager;
 
   @Inject
@@ -41,11 +43,13 @@ public JVMLocalCloudServiceFactory(
     @NonNull Configuration nodeConfig,
     @NonNull CloudServiceManager cloudServiceManager,
     @NonNull EventManager eventManager,
-    @NonNull ServiceVersionProvider versionProvider
+    @NonNull ServiceVersionProvider versionProvider,
+    @NonNull NodeNetworkUtil networkUtil
   ) {
     super(nodeConfig, versionProvider);
     this.mainThread = tickLoop;
     this.eventManager = eventManager;
+    this.networkUtil = networkUtil;
     this.cloudServiceManager = cloudServiceManager;
   }
 
@@ -66,7 +70,8 @@ public JVMLocalCloudServiceFactory(
       manager,
       this.eventManager,
       this.versionProvider,
-      preparer);
+      preparer,
+      this.networkUtil);
   }
 
   @Override
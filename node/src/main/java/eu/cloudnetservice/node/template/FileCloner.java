@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.util.StringUtil;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Clones files using the {@code FICLONE} ioctl on linux. A cloned file (reflink) shares the data blocks with the source
+ * file until one of the files is written, copy-on-write file systems (for example btrfs or xfs) only allocate new
+ * blocks for the modified parts of a file. Cloning is not supported by all file systems, callers must fall back to a
+ * normal copy if cloning a file fails.
+ */
+final class FileCloner {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileCloner.class);
+
+  // see linux/fs.h, the flags are the same on all common architectures
+  private static final long FICLONE = 0x40049409L;
+  private static final int O_RDONLY = 0;
+  private static final int O_WRONLY = 1;
+  private static final int O_CREAT = 0100;
+  private static final int O_EXCL = 0200;
+
+  private static final MethodHandle OPEN;
+  private static final MethodHandle IOCTL;
+  private static final MethodHandle CLOSE;
+
+  static {
+    MethodHandle open = null;
+    MethodHandle ioctl = null;
+    MethodHandle close = null;
+    if (StringUtil.toLower(System.getProperty("os.name")).contains("linux")) {
+      try {
+        var linker = Linker.nativeLinker();
+        var lookup = linker.defaultLookup();
+        open = linker.downcallHandle(
+          lookup.find("open").orElseThrow(),
+          FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.ADDRESS, ValueLayout.JAVA_INT, ValueLayout.JAVA_INT),
+          Linker.Option.firstVariadicArg(2));
+        ioctl = linker.downcallHandle(
+          lookup.find("ioctl").orElseThrow(),
+          FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT, ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT),
+          Linker.Option.firstVariadicArg(2));
+        close = linker.downcallHandle(
+          lookup.find("close").orElseThrow(),
+          FunctionDescriptor.of(ValueLayout.JAVA_INT, ValueLayout.JAVA_INT));
+      } catch (Throwable throwable) {
+        // native access is not permitted or the functions are not available
+        LOGGER.debug("Unable to look up the native functions to clone files, falling back to copy", throwable);
+        open = ioctl = close = null;
+      }
+    }
+
+    OPEN = open;
+    IOCTL = ioctl;
+    CLOSE = close;
+  }
+
+  private FileCloner() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get if cloning files is possible on this system. This does not mean that the file system of a specific file
+   * supports cloning.
+   *
+   * @return true if cloning files is possible on this system, false otherwise.
+   */
+  public static boolean available() {
+    return IOCTL != null;
+  }
+
+  /**
+   * Clones the given source file to the given target file, the target file must not exist. The target file is created
+   * with the permissions of the source file. If the file cannot be cloned, the target file is removed again.
+   *
+   * @param source the file to clone.
+   * @param target the file to create as a clone of the source file.
+   * @return true if the file was cloned, false if cloning is not supported.
+   * @throws NullPointerException if the given source or target path is null.
+   */
+  public static boolean cloneFile(@NonNull Path source, @NonNull Path target) {
+    if (!available()) {
+      return false;
+    }
+
+    try (var arena = Arena.ofConfined()) {
+      var sourceFd = (int) OPEN.invokeExact(arena.allocateFrom(source.toString()), O_RDONLY, 0);
+      if (sourceFd < 0) {
+        return false;
+      }
+
+      try {
+        var mode = sourceMode(source);
+        var targetFd = (int) OPEN.invokeExact(arena.allocateFrom(target.toString()), O_WRONLY | O_CREAT | O_EXCL, mode);
+        if (targetFd < 0) {
+          return false;
+        }
+
+        int cloneResult;
+        try {
+          cloneResult = (int) IOCTL.invokeExact(targetFd, FICLONE, sourceFd);
+        } finally {
+          var _ = (int) CLOSE.invokeExact(targetFd);
+        }
+
+        if (cloneResult != 0) {
+          // the file system does not support cloning or the files are on different file systems
+          Files.deleteIfExists(target);
+          return false;
+        }
+
+        return true;
+      } finally {
+        var _ = (int) CLOSE.invokeExact(sourceFd);
+      }
+    } catch (Throwable throwable) {
+      LOGGER.debug("Unable to clone file {} to {}", source, target, throwable);
+      return false;
+    }
+  }
+
+  private static int sourceMode(@NonNull Path source) throws IOException {
+    // only the permission bits, the file type bits are set by open
+    return (int) Files.getAttribute(source, "unix:mode") & 07777;
+  }
+}
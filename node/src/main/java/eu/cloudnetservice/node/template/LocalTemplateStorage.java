@@ -25,31 +25,62 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
-import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LocalTemplateStorage implements TemplateStorage {
 
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
+  public static final Path PULLED_MANIFEST_DIRECTORY = Path.of(".wrapper", "templates");
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LocalTemplateStorage.class);
+
   private final Path storageDirectory;
+  private final TemplateMaterialisationMode materialisationMode;
+  private final Map<Path, TemplateManifest> manifests = new ConcurrentHashMap<>();
+  private final Map<Path, Lock> manifestLocks = new ConcurrentHashMap<>();
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, TemplateMaterialisationMode.COPY);
+  }
+
+  public LocalTemplateStorage(
+    @NonNull Path storageDirectory,
+    @NonNull TemplateMaterialisationMode materialisationMode
+  ) {
     this.storageDirectory = storageDirectory;
+    this.materialisationMode = materialisationMode;
     FileUtil.createDirectory(storageDirectory);
   }
 
+  public static @NonNull Predicate<Path> excludePulledManifests(
+    @NonNull Path directory,
+    @Nullable Predicate<Path> filter
+  ) {
+    // the manifests of pulled templates only describe the directory they were pulled into
+    var pulledManifestDirectory = directory.resolve(PULLED_MANIFEST_DIRECTORY);
+    return path -> !path.startsWith(pulledManifestDirectory) && (filter == null || filter.test(path));
+  }
+
   @Override
   public @NonNull String name() {
     return LOCAL_TEMPLATE_STORAGE;
@@ -62,10 +93,7 @@ public boolean deployDirectory(
     @Nullable Predicate<Path> filter
   ) {
     if (Files.exists(directory)) {
-      FileUtil.copyDirectory(
-        directory,
-        this.getTemplatePath(target),
-        filter == null ? null : filter::test);
+      FileUtil.copyDirectory(directory, this.getTemplatePath(target), excludePulledManifests(directory, filter)::test);
       return true;
     }
     return false;
@@ -79,20 +107,61 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDirectory = this.getTemplatePath(template);
+    var manifest = this.manifest(template);
+
+    // the manifest of the previous pull into the directory records the state of the files after that pull, files which
+    // did not change in the template and were not modified in the directory since then don't need to be pulled again
+    var pulledManifestPath = directory
+      .resolve(PULLED_MANIFEST_DIRECTORY)
+      .resolve(template.prefix())
+      .resolve(template.name() + ".json");
+    var previousPull = Objects.requireNonNullElse(TemplateManifest.read(pulledManifestPath), TemplateManifest.EMPTY);
+
+    // stop trying to clone files once the file system rejected a clone, the other files are on the same file system
+    var cloneFiles = new AtomicBoolean(this.materialisationMode == TemplateMaterialisationMode.COPY_ON_WRITE
+      && FileCloner.available());
+    Map<String, TemplateManifest.Entry> pulledEntries = new HashMap<>();
+    for (var entry : manifest.entries().entrySet()) {
+      var path = entry.getKey();
+      var target = directory.resolve(path);
+      var previousEntry = previousPull.entries().get(path);
+      if (previousEntry != null && previousEntry.sameContent(entry.getValue()) && previousEntry.matches(target)) {
+        pulledEntries.put(path, previousEntry);
+        continue;
+      }
+
+      this.materialiseFile(templateDirectory.resolve(path), target, cloneFiles);
+      try {
+        var pulledEntry = new TemplateManifest.Entry(
+          Files.size(target),
+          Files.getLastModifiedTime(target).toMillis(),
+          entry.getValue().hash());
+        pulledEntries.put(path, pulledEntry);
+      } catch (IOException exception) {
+        // the file will be pulled again next time
+        LOGGER.debug("Unable to record pulled template file {}", target, exception);
+      }
+    }
+
+    // remove the files that were removed from the template, unless they were modified in the directory
+    for (var entry : previousPull.entries().entrySet()) {
+      var target = directory.resolve(entry.getKey());
+      if (!manifest.entries().containsKey(entry.getKey()) && entry.getValue().matches(target)) {
+        FileUtil.delete(target);
+      }
+    }
+
+    new TemplateManifest(pulledEntries).write(pulledManifestPath);
     return true;
   }
 
   @Override
   public @Nullable InputStream zipTemplate(@NonNull ServiceTemplate template) throws IOException {
     if (this.contains(template)) {
-      // create a new temp file
-      var temp = FileUtil.createTempFile();
-      var zippedFile = ZipUtil.zipToFile(this.getTemplatePath(template), temp);
-      // open a stream to the file if possible
-      if (zippedFile != null) {
-        return Files.newInputStream(zippedFile, StandardOpenOption.DELETE_ON_CLOSE, LinkOption.NOFOLLOW_LINKS);
-      }
+      // zip the template while the stream is read
+      var templateDirectory = this.getTemplatePath(template);
+      return ZipUtil.zipToStream(templateDirectory, excludePulledManifests(templateDirectory, null));
     }
     return null;
   }
@@ -104,6 +173,8 @@ public boolean delete(@NonNull ServiceTemplate template) {
       return false;
     } else {
       FileUtil.delete(templateDir);
+      FileUtil.delete(this.manifestPath(template));
+      this.manifests.remove(templateDir);
       return true;
     }
   }
@@ -262,7 +333,62 @@ public boolean deleteFile(@NonNull ServiceTemplate template, @NonNull String pat
   public void close() {
   }
 
+  public @NonNull TemplateMaterialisationMode materialisationMode() {
+    return this.materialisationMode;
+  }
+
+  public @NonNull TemplateManifest manifest(@NonNull ServiceTemplate template) {
+    // scanning a template might take a while, only scans of the same template have to wait for each other
+    var templateDirectory = this.getTemplatePath(template);
+    var lock = this.manifestLocks.computeIfAbsent(templateDirectory, _ -> new ReentrantLock());
+    lock.lock();
+    try {
+      // the manifest is persisted, only files which changed since the last scan have to be hashed after a restart
+      var manifestPath = this.manifestPath(template);
+      var previous = this.manifests.get(templateDirectory);
+      if (previous == null) {
+        previous = TemplateManifest.read(manifestPath);
+      }
+
+      var manifest = TemplateManifest.scan(templateDirectory, previous);
+      if (!manifest.equals(previous)) {
+        manifest.write(manifestPath);
+      }
+
+      this.manifests.put(templateDirectory, manifest);
+      return manifest;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void materialiseFile(@NonNull Path file, @NonNull Path target, @NonNull AtomicBoolean cloneFiles) {
+    // files are never hard linked, writes into the template (for example by extracting a zip) or into the service
+    // directory are done in place and would change the file on both sides. a clone shares no state after a write
+    if (cloneFiles.get()) {
+      try {
+        // the clone can only be created if the target does not exist yet
+        FileUtil.createDirectory(target.getParent());
+        Files.deleteIfExists(target);
+        if (FileCloner.cloneFile(file, target)) {
+          return;
+        }
+
+        cloneFiles.set(false);
+      } catch (IOException exception) {
+        LOGGER.debug("Unable to clone template file {} to {}, copying it", file, target, exception);
+      }
+    }
+
+    FileUtil.copy(file, target);
+  }
+
   protected @NonNull Path getTemplatePath(@NonNull ServiceTemplate template) {
     return this.storageDirectory.resolve(template.prefix()).resolve(template.name());
   }
+
+  protected @NonNull Path manifestPath(@NonNull ServiceTemplate template) {
+    // stored next to the template directory, files are not listed as templates
+    return this.storageDirectory.resolve(template.prefix()).resolve('.' + template.name() + ".manifest.json");
+  }
 }
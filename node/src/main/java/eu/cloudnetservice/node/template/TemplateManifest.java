@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A manifest of the files in a template directory. Each file is identified by its path relative to the template
+ * directory, separated by forward slashes, and has the size, last modification time and content hash of the file
+ * recorded. Comparing two manifests allows to only transfer the files which changed between them, for example when
+ * pulling a template into a service directory or when downloading a template from a remote storage.
+ *
+ * @param entries the entries of the manifest, mapped by their relative path.
+ */
+public record TemplateManifest(@NonNull Map<String, Entry> entries) {
+
+  public static final TemplateManifest EMPTY = new TemplateManifest(Map.of());
+
+  /**
+   * Scans the given directory and creates a manifest of all files in it. The content hash of a file is taken from the
+   * given previous manifest if the size and modification time of the file did not change, otherwise the file is hashed.
+   *
+   * @param directory the directory to scan.
+   * @param previous  the previous manifest of the directory, null if there is none.
+   * @return a manifest of all files in the given directory.
+   * @throws NullPointerException if the given directory is null.
+   * @throws UncheckedIOException if an I/O error occurs while reading a file.
+   */
+  public static @NonNull TemplateManifest scan(@NonNull Path directory, @Nullable TemplateManifest previous) {
+    Map<String, Entry> entries = new HashMap<>();
+    FileUtil.walkFileTree(directory, ($, file) -> {
+      if (Files.isDirectory(file)) {
+        return;
+      }
+
+      try {
+        var path = directory.relativize(file).toString().replace('\\', '/');
+        var size = Files.size(file);
+        var lastModified = Files.getLastModifiedTime(file).toMillis();
+
+        // only hash the file if it changed since the previous scan
+        var previousEntry = previous == null ? null : previous.entries().get(path);
+        if (previousEntry != null && previousEntry.size() == size && previousEntry.lastModified() == lastModified) {
+          entries.put(path, previousEntry);
+        } else {
+          var hash = MoreFiles.asByteSource(file).hash(Hashing.murmur3_128()).toString();
+          entries.put(path, new Entry(size, lastModified, hash));
+        }
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    });
+
+    return new TemplateManifest(entries);
+  }
+
+  /**
+   * Reads a manifest which was written to the given file.
+   *
+   * @param file the file to read the manifest from.
+   * @return the manifest read from the file, null if the file does not exist or is not a valid manifest.
+   * @throws NullPointerException if the given file is null.
+   */
+  public static @Nullable TemplateManifest read(@NonNull Path file) {
+    if (Files.notExists(file)) {
+      return null;
+    }
+
+    try {
+      return DocumentFactory.json().parse(file).toInstanceOf(TemplateManifest.class);
+    } catch (Exception exception) {
+      // corrupted manifest, treat as if there is none
+      return null;
+    }
+  }
+
+  /**
+   * Writes this manifest to the given file, creating all parent directories of the file if needed.
+   *
+   * @param file the file to write this manifest to.
+   * @throws NullPointerException if the given file is null.
+   */
+  public void write(@NonNull Path file) {
+    FileUtil.createDirectory(file.getParent());
+    Document.newJsonDocument().appendTree(this).writeTo(file);
+  }
+
+  /**
+   * Get if the file at the given path has the same content as the file at the same path in the given manifest.
+   *
+   * @param path  the relative path of the file to check.
+   * @param other the manifest to compare with.
+   * @return true if both manifests have an entry for the path with the same content, false otherwise.
+   * @throws NullPointerException if the given path or manifest is null.
+   */
+  public boolean sameContent(@NonNull String path, @NonNull TemplateManifest other) {
+    var entry = this.entries.get(path);
+    var otherEntry = other.entries().get(path);
+    return entry != null && otherEntry != null && entry.sameContent(otherEntry);
+  }
+
+  /**
+   * A file in a manifest.
+   *
+   * @param size         the size of the file in bytes.
+   * @param lastModified the last modification time of the file, in milliseconds since the epoch.
+   * @param hash         the hash of the file content.
+   */
+  public record Entry(long size, long lastModified, @NonNull String hash) {
+
+    /**
+     * Get if the file described by this entry has the same content as the file described by the given entry.
+     *
+     * @param other the entry to compare with.
+     * @return true if both entries describe the same content, false otherwise.
+     * @throws NullPointerException if the given entry is null.
+     */
+    public boolean sameContent(@NonNull Entry other) {
+      return this.size == other.size() && this.hash.equals(other.hash());
+    }
+
+    /**
+     * Get if the given file still has the size and modification time recorded in this entry.
+     *
+     * @param file the file to check.
+     * @return true if the given file is unchanged since this entry was recorded, false otherwise.
+     * @throws NullPointerException if the given file is null.
+     */
+    public boolean matches(@NonNull Path file) {
+      try {
+        return Files.isRegularFile(file)
+          && Files.size(file) == this.size
+          && Files.getLastModifiedTime(file).toMillis() == this.lastModified;
+      } catch (IOException exception) {
+        return false;
+      }
+    }
+  }
+}
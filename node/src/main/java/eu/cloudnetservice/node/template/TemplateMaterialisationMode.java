@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+/**
+ * The ways how the local template storage can materialise a template into the directory of a service.
+ */
+public enum TemplateMaterialisationMode {
+
+  /**
+   * Every file of the template is copied into the service directory.
+   */
+  COPY,
+  /**
+   * Files are cloned into the service directory if the file system supports reflinks, a clone shares the data blocks
+   * with the template file until one of them is written. Files that cannot be cloned are copied.
+   */
+  COPY_ON_WRITE
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.driver.document.Document;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class DatabaseDocumentCacheTest {
+
+  @Test
+  void testReadThroughAndInvalidation() {
+    var loads = new AtomicInteger();
+    var cache = new DatabaseDocumentCache(1024 * 1024);
+    Assertions.assertTrue(cache.enabled());
+
+    for (var i = 0; i < 3; i++) {
+      var document = cache.get("test", "1", key -> {
+        loads.incrementAndGet();
+        return Document.newJsonDocument().append("key", key);
+      });
+      Assertions.assertEquals("1", document.getString("key"));
+    }
+
+    Assertions.assertEquals(1, loads.get());
+    Assertions.assertEquals(2, cache.stats().hitCount());
+    Assertions.assertEquals(1, cache.stats().missCount());
+
+    // missing documents are not cached
+    Assertions.assertNull(cache.get("test", "2", key -> null));
+    Assertions.assertEquals(1, cache.cachedDocuments());
+
+    cache.invalidate("other", List.of("1"));
+    Assertions.assertEquals(1, cache.cachedDocuments());
+
+    cache.invalidate("test", "1");
+    Assertions.assertEquals(0, cache.cachedDocuments());
+
+    cache.get("test", "1", key -> Document.newJsonDocument());
+    cache.get("test", "3", key -> Document.newJsonDocument());
+    cache.get("other", "1", key -> Document.newJsonDocument());
+    cache.invalidateDatabase("test");
+    Assertions.assertEquals(1, cache.cachedDocuments());
+  }
+
+  @Test
+  void testDisabledCache() {
+    Assertions.assertFalse(new DatabaseDocumentCache(0).enabled());
+  }
+}
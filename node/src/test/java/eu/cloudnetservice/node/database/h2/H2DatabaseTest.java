@@ -22,7 +22,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.SequencedMap;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,14 +34,21 @@
 
 class H2DatabaseTest {
 
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "h2");
+
   private H2DatabaseProvider databaseProvider;
 
   @BeforeEach
   void setup() throws Exception {
-    var baseDirectory = Path.of("build", "tmp", "h2");
-    FileUtil.delete(baseDirectory);
+    FileUtil.delete(BASE_DIRECTORY);
 
-    this.databaseProvider = new H2DatabaseProvider(baseDirectory.resolve("db").toString());
+    this.databaseProvider = new H2DatabaseProvider(BASE_DIRECTORY.resolve("db").toString());
+    this.databaseProvider.init();
+  }
+
+  private void reopenProvider() throws Exception {
+    this.databaseProvider.close();
+    this.databaseProvider = new H2DatabaseProvider(BASE_DIRECTORY.resolve("db").toString());
     this.databaseProvider.init();
   }
 
@@ -100,9 +111,9 @@ void testBasicDatabaseOperations() {
     var entry3 = database.get("122334");
     Assertions.assertNull(entry3);
 
-    //var entry4 = database.find("hello", "world");
-    //Assertions.assertEquals(1, entry4.size());
-    //Assertions.assertEquals("world", entry4.iterator().next().getString("hello"));
+    var entry4 = database.find("hello", "world");
+    Assertions.assertEquals(1, entry4.size());
+    Assertions.assertEquals("world", entry4.iterator().next().getString("hello"));
 
     var entry5 = database.find(Map.of("hello", "world2"));
     Assertions.assertEquals(1, entry5.size());
@@ -159,4 +170,135 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testKeysetChunkedDataRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    var expectedReadCounts = (int) Math.ceil(entries / 50D);
+
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    var readsCalled = 0;
+    String previousKey = null;
+
+    SequencedMap<String, Document> currentChunk;
+    while (!(currentChunk = database.readChunk(previousKey, 50)).isEmpty()) {
+      readsCalled++;
+      previousKey = currentChunk.lastEntry().getKey();
+
+      Assertions.assertFalse(currentChunk.size() > 50);
+      Assertions.assertTrue(keys.removeAll(currentChunk.keySet()));
+    }
+
+    Assertions.assertEquals(expectedReadCounts, readsCalled);
+    Assertions.assertTrue(keys.isEmpty());
+  }
+
+  @Test
+  void testFieldSearch() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("a", "1")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "derklaro").append("a", "2")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "0utplay").append("a", 1)));
+
+    // values must match exactly, only string values are matched
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertTrue(database.find("name", "derk").isEmpty());
+    Assertions.assertEquals(1, database.find("a", "1").size());
+    Assertions.assertEquals(1, database.find("a", null).size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "a", "2")).size());
+
+    // replacing and deleting a document must update the searchable values
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.delete("1"));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+
+    // the field table must not be visible as a database
+    Assertions.assertEquals(List.of("test"), List.copyOf(this.databaseProvider.databaseNames()));
+  }
+
+  @Test
+  void testIndexedFind() throws Exception {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("a", "1")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("a", "2")));
+
+    // declare the index after inserting the first documents to ensure existing entries get indexed
+    Assertions.assertTrue(database.declareIndex("name"));
+    Assertions.assertEquals(List.of("name"), List.copyOf(database.indexedFields()));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "0utplay", "a", "2")).size());
+    Assertions.assertTrue(database.find(Map.of("name", "0utplay", "a", "1")).isEmpty());
+
+    // updating and removing documents must update the indexed values
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("a", "3")));
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", null).size());
+    Assertions.assertTrue(database.delete("1"));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+
+    // the index must survive a restart
+    this.reopenProvider();
+    Assertions.assertEquals(List.of("name"), List.copyOf(this.databaseProvider.database("test").indexedFields()));
+    Assertions.assertEquals(1, this.databaseProvider.database("test").find("name", "derklaro").size());
+  }
+
+  @Test
+  void testIncompleteIndexIsFilledAgain() throws Exception {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro")));
+    Assertions.assertTrue(database.declareIndex("name"));
+
+    // simulate a node which stopped while filling the index
+    this.databaseProvider.executeUpdate("DELETE FROM `" + H2Database.fieldTableName("test") + "`");
+    this.databaseProvider.executeUpdate(
+      "UPDATE `" + H2DatabaseProvider.INDEX_TABLE_NAME + "` SET Complete = FALSE WHERE DatabaseName = ?",
+      "test");
+
+    // the index is only used again once all values were written
+    this.reopenProvider();
+    var reopenedDatabase = this.databaseProvider.database("test");
+    Assertions.assertEquals(List.of("name"), List.copyOf(reopenedDatabase.indexedFields()));
+    Assertions.assertEquals(1, reopenedDatabase.find("name", "derklaro").size());
+  }
+
+  @Test
+  void testConcurrentWrites() throws Exception {
+    var database = this.databaseProvider.database("test");
+
+    // all threads use their own connection from the pool, no write must get lost
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (var thread = 0; thread < 4; thread++) {
+        var threadId = thread;
+        futures.add(executor.submit(() -> {
+          for (var i = 0; i < 50; i++) {
+            database.insert(threadId + "_" + i, Document.newJsonDocument().append("thread", String.valueOf(threadId)));
+          }
+        }));
+      }
+
+      for (var future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assertions.assertEquals(200, database.documentCount());
+    Assertions.assertEquals(50, database.find("thread", "2").size());
+  }
 }
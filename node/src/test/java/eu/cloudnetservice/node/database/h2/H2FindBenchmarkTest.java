@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.h2;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of finds answered through the indexed field table of the h2 database to the json text
+ * {@code LIKE} query which was used for finds before.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class H2FindBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(H2FindBenchmarkTest.class);
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "h2-benchmark");
+
+  private static final int DOCUMENTS = 1_000_000;
+  private static final int GROUPS = 10_000;
+  private static final int INSERT_BATCH_SIZE = 10_000;
+  private static final int FIND_ROUNDS = 20;
+
+  @Test
+  void compareIndexedFindAndLikeQuery() throws Exception {
+    FileUtil.delete(BASE_DIRECTORY);
+    var provider = new H2DatabaseProvider(BASE_DIRECTORY.resolve("db").toString());
+    try {
+      provider.init();
+      var database = provider.database("benchmark");
+      Assertions.assertTrue(database.declareIndex("group"));
+
+      var startTime = System.nanoTime();
+      for (var batchStart = 0; batchStart < DOCUMENTS; batchStart += INSERT_BATCH_SIZE) {
+        Map<String, Document> documents = new HashMap<>();
+        for (var index = batchStart; index < batchStart + INSERT_BATCH_SIZE; index++) {
+          documents.put(Integer.toString(index), Document.newJsonDocument()
+            .append("name", "player_" + index)
+            .append("group", "group_" + (index % GROUPS)));
+        }
+        Assertions.assertTrue(database.insertAll(documents));
+      }
+      var insertsPerSecond = DOCUMENTS * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+
+      // the find query which was used before the field table was introduced
+      var likeQuery = "SELECT Document FROM `benchmark` WHERE Document LIKE ? ESCAPE '$'";
+
+      // warmup both find types before measuring
+      database.find("group", "group_0");
+      provider.executeQuery(likeQuery, _ -> null, null, "%\"group\":\"group$_0\"%");
+
+      startTime = System.nanoTime();
+      for (var round = 0; round < FIND_ROUNDS; round++) {
+        Assertions.assertEquals(DOCUMENTS / GROUPS, database.find("group", "group_" + round).size());
+      }
+      var indexedFindsPerSecond = FIND_ROUNDS * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+
+      startTime = System.nanoTime();
+      for (var round = 0; round < FIND_ROUNDS; round++) {
+        int matches = provider.executeQuery(
+          likeQuery,
+          resultSet -> {
+            var count = 0;
+            while (resultSet.next()) {
+              DocumentFactory.json().parse(resultSet.getString(1));
+              count++;
+            }
+            return count;
+          },
+          -1,
+          "%\"group\":\"group$_" + round + "\"%");
+        Assertions.assertEquals(DOCUMENTS / GROUPS, matches);
+      }
+      var likeFindsPerSecond = FIND_ROUNDS * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+
+      LOGGER.info(
+        "{} documents: {} inserts/s, {} indexed finds/s, {} like query finds/s",
+        DOCUMENTS,
+        insertsPerSecond,
+        indexedFindsPerSecond,
+        likeFindsPerSecond);
+    } finally {
+      provider.close();
+      FileUtil.delete(BASE_DIRECTORY);
+    }
+  }
+}
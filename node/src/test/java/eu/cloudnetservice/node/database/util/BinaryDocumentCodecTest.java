@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.util;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryDocumentCodecTest {
+
+  private static Document createTestDocument() {
+    return Document.newJsonDocument()
+      .append("name", "derklaro")
+      .append("age", 20)
+      .append("negative", -1234567890123L)
+      .append("balance", 12.5D)
+      .append("online", true)
+      .append("nothing", (Object) null)
+      .append("tags", List.of("a", "b"))
+      .append("nested", Document.newJsonDocument()
+        .append("name", "0utplay")
+        .append("empty", Document.newJsonDocument()));
+  }
+
+  @Test
+  void testRoundTrip() {
+    var document = createTestDocument();
+    var encoded = BinaryDocumentCodec.encode(document);
+    Assertions.assertTrue(BinaryDocumentCodec.isBinary(encoded, encoded.length));
+
+    var decoded = BinaryDocumentCodec.decode(encoded, encoded.length);
+    Assertions.assertEquals(
+      document.serializeToString(StandardSerialisationStyle.COMPACT),
+      decoded.serializeToString(StandardSerialisationStyle.COMPACT));
+
+    // documents which were parsed from json contain lazily parsed numbers
+    var json = document.serializeToString(StandardSerialisationStyle.COMPACT);
+    var encodedParsed = BinaryDocumentCodec.encode(DocumentFactory.json().parse(json));
+    var decodedParsed = BinaryDocumentCodec.decode(encodedParsed, encodedParsed.length);
+    Assertions.assertEquals(json, decodedParsed.serializeToString(StandardSerialisationStyle.COMPACT));
+  }
+
+  @Test
+  void testTopLevelStringRead() {
+    var encoded = BinaryDocumentCodec.encode(createTestDocument());
+
+    Assertions.assertEquals("derklaro", BinaryDocumentCodec.readString(encoded, encoded.length, "name"));
+    Assertions.assertNull(BinaryDocumentCodec.readString(encoded, encoded.length, "age"));
+    Assertions.assertNull(BinaryDocumentCodec.readString(encoded, encoded.length, "nothing"));
+    Assertions.assertNull(BinaryDocumentCodec.readString(encoded, encoded.length, "unknown"));
+  }
+
+  @Test
+  void testJsonIsNotDetectedAsBinary() {
+    var json = createTestDocument().serializeToString(StandardSerialisationStyle.COMPACT)
+      .getBytes(StandardCharsets.UTF_8);
+    Assertions.assertFalse(BinaryDocumentCodec.isBinary(json, json.length));
+    Assertions.assertThrows(DocumentParseException.class, () -> BinaryDocumentCodec.decode(json, json.length));
+  }
+
+  @Test
+  void testTruncatedDocument() {
+    var encoded = BinaryDocumentCodec.encode(createTestDocument());
+    var truncated = Arrays.copyOf(encoded, encoded.length / 2);
+    Assertions.assertThrows(
+      DocumentParseException.class,
+      () -> BinaryDocumentCodec.decode(truncated, truncated.length));
+  }
+}
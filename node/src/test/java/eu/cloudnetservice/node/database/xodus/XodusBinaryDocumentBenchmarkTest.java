@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.xodus;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of reads and unindexed finds of xodus databases storing json documents to databases storing
+ * binary documents. Binary documents are only decoded if their filtered field matches, json documents are always
+ * parsed completely.
+ * <p>
+ * The benchmark takes a while and is therefore only executed if the {@code cloudnet.benchmark} system property is set
+ * to true.
+ */
+@EnabledIfSystemProperty(named = "cloudnet.benchmark", matches = "true")
+public class XodusBinaryDocumentBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(XodusBinaryDocumentBenchmarkTest.class);
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "xodus-benchmark").toAbsolutePath();
+
+  private static final int DOCUMENTS = 20_000;
+  private static final int FIND_ROUNDS = 20;
+
+  private static Map<String, Document> createDocuments() {
+    Map<String, Document> documents = new HashMap<>();
+    for (var index = 0; index < DOCUMENTS; index++) {
+      documents.put(Integer.toString(index), Document.newJsonDocument()
+        .append("name", "player_" + index)
+        .append("group", "group_" + (index % 100))
+        .append("firstLogin", System.currentTimeMillis())
+        .append("properties", Document.newJsonDocument()
+          .append("coins", index)
+          .append("settings", Document.newJsonDocument().append("language", "en_US").append("particles", true))));
+    }
+
+    return documents;
+  }
+
+  private static long[] measure(boolean binaryDocuments, Map<String, Document> documents) throws Exception {
+    var provider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, binaryDocuments);
+    try {
+      provider.init();
+      var database = provider.database("benchmark");
+      database.insertAll(documents);
+
+      var startTime = System.nanoTime();
+      for (var entry : documents.entrySet()) {
+        var document = database.get(entry.getKey());
+        Assertions.assertNotNull(document);
+        Assertions.assertEquals(entry.getValue().getString("name"), document.getString("name"));
+        Assertions.assertEquals(
+          entry.getValue().readDocument("properties").getInt("coins"),
+          document.readDocument("properties").getInt("coins"));
+      }
+      var getsPerSecond = DOCUMENTS * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+
+      startTime = System.nanoTime();
+      for (var round = 0; round < FIND_ROUNDS; round++) {
+        Assertions.assertEquals(DOCUMENTS / 100, database.find("group", "group_" + round).size());
+      }
+      var findsPerSecond = FIND_ROUNDS * TimeUnit.SECONDS.toNanos(1) / (System.nanoTime() - startTime);
+
+      return new long[]{getsPerSecond, findsPerSecond};
+    } finally {
+      provider.close();
+      FileUtil.delete(BASE_DIRECTORY);
+    }
+  }
+
+  @Test
+  void compareJsonAndBinaryDocuments() throws Exception {
+    var documents = createDocuments();
+
+    // warmup both document formats before measuring
+    measure(false, documents);
+    measure(true, documents);
+
+    var json = measure(false, documents);
+    var binary = measure(true, documents);
+    LOGGER.info(
+      "{} documents: json {} gets/s and {} unindexed finds/s, binary {} gets/s and {} unindexed finds/s",
+      DOCUMENTS,
+      json[0],
+      json[1],
+      binary[0],
+      binary[1]);
+  }
+}
@@ -18,11 +18,16 @@
 
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.util.BinaryDocumentCodec;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SequencedMap;
+import java.util.Set;
 import java.util.UUID;
+import jetbrains.exodus.env.StoreConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -131,6 +136,40 @@ void testBasicDatabaseOperations() {
     Assertions.assertFalse(database.delete("1234"));
   }
 
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("a", "1")));
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("a", "1")));
+
+    // declare the index after inserting the first documents to ensure existing entries get indexed
+    Assertions.assertTrue(database.declareIndex("name"));
+    Assertions.assertTrue(database.indexedFields().contains("name"));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro").append("a", "2")));
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("a", "2")));
+
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(1, database.find("name", null).size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "a", "2")).size());
+
+    // updating and removing documents must update the index
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "0utplay")));
+    Assertions.assertTrue(database.delete("3"));
+    Assertions.assertTrue(database.find("name", "derklaro").isEmpty());
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+
+    database.clear();
+    Assertions.assertTrue(database.find("name", "0utplay").isEmpty());
+
+    // the index store must not be visible as a database and must survive a reopen of the environment
+    Assertions.assertEquals(List.of("test"), List.copyOf(this.databaseProvider.databaseNames()));
+    this.databaseProvider.close();
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false);
+    this.databaseProvider.init();
+    Assertions.assertTrue(this.databaseProvider.database("test").indexedFields().contains("name"));
+  }
+
   @Test
   void testChunkedDataRead() {
     var database = this.databaseProvider.database("test");
@@ -165,4 +204,137 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testKeysetChunkedDataRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // fill in some data
+    var entries = 1235;
+    List<String> keys = new ArrayList<>();
+    var expectedReadCounts = (int) Math.ceil(entries / 50D);
+
+    for (var i = 0; i < entries; i++) {
+      var key = UUID.randomUUID().toString();
+
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    var readsCalled = 0;
+    String previousKey = null;
+
+    SequencedMap<String, Document> currentChunk;
+    while (!(currentChunk = database.readChunk(previousKey, 50)).isEmpty()) {
+      readsCalled++;
+      previousKey = currentChunk.lastEntry().getKey();
+
+      Assertions.assertFalse(currentChunk.size() > 50);
+      Assertions.assertTrue(keys.removeAll(currentChunk.keySet()));
+    }
+
+    Assertions.assertEquals(expectedReadCounts, readsCalled);
+    Assertions.assertTrue(keys.isEmpty());
+  }
+
+  @Test
+  void testStreamedIteration() {
+    var database = this.databaseProvider.database("test");
+    for (var i = 0; i < 120; i++) {
+      database.insert(Integer.toString(i), Document.newJsonDocument().append("index", i));
+    }
+
+    // 120 entries read in chunks of 50 must result in all entries being visited exactly once
+    var keys = database.stream(50).map(Map.Entry::getKey).toList();
+    Assertions.assertEquals(120, keys.size());
+    Assertions.assertEquals(120, Set.copyOf(keys).size());
+
+    var iterator = database.iterator(200);
+    for (var i = 0; i < 120; i++) {
+      Assertions.assertTrue(iterator.hasNext());
+      Assertions.assertNotNull(iterator.next().getValue());
+    }
+    Assertions.assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testBatchOperations() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertTrue(database.declareIndex("name"));
+
+    Map<String, Document> entries = new HashMap<>();
+    for (var i = 0; i < 100; i++) {
+      entries.put(Integer.toString(i), Document.newJsonDocument().append("name", i % 2 == 0 ? "even" : "odd"));
+    }
+
+    Assertions.assertTrue(database.insertAll(entries));
+    Assertions.assertEquals(100, database.documentCount());
+    Assertions.assertEquals(50, database.find("name", "even").size());
+
+    Assertions.assertEquals(2, database.deleteAll(List.of("0", "1", "unknown")));
+    Assertions.assertEquals(98, database.documentCount());
+    Assertions.assertEquals(49, database.find("name", "odd").size());
+  }
+
+  @Test
+  void testDocumentFormatConversion() throws Exception {
+    var database = this.databaseProvider.database("test");
+    database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("age", 20));
+    database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("scores", List.of(1, 2.5)));
+
+    // reopening with binary documents enabled must convert the existing json documents
+    this.databaseProvider.close();
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, true);
+    this.databaseProvider.init();
+
+    database = this.databaseProvider.database("test");
+    Assertions.assertEquals(2, database.documentCount());
+    Assertions.assertEquals(20, database.get("1").getInt("age"));
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro")).size());
+
+    database.insert("3", Document.newJsonDocument().append("name", "derklaro"));
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+
+    // switching back must convert the binary documents to json again
+    this.databaseProvider.close();
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, false);
+    this.databaseProvider.init();
+
+    database = this.databaseProvider.database("test");
+    Assertions.assertEquals(3, database.documentCount());
+    Assertions.assertEquals("0utplay", database.get("2").getString("name"));
+  }
+
+  @Test
+  void testDocumentFormatConversionInChunks() throws Exception {
+    var documents = XodusDatabaseProvider.CONVERSION_CHUNK_SIZE * 2 + 1;
+    var database = this.databaseProvider.database("test");
+    for (var index = 0; index < documents; index++) {
+      database.insert(Integer.toString(index), Document.newJsonDocument().append("index", index));
+    }
+
+    this.databaseProvider.close();
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false, true);
+    this.databaseProvider.init();
+
+    // all chunks must be converted, including the last incomplete one
+    var environment = this.databaseProvider.environment;
+    environment.executeInTransaction(txn -> {
+      var store = environment.openStore("test", StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
+      try (var cursor = store.openCursor(txn)) {
+        var converted = 0;
+        while (cursor.getNext()) {
+          var value = cursor.getValue();
+          Assertions.assertTrue(BinaryDocumentCodec.isBinary(value.getBytesUnsafe(), value.getLength()));
+          converted++;
+        }
+        Assertions.assertEquals(documents, converted);
+      }
+    });
+
+    database = this.databaseProvider.database("test");
+    Assertions.assertEquals(documents - 1, database.get(Integer.toString(documents - 1)).getInt("index"));
+  }
 }
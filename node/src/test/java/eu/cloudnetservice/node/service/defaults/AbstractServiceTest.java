@@ -0,0 +1,223 @@
+/*
+ * Copyright 2019-2024 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import dev.derklaro.aerogel.binding.BindingBuilder;
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
+import eu.cloudnetservice.driver.service.ServiceRemoteInclusion;
+import eu.cloudnetservice.driver.service.ServiceTemplate;
+import eu.cloudnetservice.driver.template.TemplateStorage;
+import eu.cloudnetservice.driver.template.TemplateStorageProvider;
+import eu.cloudnetservice.node.TickLoop;
+import eu.cloudnetservice.node.config.Configuration;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import eu.cloudnetservice.node.service.ServiceConfigurationPreparer;
+import eu.cloudnetservice.node.template.LocalTemplateStorage;
+import eu.cloudnetservice.node.version.ServiceVersionProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class AbstractServiceTest {
+
+  private static final Path TEMP_DIRECTORY = Path.of("build", "tmp", "abstract_service");
+  private static final AtomicInteger RUNNING_PULLS = new AtomicInteger();
+  private static final Queue<Path> PULL_DIRECTORIES = new ConcurrentLinkedQueue<>();
+
+  private static final TemplateStorage LOCAL_STORAGE = mockStorage(LocalTemplateStorage.LOCAL_TEMPLATE_STORAGE, 0);
+  private static final TemplateStorage SLOW_STORAGE = mockStorage("slow", 200);
+  private static final TemplateStorage FAST_STORAGE = mockStorage("fast", 0);
+
+  @BeforeAll
+  static void setupStorageProvider() {
+    var storageProvider = Mockito.mock(TemplateStorageProvider.class);
+    Mockito.when(storageProvider.templateStorage(LOCAL_STORAGE.name())).thenReturn(LOCAL_STORAGE);
+    Mockito.when(storageProvider.templateStorage(SLOW_STORAGE.name())).thenReturn(SLOW_STORAGE);
+    Mockito.when(storageProvider.templateStorage(FAST_STORAGE.name())).thenReturn(FAST_STORAGE);
+    InjectionLayer.boot().install(BindingBuilder.create()
+      .bind(TemplateStorageProvider.class)
+      .toInstance(storageProvider));
+  }
+
+  @AfterEach
+  void deleteServiceDirectory() {
+    FileUtil.delete(TEMP_DIRECTORY);
+    PULL_DIRECTORIES.clear();
+  }
+
+  private static TemplateStorage mockStorage(String name, long pullDelayMillis) {
+    var storage = Mockito.mock(TemplateStorage.class);
+    Mockito.when(storage.name()).thenReturn(name);
+    Mockito.when(storage.pull(Mockito.any(), Mockito.any())).then(invocation -> {
+      RUNNING_PULLS.incrementAndGet();
+      try {
+        // each template writes its name into the same file, the file content shows which template was installed last
+        Thread.sleep(pullDelayMillis);
+        ServiceTemplate template = invocation.getArgument(0);
+        Path directory = invocation.getArgument(1);
+        PULL_DIRECTORIES.add(directory);
+        FileUtil.createDirectory(directory);
+        Files.writeString(directory.resolve("template.txt"), template.name());
+        return true;
+      } finally {
+        RUNNING_PULLS.decrementAndGet();
+      }
+    });
+    return storage;
+  }
+
+  private static AbstractService mockService() {
+    var eventManager = Mockito.mock(EventManager.class);
+    Mockito.when(eventManager.callEvent(Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+    var serviceManager = Mockito.mock(CloudServiceManager.class);
+    Mockito.when(serviceManager.tempDirectory()).thenReturn(TEMP_DIRECTORY);
+
+    var serviceConfiguration = ServiceConfiguration.builder()
+      .taskName("Lobby")
+      .taskId(1)
+      .hostAddress("127.0.0.1")
+      .environment(ServiceEnvironmentType.MINECRAFT_SERVER)
+      .build();
+    return Mockito.mock(AbstractService.class, Mockito.withSettings()
+      .useConstructor(
+        Mockito.mock(TickLoop.class),
+        Mockito.mock(Configuration.class),
+        serviceConfiguration,
+        serviceManager,
+        eventManager,
+        Mockito.mock(ServiceVersionProvider.class),
+        Mockito.mock(ServiceConfigurationPreparer.class))
+      .defaultAnswer(Mockito.CALLS_REAL_METHODS));
+  }
+
+  private static ServiceTemplate template(String name, String storage, int priority) {
+    return ServiceTemplate.builder().prefix("test").name(name).storage(storage).priority(priority).build();
+  }
+
+  @Test
+  void testTemplatesAreInstalledInPriorityOrder() throws IOException {
+    var service = mockService();
+    // the slow template finishes its download last, but has to be overwritten by all other templates
+    service.addServiceTemplate(template("fast", "fast", 3));
+    service.addServiceTemplate(template("slow", "slow", 1));
+    service.addServiceTemplate(template("local", LocalTemplateStorage.LOCAL_TEMPLATE_STORAGE, 2));
+    service.includeWaitingServiceTemplates();
+
+    Assertions.assertEquals(3, service.installedTemplates().size());
+    Assertions.assertEquals("fast", Files.readString(service.directory().resolve("template.txt")));
+  }
+
+  @Test
+  void testInclusionDownloadsAreBounded() throws IOException {
+    var service = mockService();
+    var runningDownloads = new AtomicInteger();
+    var maxRunningDownloads = new AtomicInteger();
+    Mockito.doAnswer(invocation -> {
+      var running = runningDownloads.incrementAndGet();
+      maxRunningDownloads.accumulateAndGet(running, Math::max);
+      try {
+        Thread.sleep(50);
+        ServiceRemoteInclusion inclusion = invocation.getArgument(0);
+        var download = FileUtil.createTempFile();
+        Files.writeString(download, inclusion.url());
+        return download;
+      } finally {
+        runningDownloads.decrementAndGet();
+      }
+    }).when(service).stageInclusion(Mockito.any());
+
+    var inclusionCount = AbstractService.MAX_CONCURRENT_INCLUSION_DOWNLOADS * 3;
+    for (var index = 0; index < inclusionCount; index++) {
+      service.addServiceRemoteInclusion(ServiceRemoteInclusion.builder()
+        .url("https://example.com/" + index)
+        .destination("inclusion.txt")
+        .build());
+    }
+    service.includeWaitingServiceInclusions();
+
+    Assertions.assertEquals(inclusionCount, service.installedInclusions().size());
+    Assertions.assertTrue(maxRunningDownloads.get() > 1);
+    Assertions.assertTrue(maxRunningDownloads.get() <= AbstractService.MAX_CONCURRENT_INCLUSION_DOWNLOADS);
+    // the inclusions are installed in the order they were added, the last inclusion overwrites all others
+    Assertions.assertEquals(
+      "https://example.com/" + (inclusionCount - 1),
+      Files.readString(service.directory().resolve("inclusion.txt")));
+  }
+
+  @Test
+  void testInclusionsAndTemplatesAreStagedTogether() throws IOException {
+    var service = mockService();
+    var overlappingPull = new AtomicBoolean();
+    Mockito.doAnswer(invocation -> {
+      // the template pull has to start while the inclusion is still downloading
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+      while (RUNNING_PULLS.get() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      overlappingPull.set(RUNNING_PULLS.get() > 0);
+
+      ServiceRemoteInclusion inclusion = invocation.getArgument(0);
+      var download = FileUtil.createTempFile();
+      Files.writeString(download, inclusion.url());
+      return download;
+    }).when(service).stageInclusion(Mockito.any());
+
+    service.addServiceTemplate(template("slow", "slow", 1));
+    service.addServiceRemoteInclusion(ServiceRemoteInclusion.builder()
+      .url("https://example.com/template.txt")
+      .destination("template.txt")
+      .build());
+    service.includeWaitingServiceResources(true);
+
+    Assertions.assertTrue(overlappingPull.get());
+    Assertions.assertEquals(1, service.installedTemplates().size());
+    Assertions.assertEquals(1, service.installedInclusions().size());
+    // inclusions are installed before the templates, the template overwrites the inclusion
+    Assertions.assertEquals("slow", Files.readString(service.directory().resolve("template.txt")));
+  }
+
+  @Test
+  void testDuplicateTemplatesAreStagedSeparately() throws IOException {
+    var service = mockService();
+    var template = template("slow", "slow", 1);
+    service.addServiceTemplate(template);
+    service.addServiceTemplate(template);
+    service.includeWaitingServiceTemplates();
+
+    Assertions.assertEquals(1, service.installedTemplates().size());
+    Assertions.assertEquals("slow", Files.readString(service.directory().resolve("template.txt")));
+    // each pull used its own staging directory, all of them were removed
+    Assertions.assertEquals(2, Set.copyOf(PULL_DIRECTORIES).size());
+    Assertions.assertTrue(PULL_DIRECTORIES.stream().noneMatch(Files::exists));
+  }
+}
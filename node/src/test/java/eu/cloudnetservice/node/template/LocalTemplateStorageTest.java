@@ -21,7 +21,10 @@
 import eu.cloudnetservice.driver.template.FileInfo;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -183,11 +186,131 @@ void testTemplateListing() {
     Assertions.assertEquals(TEMPLATE, templates.iterator().next());
   }
 
+  @Test
+  @Order(105)
+  void testCopyOnWritePull() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var copyOnWriteStorage = new LocalTemplateStorage(HOME_PATH, TemplateMaterialisationMode.COPY_ON_WRITE);
+    try (var stream = copyOnWriteStorage.newOutputStream(TEMPLATE, "plugins/test.jar")) {
+      Assertions.assertNotNull(stream);
+      stream.write("Jar".getBytes(StandardCharsets.UTF_8));
+    }
+
+    try {
+      Assertions.assertTrue(copyOnWriteStorage.pull(TEMPLATE, serviceDirectory));
+      Assertions.assertTrue(copyOnWriteStorage.pull(TEMPLATE, serviceDirectory));
+
+      var templateDirectory = HOME_PATH.resolve(TEMPLATE.prefix()).resolve(TEMPLATE.name());
+      Assertions.assertFalse(Files.isSameFile(
+        templateDirectory.resolve("plugins/test.jar"),
+        serviceDirectory.resolve("plugins/test.jar")));
+      Assertions.assertEquals("Jar", Files.readString(serviceDirectory.resolve("plugins/test.jar")));
+      Assertions.assertEquals("HelloWorld", Files.readString(serviceDirectory.resolve("test.txt")));
+      Assertions.assertEquals("Hello", Files.readString(serviceDirectory.resolve("test/test.txt")));
+
+      // files are not shared with the template, not even jar files which are written in place
+      Files.writeString(serviceDirectory.resolve("test.txt"), "Changed");
+      Assertions.assertEquals("HelloWorld", Files.readString(templateDirectory.resolve("test.txt")));
+      try (var stream = Files.newOutputStream(serviceDirectory.resolve("plugins/test.jar"))) {
+        stream.write("Changed".getBytes(StandardCharsets.UTF_8));
+      }
+      Assertions.assertEquals("Jar", Files.readString(templateDirectory.resolve("plugins/test.jar")));
+
+      // the template file is written in place as well, the pulled file must not change
+      try (var stream = copyOnWriteStorage.newOutputStream(TEMPLATE, "plugins/test.jar")) {
+        Assertions.assertNotNull(stream);
+        stream.write("Updated".getBytes(StandardCharsets.UTF_8));
+      }
+      Assertions.assertEquals("Changed", Files.readString(serviceDirectory.resolve("plugins/test.jar")));
+    } finally {
+      copyOnWriteStorage.deleteFile(TEMPLATE, "plugins/test.jar");
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(107)
+  void testIncrementalPull() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var templateDirectory = HOME_PATH.resolve(TEMPLATE.prefix()).resolve(TEMPLATE.name());
+    try {
+      Assertions.assertTrue(storage.pull(TEMPLATE, serviceDirectory));
+      Assertions.assertEquals("Hello", Files.readString(serviceDirectory.resolve("test/test.txt")));
+      Files.writeString(serviceDirectory.resolve("world.dat"), "World");
+
+      // files with an unchanged size and modification time are not hashed again and therefore not pulled again
+      var templateFile = templateDirectory.resolve("test/test.txt");
+      var lastModified = Files.getLastModifiedTime(templateFile);
+      Files.writeString(templateFile, "Hallo");
+      Files.setLastModifiedTime(templateFile, lastModified);
+
+      // removed template files are removed from the directory, new files are added
+      Assertions.assertTrue(storage.createFile(TEMPLATE, "new.txt"));
+      Assertions.assertTrue(storage.deleteFile(TEMPLATE, "test.txt"));
+
+      Assertions.assertTrue(storage.pull(TEMPLATE, serviceDirectory));
+      Assertions.assertEquals("Hello", Files.readString(serviceDirectory.resolve("test/test.txt")));
+      Assertions.assertTrue(Files.exists(serviceDirectory.resolve("new.txt")));
+      Assertions.assertFalse(Files.exists(serviceDirectory.resolve("test.txt")));
+      Assertions.assertEquals("World", Files.readString(serviceDirectory.resolve("world.dat")));
+    } finally {
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(108)
+  void testPulledManifestsAreExcluded() throws IOException {
+    var serviceDirectory = Path.of("build", "tmp", "local_ts_service");
+    var deployTarget = ServiceTemplate.builder().prefix("global").name("deployed").storage("local").build();
+    var templateDirectory = HOME_PATH.resolve(TEMPLATE.prefix()).resolve(TEMPLATE.name());
+    try {
+      Assertions.assertTrue(storage.pull(TEMPLATE, serviceDirectory));
+      Assertions.assertTrue(Files.exists(serviceDirectory.resolve(LocalTemplateStorage.PULLED_MANIFEST_DIRECTORY)));
+
+      // the manifests of the pull are not deployed into the template
+      Assertions.assertTrue(storage.deployDirectory(deployTarget, serviceDirectory));
+      Assertions.assertTrue(storage.hasFile(deployTarget, "test/test.txt"));
+      Assertions.assertFalse(storage.hasFile(deployTarget, ".wrapper"));
+
+      // manifests which made it into a template are not zipped either
+      FileUtil.copyDirectory(serviceDirectory.resolve(".wrapper"), templateDirectory.resolve(".wrapper"));
+      try (var stream = new ZipInputStream(storage.zipTemplate(TEMPLATE))) {
+        for (var entry = stream.getNextEntry(); entry != null; entry = stream.getNextEntry()) {
+          Assertions.assertFalse(entry.getName().startsWith(".wrapper"), entry.getName());
+        }
+      }
+    } finally {
+      storage.delete(deployTarget);
+      FileUtil.delete(templateDirectory.resolve(".wrapper"));
+      FileUtil.delete(serviceDirectory);
+    }
+  }
+
+  @Test
+  @Order(109)
+  void testManifestIsPersisted() {
+    var manifest = storage.manifest(TEMPLATE);
+    var manifestPath = storage.manifestPath(TEMPLATE);
+    Assertions.assertTrue(Files.exists(manifestPath));
+    Assertions.assertEquals(manifest, TemplateManifest.read(manifestPath));
+    Assertions.assertTrue(storage.templates().stream().allMatch(template -> Files.isDirectory(
+      HOME_PATH.resolve(template.prefix()).resolve(template.name()))));
+
+    // a new storage takes the hashes of unchanged files from the persisted manifest instead of hashing them again
+    var entry = manifest.entries().entrySet().iterator().next();
+    var persistedEntry = new TemplateManifest.Entry(entry.getValue().size(), entry.getValue().lastModified(), "hash");
+    new TemplateManifest(Map.of(entry.getKey(), persistedEntry)).write(manifestPath);
+    var restartedStorage = new LocalTemplateStorage(HOME_PATH);
+    Assertions.assertEquals("hash", restartedStorage.manifest(TEMPLATE).entries().get(entry.getKey()).hash());
+  }
+
   @Test
   @Order(110)
   void testTemplateDelete() {
     Assertions.assertTrue(storage.delete(TEMPLATE));
     Assertions.assertFalse(storage.contains(TEMPLATE));
     Assertions.assertFalse(storage.hasFile(TEMPLATE, "test.txt"));
+    Assertions.assertFalse(Files.exists(storage.manifestPath(TEMPLATE)));
   }
 }
@@ -25,6 +25,7 @@
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import jakarta.inject.Inject;
 import lombok.NonNull;
@@ -52,7 +53,9 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
       PacketClientAuthorization.PacketAuthorizationType.WRAPPER_TO_NODE,
       DataBuf.empty()
         .writeString(this.wrapperConfiguration.connectionKey())
-        .writeObject(this.wrapperConfiguration.serviceConfiguration().serviceId())));
+        .writeObject(this.wrapperConfiguration.serviceConfiguration().serviceId())
+        .writeBoolean(channel.compressionSupported())
+        .writeBoolean(RPCMethodIdTable.of(channel).supported())));
   }
 
   @Override
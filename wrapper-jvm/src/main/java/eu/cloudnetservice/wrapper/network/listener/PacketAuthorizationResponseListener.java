@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodIdTable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import lombok.NonNull;
@@ -43,6 +44,16 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
     content.readBoolean();
     content.readBoolean();
 
+    // the node agreed to receive compressed frames, the flag is not sent by older nodes
+    if (content.accessible() && content.readableBytes() > 0 && content.readBoolean()) {
+      channel.enableCompression();
+    }
+
+    // the node agreed to read rpc method ids, the flag is not sent by older nodes
+    if (content.accessible() && content.readableBytes() > 0 && content.readBoolean()) {
+      RPCMethodIdTable.of(channel).enable();
+    }
+
     // signal all listeners waiting for the auth
     LockSupport.unpark(this.blockedThread);
   }